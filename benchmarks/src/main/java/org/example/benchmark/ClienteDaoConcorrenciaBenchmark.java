@@ -0,0 +1,109 @@
+package org.example.benchmark;
+
+import org.example.dao.ClienteDao;
+import org.example.dao.ClienteDaoConcorrenteImpl;
+import org.example.dao.ClienteDaoImpl;
+import org.example.model.Cliente;
+import org.example.model.Endereco;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de vazão multi-thread do ClienteDao.
+ * Compara o ClienteDaoImpl atual (protegido por um lock global, única forma segura de usá-lo
+ * com várias threads) com o ClienteDaoConcorrenteImpl.
+ *
+ * O grupo "misto" executa 6 threads de leitura e 2 de escrita simultaneamente; o grupo
+ * "retrato" mede o custo de listarClientes() com escritores ativos.
+ *
+ * @since 1.1
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class ClienteDaoConcorrenciaBenchmark {
+
+    @Param({"sincronizado", "concorrente"})
+    public String implementacao;
+
+    @Param({"100000"})
+    public int tamanho;
+
+    private ClienteDao dao;
+    private String[] cpfs;
+    private Cliente[] clientes;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dao = "concorrente".equals(implementacao)
+                ? new ClienteDaoConcorrenteImpl()
+                : new ClienteDaoSincronizado(new ClienteDaoImpl());
+        Endereco endereco = new Endereco("Rua das Flores", 123, "12345-678", "Centro", "São Paulo", "SP");
+        cpfs = new String[tamanho];
+        clientes = new Cliente[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            cpfs[i] = String.format("%011d", i);
+            clientes[i] = new Cliente(cpfs[i], "Cliente " + i, endereco, "11999999999", "cliente" + i + "@email.com", 'F');
+            dao.adicionarCliente(clientes[i]);
+        }
+    }
+
+    private int indiceAleatorio() {
+        return ThreadLocalRandom.current().nextInt(tamanho);
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(6)
+    public Cliente leitura() {
+        return dao.buscarClientePorCpf(cpfs[indiceAleatorio()]);
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(2)
+    public void escrita() {
+        int i = indiceAleatorio();
+        if ((i & 1) == 0) {
+            dao.atualizarCliente(clientes[i]);
+        } else {
+            dao.removerCliente(cpfs[i]);
+            dao.adicionarCliente(clientes[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("retrato")
+    @GroupThreads(1)
+    public Map<String, Cliente> listar() {
+        return dao.listarClientes();
+    }
+
+    @Benchmark
+    @Group("retrato")
+    @GroupThreads(3)
+    public void escritaDuranteListagem() {
+        int i = indiceAleatorio();
+        dao.atualizarCliente(clientes[i]);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.benchmark;
+
+import org.example.dao.ClienteDao;
+import org.example.dao.IndiceSinistrosCliente;
+import org.example.dao.Pagina;
+import org.example.model.Cliente;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decorador que serializa todas as chamadas a um ClienteDao com um único lock.
+ * É a forma mínima de usar ClienteDaoImpl com várias threads sem corromper o HashMap,
+ * servindo de linha de base nos benchmarks concorrentes.
+ *
+ * @since 1.1
+ * @version 1.3
+ */
+public class ClienteDaoSincronizado implements ClienteDao {
+
+    private final ClienteDao delegado;
+
+    /**
+     * Cria o decorador sobre o DAO informado.
+     *
+     * @param delegado O DAO não thread-safe a ser protegido.
+     */
+    public ClienteDaoSincronizado(ClienteDao delegado) {
+        this.delegado = delegado;
+    }
+
+    @Override
+    public synchronized void adicionarCliente(Cliente cliente) {
+        delegado.adicionarCliente(cliente);
+    }
+
+    @Override
+    public synchronized void adicionarClientes(Collection<Cliente> clientes) {
+        delegado.adicionarClientes(clientes);
+    }
+
+    @Override
+    public synchronized Cliente buscarClientePorCpf(String cpf) {
+        return delegado.buscarClientePorCpf(cpf);
+    }
+
+    @Override
+    public synchronized Map<String, Cliente> listarClientes() {
+        return new HashMap<>(delegado.listarClientes());  // Cópia feita sob o lock
+    }
+
+    @Override
+    public synchronized Pagina<Cliente> listarClientes(String cursor, int tamanho) {
+        return delegado.listarClientes(cursor, tamanho);
+    }
+
+    @Override
+    public synchronized void atualizarCliente(Cliente cliente) {
+        delegado.atualizarCliente(cliente);
+    }
+
+    @Override
+    public synchronized void removerCliente(String cpf) {
+        delegado.removerCliente(cpf);
+    }
+
+    @Override
+    public synchronized boolean verificarSinistros(String cpf) {
+        return delegado.verificarSinistros(cpf);
+    }
+
+    @Override
+    public IndiceSinistrosCliente getIndiceSinistros() {
+        return delegado.getIndiceSinistros();  // O índice é thread-safe: não precisa do lock
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.benchmark;
+
+import org.example.benchmark.dao.DadosSinteticos;
+import org.example.codec.CodecBinario;
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+import org.example.model.Veiculo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do CodecBinario: vazão de codificação e decodificação, em entidades por segundo, de um
+ * conjunto com a mesma quantidade de clientes, veículos, apólices, seguros e sinistros, gravado em
+ * buffer de heap ou direto. Os bytes por entidade de cada tipo são impressos na preparação.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBinarioBenchmark {
+
+    private static final int QUANTIDADE = 10_000;
+    private static final int ENTIDADES = QUANTIDADE * 5;
+
+    @Param({"heap", "direto"})
+    public String tipoBuffer;
+
+    private Cliente[] clientes;
+    private Veiculo[] veiculos;
+    private Apolice[] apolices;
+    private Seguro[] seguros;
+    private Sinistro[] sinistros;
+    private ByteBuffer buffer;
+    private ByteBuffer codificado;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        clientes = new Cliente[QUANTIDADE];
+        veiculos = new Veiculo[QUANTIDADE];
+        apolices = new Apolice[QUANTIDADE];
+        seguros = new Seguro[QUANTIDADE];
+        sinistros = new Sinistro[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            clientes[i] = DadosSinteticos.cliente(i);
+            clientes[i].setDataNascimento(DadosSinteticos.data(i).minusYears(30));
+            veiculos[i] = DadosSinteticos.veiculo(i);
+            apolices[i] = DadosSinteticos.apolice(i);
+            seguros[i] = DadosSinteticos.seguro(i);
+            sinistros[i] = DadosSinteticos.sinistro(i);
+        }
+        buffer = tipoBuffer.equals("direto") ? ByteBuffer.allocateDirect(16 << 20) : ByteBuffer.allocate(16 << 20);
+
+        // Bytes por entidade de cada tipo, medidos em uma codificação completa
+        CodecBinario codec = new CodecBinario();
+        buffer.clear();
+        int inicio = buffer.position();
+        for (Cliente cliente : clientes) {
+            codec.codificar(cliente, buffer);
+        }
+        int aposClientes = buffer.position();
+        for (Veiculo veiculo : veiculos) {
+            codec.codificar(veiculo, buffer);
+        }
+        int aposVeiculos = buffer.position();
+        for (Apolice apolice : apolices) {
+            codec.codificar(apolice, buffer);
+        }
+        int aposApolices = buffer.position();
+        for (Seguro seguro : seguros) {
+            codec.codificar(seguro, buffer);
+        }
+        int aposSeguros = buffer.position();
+        for (Sinistro sinistro : sinistros) {
+            codec.codificar(sinistro, buffer);
+        }
+        int fim = buffer.position();
+        System.out.printf("%nBytes/entidade: cliente %.1f, veículo %.1f, apólice %.1f, seguro %.1f, sinistro %.1f (total %,d bytes)%n",
+                (aposClientes - inicio) / (double) QUANTIDADE, (aposVeiculos - aposClientes) / (double) QUANTIDADE,
+                (aposApolices - aposVeiculos) / (double) QUANTIDADE, (aposSeguros - aposApolices) / (double) QUANTIDADE,
+                (fim - aposSeguros) / (double) QUANTIDADE, fim - inicio);
+        codificado = buffer.duplicate().flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTIDADES)
+    public int codificar() {
+        CodecBinario codec = new CodecBinario();
+        buffer.clear();
+        for (Cliente cliente : clientes) {
+            codec.codificar(cliente, buffer);
+        }
+        for (Veiculo veiculo : veiculos) {
+            codec.codificar(veiculo, buffer);
+        }
+        for (Apolice apolice : apolices) {
+            codec.codificar(apolice, buffer);
+        }
+        for (Seguro seguro : seguros) {
+            codec.codificar(seguro, buffer);
+        }
+        for (Sinistro sinistro : sinistros) {
+            codec.codificar(sinistro, buffer);
+        }
+        return buffer.position();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTIDADES)
+    public void decodificar(Blackhole bh) {
+        CodecBinario codec = new CodecBinario();
+        ByteBuffer origem = codificado.duplicate();
+        for (int i = 0; i < QUANTIDADE; i++) {
+            bh.consume(codec.decodificarCliente(origem));
+        }
+        for (int i = 0; i < QUANTIDADE; i++) {
+            bh.consume(codec.decodificarVeiculo(origem));
+        }
+        for (int i = 0; i < QUANTIDADE; i++) {
+            bh.consume(codec.decodificarApolice(origem));
+        }
+        for (int i = 0; i < QUANTIDADE; i++) {
+            bh.consume(codec.decodificarSeguro(origem));
+        }
+        for (int i = 0; i < QUANTIDADE; i++) {
+            bh.consume(codec.decodificarSinistro(origem));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.benchmark;
+
+import org.example.benchmark.dao.DadosSinteticos;
+import org.example.dao.ApoliceDaoImpl;
+import org.example.dao.ClienteDaoImpl;
+import org.example.dao.IndiceSinistrosCliente;
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.service.ApoliceService;
+import org.example.service.ApoliceServiceImpl;
+import org.example.service.ClienteServiceImpl;
+import org.example.tempo.RelogioFixo;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Gerador de carga sintética para as cotações: clientes concorrentes em threads virtuais, cada um
+ * em laço fechado (envia uma cotação, espera a resposta, envia a próxima), medindo vazão e
+ * latência (p50, p99, p99,9) de calcularValor síncrono e de calcularValorAsync com o tamanho de
+ * lote e a espera máxima informados.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmark.CotacaoAssincronaCargaMain sincrono 1000 10
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmark.CotacaoAssincronaCargaMain assincrono 1000 10 256 2
+ * </pre>
+ * Argumentos: modo, clientes concorrentes, segundos de medição, tamanho do lote e espera máxima em
+ * milissegundos (os dois últimos apenas no modo assíncrono). Antes da medição há um aquecimento de
+ * um terço da duração.
+ *
+ * @since 1.2
+ * @version 1.2
+ */
+public class CotacaoAssincronaCargaMain {
+
+    private static final int APOLICES = 100_000;
+    private static final int MAXIMO_AMOSTRAS_POR_CLIENTE = 1 << 20;
+
+    public static void main(String[] args) throws InterruptedException {
+        String modo = args.length > 0 ? args[0] : "assincrono";
+        int clientes = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int tamanhoLote = args.length > 3 ? Integer.parseInt(args[3]) : 256;
+        int esperaMs = args.length > 4 ? Integer.parseInt(args[4]) : 2;
+        if (!modo.equals("sincrono") && !modo.equals("assincrono")) {
+            throw new IllegalArgumentException("Modo deve ser 'sincrono' ou 'assincrono': " + modo);
+        }
+
+        IndiceSinistrosCliente indice = new IndiceSinistrosCliente();
+        ClienteDaoImpl clienteDao = new ClienteDaoImpl(indice);
+        try (ApoliceServiceImpl servico = new ApoliceServiceImpl(new ApoliceDaoImpl(), new ClienteServiceImpl(clienteDao, ClienteServiceImpl.CAPACIDADE_CACHE_PADRAO),
+                new RelogioFixo(LocalDate.of(2025, 1, 1)), tamanhoLote, Duration.ofMillis(esperaMs))) {
+            executarCarga(servico, modo, clientes, segundos, tamanhoLote, esperaMs, clienteDao, indice);
+        }
+    }
+
+    private static void executarCarga(ApoliceService servico, String modo, int clientes, int segundos, int tamanhoLote,
+                                      int esperaMs, ClienteDaoImpl clienteDao, IndiceSinistrosCliente indice)
+            throws InterruptedException {
+        Apolice[] apolices = new Apolice[APOLICES];
+        List<Cliente> cadastrados = new ArrayList<>();
+        for (int i = 0; i < APOLICES / 4; i++) {
+            Cliente cliente = DadosSinteticos.cliente(i);
+            clienteDao.adicionarCliente(cliente);
+            cadastrados.add(cliente);
+            if (i % 5 == 0) {
+                indice.registrar(DadosSinteticos.sinistro(i));
+            }
+        }
+        for (int i = 0; i < APOLICES; i++) {
+            apolices[i] = DadosSinteticos.apolice(i);
+            apolices[i].setCliente(cadastrados.get(i % cadastrados.size()));
+        }
+        boolean assincrono = modo.equals("assincrono");
+
+        executar(servico, apolices, assincrono, clientes, Duration.ofSeconds(Math.max(1, segundos / 3)));  // Aquecimento
+        long[][] amostras = new long[clientes][];
+        int[] quantidades = new int[clientes];
+        long inicio = System.nanoTime();
+        long total = executar(servico, apolices, assincrono, clientes, Duration.ofSeconds(segundos), amostras, quantidades);
+        double decorridos = (System.nanoTime() - inicio) / 1e9;
+
+        int n = 0;
+        for (int q : quantidades) {
+            n += q;
+        }
+        long[] latencias = new long[n];
+        int pos = 0;
+        for (int c = 0; c < clientes; c++) {
+            System.arraycopy(amostras[c], 0, latencias, pos, quantidades[c]);
+            pos += quantidades[c];
+        }
+        Arrays.sort(latencias);
+        System.out.printf("%s (clientes=%d%s): %,d cotações em %.1f s = %,.0f cotações/s; latência p50=%.1f µs p99=%.1f µs p99,9=%.1f µs%n",
+                modo, clientes, assincrono ? ", lote=" + tamanhoLote + ", espera=" + esperaMs + " ms" : "",
+                total, decorridos, total / decorridos,
+                percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 0.999));
+    }
+
+    private static long executar(ApoliceService servico, Apolice[] apolices, boolean assincrono, int clientes,
+                                 Duration duracao) throws InterruptedException {
+        return executar(servico, apolices, assincrono, clientes, duracao, new long[clientes][], new int[clientes]);
+    }
+
+    private static long executar(ApoliceService servico, Apolice[] apolices, boolean assincrono, int clientes,
+                                 Duration duracao, long[][] amostras, int[] quantidades) throws InterruptedException {
+        long fim = System.nanoTime() + duracao.toNanos();
+        long[] contagens = new long[clientes];
+        Thread[] threads = new Thread[clientes];
+        for (int c = 0; c < clientes; c++) {
+            int cliente = c;
+            amostras[c] = new long[1024];
+            threads[c] = Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                long[] minhas = amostras[cliente];
+                int quantidade = 0;
+                long contagem = 0;
+                double soma = 0;
+                long agora;
+                while ((agora = System.nanoTime()) < fim) {
+                    Apolice apolice = apolices[aleatorio.nextInt(apolices.length)];
+                    soma += assincrono ? servico.calcularValorAsync(apolice).join() : servico.calcularValor(apolice);
+                    long latencia = System.nanoTime() - agora;
+                    if (quantidade < MAXIMO_AMOSTRAS_POR_CLIENTE) {
+                        if (quantidade == minhas.length) {
+                            minhas = Arrays.copyOf(minhas, minhas.length * 2);
+                        }
+                        minhas[quantidade++] = latencia;
+                    }
+                    contagem++;
+                }
+                amostras[cliente] = minhas;
+                quantidades[cliente] = quantidade;
+                contagens[cliente] = soma < 0 ? -contagem : contagem;  // Usa a soma para evitar eliminação
+            });
+        }
+        long total = 0;
+        for (int c = 0; c < clientes; c++) {
+            threads[c].join();
+            total += contagens[c];
+        }
+        return total;
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int i = (int) Math.min(ordenadas.length - 1, Math.ceil(p * ordenadas.length) - 1);
+        return ordenadas[Math.max(0, i)] / 1000.0;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.benchmark;
+
+import org.example.benchmark.dao.DadosSinteticos;
+import org.example.factory.VeiculoFactory;
+import org.example.model.Cor;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+
+/**
+ * Compara o consumo de heap da representação anterior dos veículos (classes anônimas) com a
+ * VeiculoCompacto criada pela VeiculoFactory.
+ *
+ * Marca, modelo e combustível de cada veículo são instâncias de String distintas, como ao serem
+ * lidas de um arquivo ou banco de dados. Cada execução mede uma representação; execute uma JVM por
+ * representação, com heap suficiente e, de preferência, -XX:+UseSerialGC para medições estáveis:
+ * <pre>
+ * java -Xmx8g -XX:+UseSerialGC -cp benchmarks/target/benchmarks.jar org.example.benchmark.PegadaVeiculosMain legado 10000000
+ * java -Xmx8g -XX:+UseSerialGC -cp benchmarks/target/benchmarks.jar org.example.benchmark.PegadaVeiculosMain compacto 10000000
+ * </pre>
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class PegadaVeiculosMain {
+
+    private static final String[] MARCAS = {"Toyota", "Volkswagen", "Fiat", "Chevrolet", "Honda", "Hyundai", "Renault", "Ford"};
+    private static final String[] MODELOS = {"Corolla", "Gol", "Uno", "Onix", "Civic", "HB20", "Kwid", "Ka", "Polo", "Argo"};
+    private static final Cor[] CORES = Cor.values();
+
+    public static void main(String[] args) {
+        String representacao = args.length > 0 ? args[0] : "compacto";
+        int quantidade = args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000;
+        if (!representacao.equals("legado") && !representacao.equals("compacto")) {
+            throw new IllegalArgumentException("Representação deve ser 'legado' ou 'compacto': " + representacao);
+        }
+
+        // As placas são iguais nas duas representações; são criadas antes da medição
+        String[] placas = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            placas[i] = DadosSinteticos.placa(i);
+        }
+        Veiculo[] veiculos = new Veiculo[quantidade];
+        long antes = heapUsado();
+
+        for (int i = 0; i < quantidade; i++) {
+            String marca = new String(MARCAS[i % MARCAS.length]);
+            String modelo = new String(MODELOS[i % MODELOS.length]);
+            String combustivel = new String("Gasolina");
+            Cor cor = CORES[i % CORES.length];
+            int ano = 2000 + i % 25;
+            veiculos[i] = representacao.equals("legado")
+                    ? VeiculoLegado.criarCarro(placas[i], marca, modelo, ano, cor, combustivel)
+                    : VeiculoFactory.criarVeiculo(TipoVeiculo.CARRO, placas[i], marca, modelo, ano, cor, combustivel);
+        }
+
+        long depois = heapUsado();
+        long bytes = depois - antes;
+        System.out.printf("%s: %,d veículos, %,d bytes (%.1f MiB), %.1f bytes/veículo%n",
+                representacao, quantidade, bytes, bytes / (1024.0 * 1024.0), (double) bytes / quantidade);
+        if (veiculos[quantidade - 1].getPlaca() == null) {  // Mantém os veículos alcançáveis até a medição
+            throw new IllegalStateException();
+        }
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.benchmark;
+
+import org.example.benchmark.dao.DadosSinteticos;
+import org.example.dao.ApoliceDaoImpl;
+import org.example.dao.ClienteDaoImpl;
+import org.example.dao.IndiceSinistrosCliente;
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.service.ApoliceService;
+import org.example.service.ApoliceServiceImpl;
+import org.example.service.ClienteServiceImpl;
+import org.example.tempo.RelogioFixo;
+import org.example.tempo.Relogios;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da precificação de apólices: laço individual com calcularValor contra o cálculo
+ * em lote de calcularValores, com a Vector API (padrão deste benchmark) e com o laço escalar
+ * (fork sem o módulo jdk.incubator.vector).
+ *
+ * Cada cliente aparece em quatro apólices e 20% dos clientes têm sinistro. A data é fixada em
+ * 01/01/2025 para que os resultados não dependam do dia da execução.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class PrecificacaoLoteBenchmark {
+
+    @Param({"1000", "100000"})
+    public int tamanho;
+
+    private ApoliceService servico;
+    private List<Apolice> apolices;
+
+    @Setup
+    public void preparar() {
+        Relogios.definirPadrao(new RelogioFixo(LocalDate.of(2025, 1, 1)));
+        IndiceSinistrosCliente indice = new IndiceSinistrosCliente();
+        ClienteDaoImpl clienteDao = new ClienteDaoImpl(indice);
+        servico = new ApoliceServiceImpl(new ApoliceDaoImpl(), new ClienteServiceImpl(clienteDao));
+
+        int quantidadeClientes = Math.max(1, tamanho / 4);
+        List<Cliente> clientes = new ArrayList<>(quantidadeClientes);
+        for (int i = 0; i < quantidadeClientes; i++) {
+            Cliente cliente = DadosSinteticos.cliente(i);
+            clienteDao.adicionarCliente(cliente);
+            clientes.add(cliente);
+            if (i % 5 == 0) {
+                indice.registrar(DadosSinteticos.sinistro(i));
+            }
+        }
+        apolices = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            Apolice apolice = DadosSinteticos.apolice(i);
+            apolice.setCliente(clientes.get(i % quantidadeClientes));
+            apolices.add(apolice);
+        }
+    }
+
+    @Benchmark
+    public double[] individual() {
+        double[] valores = new double[apolices.size()];
+        for (int i = 0; i < valores.length; i++) {
+            valores[i] = servico.calcularValor(apolices.get(i));
+        }
+        return valores;
+    }
+
+    @Benchmark
+    public double[] loteVetorial() {
+        return servico.calcularValores(apolices);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public double[] loteEscalar() {
+        return servico.calcularValores(apolices);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.benchmark;
+
+import org.example.dao.SinistroDaoJournalImpl;
+import org.example.factory.VeiculoFactory;
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Cor;
+import org.example.model.Endereco;
+import org.example.model.Sinistro;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de ingestão sustentada de sinistros no SinistroDaoJournalImpl.
+ * Mede a vazão de adicionarSinistro para diferentes tamanhos de lote de sincronização
+ * (1 = fsync por operação, 0 = somente no fechamento).
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SinistroJournalBenchmark {
+
+    @Param({"1", "64", "1024", "0"})
+    public int tamanhoLote;
+
+    private Path arquivo;
+    private SinistroDaoJournalImpl dao;
+    private Cliente cliente;
+    private Apolice apolice;
+    private Endereco endereco;
+    private long sequencia;
+
+    @Setup(Level.Iteration)
+    public void abrir() throws IOException {
+        arquivo = Files.createTempFile("sinistros", ".journal");
+        Files.delete(arquivo);
+        dao = new SinistroDaoJournalImpl(arquivo, tamanhoLote);
+        endereco = new Endereco("Rua das Flores", 123, "12345-678", "Centro", "São Paulo", "SP");
+        cliente = new Cliente("12345678900", "João Silva", endereco, "123456789", "joao@email.com", 'M');
+        Veiculo veiculo = VeiculoFactory.criarVeiculo(TipoVeiculo.CARRO, "ABC1234", "Toyota", "Corolla", 2020, Cor.PRETO, "Gasolina");
+        apolice = new Apolice("AP-001", cliente, veiculo, LocalDate.of(2024, 10, 15), LocalDate.of(2025, 10, 15));
+    }
+
+    @TearDown(Level.Iteration)
+    public void fechar() throws IOException {
+        dao.close();
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public void ingerirSinistro() {
+        long n = sequencia++;
+        dao.adicionarSinistro(new Sinistro("S-" + n, LocalDate.of(2024, 1, 1).plusDays(n % 365), cliente, apolice, endereco));
+    }
+}
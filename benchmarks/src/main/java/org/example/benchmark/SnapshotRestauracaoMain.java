@@ -0,0 +1,74 @@
+package org.example.benchmark;
+
+import org.example.benchmark.dao.DadosSinteticos;
+import org.example.dao.ApoliceDaoImpl;
+import org.example.dao.ClienteDaoImpl;
+import org.example.dao.SeguroDaoImpl;
+import org.example.dao.SinistroDaoImpl;
+import org.example.dao.VeiculoDaoImpl;
+import org.example.model.Cliente;
+import org.example.snapshot.ResultadoSnapshot;
+import org.example.snapshot.Snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Mede o tempo até os DAOs estarem prontos (time-to-ready) ao restaurar um snapshot, para
+ * diferentes tamanhos de base. Para cada tamanho N, popula os DAOs com N clientes, N veículos,
+ * N apólices, N/2 seguros e N/4 sinistros, grava o snapshot e o restaura em DAOs vazios.
+ * <pre>
+ * java -Xmx8g -cp benchmarks/target/benchmarks.jar org.example.benchmark.SnapshotRestauracaoMain 10000 100000 1000000
+ * </pre>
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class SnapshotRestauracaoMain {
+
+    public static void main(String[] args) throws IOException {
+        int[] tamanhos = args.length == 0 ? new int[]{10_000, 100_000, 1_000_000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            tamanhos[i] = Integer.parseInt(args[i]);
+        }
+        Path arquivo = Files.createTempFile("snapshot", ".bin");
+        try {
+            System.out.printf("%12s %12s %14s %12s %14s %16s%n",
+                    "N", "entidades", "bytes", "gravação ms", "restauração ms", "entidades/s");
+            for (int n : tamanhos) {
+                ResultadoSnapshot gravacao = popular(n).gravar(arquivo);
+                Snapshot destino = new Snapshot(new ClienteDaoImpl(), new VeiculoDaoImpl(), new ApoliceDaoImpl(),
+                        new SeguroDaoImpl(), new SinistroDaoImpl());
+                ResultadoSnapshot restauracao = destino.restaurar(arquivo);
+                System.out.printf("%,12d %,12d %,14d %,12d %,14d %,16.0f%n", n, restauracao.getEntidades(),
+                        restauracao.getBytes(), gravacao.getDuracao().toMillis(), restauracao.getDuracao().toMillis(),
+                        restauracao.getEntidadesPorSegundo());
+            }
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    private static Snapshot popular(int n) {
+        ClienteDaoImpl clienteDao = new ClienteDaoImpl();
+        VeiculoDaoImpl veiculoDao = new VeiculoDaoImpl();
+        ApoliceDaoImpl apoliceDao = new ApoliceDaoImpl();
+        SeguroDaoImpl seguroDao = new SeguroDaoImpl();
+        SinistroDaoImpl sinistroDao = new SinistroDaoImpl();
+        for (int i = 0; i < n; i++) {
+            Cliente cliente = DadosSinteticos.cliente(i);
+            cliente.setDataNascimento(DadosSinteticos.data(i).minusYears(30));
+            clienteDao.adicionarCliente(cliente);
+            veiculoDao.adicionarVeiculo(DadosSinteticos.veiculo(i));
+            apoliceDao.adicionarApolice(DadosSinteticos.apolice(i));
+            if (i % 2 == 0) {
+                seguroDao.adicionarSeguro(DadosSinteticos.seguro(i));
+            }
+            if (i % 4 == 0) {
+                sinistroDao.adicionarSinistro(DadosSinteticos.sinistro(i));
+            }
+        }
+        return new Snapshot(clienteDao, veiculoDao, apoliceDao, seguroDao, sinistroDao);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.benchmark;
+
+import org.example.model.Cor;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+
+import java.time.Year;
+
+/**
+ * Cópia da representação anterior dos veículos da VeiculoFactory (uma classe anônima por veículo,
+ * capturando os parâmetros de criação), mantida apenas para comparação de consumo de memória.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+final class VeiculoLegado {
+
+    private VeiculoLegado() {
+    }
+
+    static Veiculo criarCarro(String placa, String marca, String modelo, int ano, Cor cor, String combustivel) {
+        int anoAtual = Year.now().getValue();
+        return new Veiculo() {
+            private String veiculoCombustivel = combustivel;
+            private String veiculoMarca = marca;
+            private Cor veiculoCor = cor;
+
+            @Override
+            public String getPlaca() {
+                return placa;
+            }
+
+            @Override
+            public String getMarca() {
+                return veiculoMarca;
+            }
+
+            @Override
+            public void setMarca(String marca) {
+                this.veiculoMarca = marca;
+            }
+
+            @Override
+            public void setModelo(String modelo) {
+
+            }
+
+            @Override
+            public void setAno(int ano) {
+
+            }
+
+            @Override
+            public String getModelo() {
+                return modelo;
+            }
+
+            @Override
+            public int getAno() {
+                return ano;
+            }
+
+            @Override
+            public Cor getCor() {
+                return veiculoCor;
+            }
+
+            @Override
+            public void setCor(Cor cor) {
+                this.veiculoCor = cor;
+            }
+
+            @Override
+            public String getCombustivel() {
+                return veiculoCombustivel;
+            }
+
+            @Override
+            public TipoVeiculo getTipo() {
+                return TipoVeiculo.CARRO;
+            }
+
+            @Override
+            public void setPlaca(String placa) {
+
+            }
+
+            @Override
+            public void setCombustivel(String combustivel) {
+                this.veiculoCombustivel = combustivel;
+            }
+
+            @Override
+            public double calcularValorSeguro() {
+                int idadeDoCarro = anoAtual - ano;
+                double valorBase = 1000;
+                return valorBase - (idadeDoCarro * 50);
+            }
+        };
+    }
+}
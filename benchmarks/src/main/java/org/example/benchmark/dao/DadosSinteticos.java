@@ -0,0 +1,107 @@
+package org.example.benchmark.dao;
+
+import org.example.factory.VeiculoFactory;
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Cor;
+import org.example.model.Endereco;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+
+import java.time.LocalDate;
+
+/**
+ * Gerador determinístico de entidades para os benchmarks de DAO.
+ * A entidade de índice i sempre tem as mesmas chaves (CPF, placa, números), permitindo que
+ * os benchmarks sorteiem índices e reconstruam chaves sem guardar todas as entidades.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public final class DadosSinteticos {
+
+    private static final String[] UFS = {"AC", "AL", "AP", "AM", "BA", "CE", "DF", "ES", "GO", "MA", "MT", "MS", "MG",
+            "PA", "PB", "PR", "PE", "PI", "RJ", "RN", "RS", "RO", "RR", "SC", "SP", "SE", "TO"};
+    private static final Endereco[] ENDERECOS = new Endereco[UFS.length];
+    private static final TipoVeiculo[] TIPOS = TipoVeiculo.values();
+    private static final Cor[] CORES = Cor.values();
+    private static final LocalDate BASE = LocalDate.of(2020, 1, 1);
+
+    static {
+        for (int i = 0; i < UFS.length; i++) {
+            ENDERECOS[i] = new Endereco("Rua " + i, i, "01000-000", "Centro", "Cidade " + UFS[i], UFS[i]);
+        }
+    }
+
+    private DadosSinteticos() {
+    }
+
+    public static String cpf(int i) {
+        String digitos = Integer.toString(i);
+        return "00000000000".substring(digitos.length()) + digitos;
+    }
+
+    /** Placa no formato antigo AAA9999, única para i menor que 26³ × 10⁴. */
+    public static String placa(int i) {
+        char[] placa = new char[7];
+        int numero = i % 10_000;
+        int letras = i / 10_000;
+        for (int p = 6; p >= 3; p--) {
+            placa[p] = (char) ('0' + numero % 10);
+            numero /= 10;
+        }
+        for (int p = 2; p >= 0; p--) {
+            placa[p] = (char) ('A' + letras % 26);
+            letras /= 26;
+        }
+        return new String(placa);
+    }
+
+    public static String numeroApolice(int i) {
+        return "AP-" + i;
+    }
+
+    public static String numeroSeguro(int i) {
+        return "SG-" + i;
+    }
+
+    public static String numeroSinistro(int i) {
+        return "S-" + i;
+    }
+
+    public static Endereco endereco(int i) {
+        return ENDERECOS[i % ENDERECOS.length];
+    }
+
+    public static Cliente cliente(int i) {
+        return new Cliente(cpf(i), "Cliente " + i, endereco(i), "11999999999", "cliente@email.com", (i & 1) == 0 ? 'F' : 'M');
+    }
+
+    public static Veiculo veiculo(int i) {
+        return VeiculoFactory.criarVeiculo(TIPOS[i % TIPOS.length], placa(i), "Marca", "Modelo", 2000 + i % 25,
+                CORES[i % CORES.length], "Gasolina");
+    }
+
+    public static LocalDate data(int i) {
+        return BASE.plusDays(i % 2000);
+    }
+
+    public static Apolice apolice(int i) {
+        LocalDate inicio = data(i);
+        Apolice apolice = new Apolice(numeroApolice(i), cliente(i), veiculo(i), inicio, inicio.plusYears(1));
+        apolice.setValor(500 + i % 1500);
+        return apolice;
+    }
+
+    public static Seguro seguro(int i) {
+        LocalDate inicio = data(i);
+        return new Seguro(numeroSeguro(i), cliente(i), veiculo(i), inicio, inicio.plusYears(1));
+    }
+
+    public static Sinistro sinistro(int i) {
+        Apolice apolice = apolice(i);
+        return new Sinistro(numeroSinistro(i), data(i).plusDays(30), apolice.getCliente(), apolice, endereco(i));
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.benchmark.dao;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dos DAOs.
+ * Carrega {@code tamanho} entidades sintéticas no DAO e mede busca, atualização, remoção
+ * (seguida de reinclusão, para manter o tamanho constante), listagem e uma carga mista com
+ * {@code percentualLeitura}% de buscas e o restante de atualizações. O parâmetro
+ * {@code percentualLeitura} pertence ao estado {@link CargaMista} e só multiplica as execuções de
+ * {@link #misto(CargaMista)}.
+ *
+ * O parâmetro {@code implementacao} escolhe o DAO em {@link Implementacoes}; as operações são
+ * adaptadas à interface do DAO pelas {@link OperacoesDao} registradas lá. Para medir um único
+ * tipo de DAO, restrinja o parâmetro, por exemplo:
+ *
+ * <pre>java -jar benchmarks.jar DaoBenchmark -p implementacao=VeiculoDaoImpl,VeiculoDaoPlacaImpl</pre>
+ *
+ * As operações usam uma amostra de entidades pré-geradas com chaves sorteadas, para que a
+ * geração de objetos não entre na medição.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class DaoBenchmark {
+
+    private static final int TAMANHO_AMOSTRA = 4096;  // Potência de 2
+
+    @Param({"ClienteDaoImpl", "ClienteDaoConcorrenteImpl",
+            "ApoliceDaoImpl", "ApoliceDaoIndexadoImpl", "ApoliceDaoColunarImpl",
+            "SeguroDaoImpl",
+            "SinistroDaoImpl", "SinistroDaoJournalImpl",
+            "VeiculoDaoImpl", "VeiculoDaoPlacaImpl"})
+    public String implementacao;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int tamanho;
+
+    private Object dao;
+    private OperacoesDao<Object, Object> operacoes;
+
+    private Object[] amostra;
+    private int proxima;
+    private SplittableRandom aleatorio;
+
+    /**
+     * Proporção de leituras da carga mista, em um estado próprio para que o parâmetro não
+     * multiplique os demais benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class CargaMista {
+
+        @Param({"100", "90", "50"})
+        public int percentualLeitura;
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        dao = Implementacoes.criar(implementacao, Object.class);
+        operacoes = Implementacoes.operacoes(dao);
+        for (int i = 0; i < tamanho; i++) {
+            operacoes.incluir(dao, operacoes.gerar(i));
+        }
+        aleatorio = new SplittableRandom(42);
+        amostra = new Object[TAMANHO_AMOSTRA];
+        for (int i = 0; i < TAMANHO_AMOSTRA; i++) {
+            amostra[i] = operacoes.gerar(aleatorio.nextInt(tamanho));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        Implementacoes.liberar(dao);
+    }
+
+    private Object proximaEntidade() {
+        return amostra[proxima++ & (TAMANHO_AMOSTRA - 1)];
+    }
+
+    @Benchmark
+    public Object buscar() {
+        return operacoes.consultar(dao, proximaEntidade());
+    }
+
+    @Benchmark
+    public void atualizar() {
+        operacoes.alterar(dao, proximaEntidade());
+    }
+
+    @Benchmark
+    public void removerEReincluir() {
+        Object entidade = proximaEntidade();
+        operacoes.excluir(dao, entidade);
+        operacoes.incluir(dao, entidade);
+    }
+
+    @Benchmark
+    public Object listar() {
+        return operacoes.listarTodos(dao);
+    }
+
+    @Benchmark
+    public Object misto(CargaMista carga) {
+        Object entidade = proximaEntidade();
+        if (aleatorio.nextInt(100) < carga.percentualLeitura) {
+            return operacoes.consultar(dao, entidade);
+        }
+        operacoes.alterar(dao, entidade);
+        return entidade;
+    }
+}
@@ -0,0 +1,159 @@
+package org.example.benchmark.dao;
+
+import org.example.dao.ApoliceDao;
+import org.example.dao.ApoliceDaoColunarImpl;
+import org.example.dao.ApoliceDaoImpl;
+import org.example.dao.ApoliceDaoIndexadoImpl;
+import org.example.dao.ClienteDao;
+import org.example.dao.ClienteDaoConcorrenteImpl;
+import org.example.dao.ClienteDaoImpl;
+import org.example.dao.SeguroDao;
+import org.example.dao.SeguroDaoImpl;
+import org.example.dao.SinistroDao;
+import org.example.dao.SinistroDaoImpl;
+import org.example.dao.SinistroDaoJournalImpl;
+import org.example.dao.VeiculoDao;
+import org.example.dao.VeiculoDaoImpl;
+import org.example.dao.VeiculoDaoPlacaImpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registro das implementações de DAO disponíveis para os benchmarks.
+ * O parâmetro {@code implementacao} dos benchmarks aceita um dos nomes registrados aqui
+ * (nome simples da classe) ou o nome totalmente qualificado de qualquer classe com construtor
+ * sem argumentos que implemente uma das interfaces DAO, por exemplo:
+ *
+ * <pre>java -jar benchmarks.jar DaoBenchmark -p implementacao=com.exemplo.MeuVeiculoDao</pre>
+ *
+ * As operações medidas são adaptadas a cada interface DAO por uma {@link OperacoesDao}, escolhida
+ * pela interface que a instância criada implementa.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public final class Implementacoes {
+
+    private static final Map<String, Supplier<?>> REGISTRADAS = new ConcurrentHashMap<>();
+
+    private static final List<OperacoesDao<?, ?>> OPERACOES = List.of(
+            new OperacoesDao<>(ClienteDao.class, DadosSinteticos::cliente, ClienteDao::adicionarCliente,
+                    (dao, c) -> dao.buscarClientePorCpf(c.getCpf()), ClienteDao::atualizarCliente,
+                    (dao, c) -> dao.removerCliente(c.getCpf()), ClienteDao::listarClientes),
+            new OperacoesDao<>(ApoliceDao.class, DadosSinteticos::apolice, ApoliceDao::adicionarApolice,
+                    (dao, a) -> dao.buscarApolicePorNumero(a.getNumeroApolice()), ApoliceDao::atualizarApolice,
+                    (dao, a) -> dao.removerApolice(a.getNumeroApolice()), ApoliceDao::listarApolices),
+            new OperacoesDao<>(SeguroDao.class, DadosSinteticos::seguro, SeguroDao::adicionarSeguro,
+                    (dao, s) -> dao.buscarSeguroPorNumero(s.getNumeroSeguro()), SeguroDao::atualizarSeguro,
+                    (dao, s) -> dao.removerSeguro(s.getNumeroSeguro()), SeguroDao::listarSeguros),
+            new OperacoesDao<>(SinistroDao.class, DadosSinteticos::sinistro, SinistroDao::adicionarSinistro,
+                    (dao, s) -> dao.buscarSinistroPorNumero(s.getNumeroSinistro()), SinistroDao::atualizarSinistro,
+                    (dao, s) -> dao.removerSinistro(s.getNumeroSinistro()), SinistroDao::listarSinistros),
+            new OperacoesDao<>(VeiculoDao.class, DadosSinteticos::veiculo, VeiculoDao::adicionarVeiculo,
+                    (dao, v) -> dao.buscarPorPlaca(v.getPlaca()), VeiculoDao::atualizarVeiculo,
+                    (dao, v) -> dao.removerVeiculo(v.getPlaca()), VeiculoDao::listarVeiculos));
+
+    static {
+        registrar("ClienteDaoImpl", ClienteDaoImpl::new);
+        registrar("ClienteDaoConcorrenteImpl", ClienteDaoConcorrenteImpl::new);
+        registrar("ApoliceDaoImpl", ApoliceDaoImpl::new);
+        registrar("ApoliceDaoIndexadoImpl", ApoliceDaoIndexadoImpl::new);
+        registrar("ApoliceDaoColunarImpl", () -> new ApoliceDaoColunarImpl(new ApoliceDaoIndexadoImpl()));
+        registrar("SeguroDaoImpl", SeguroDaoImpl::new);
+        registrar("SinistroDaoImpl", SinistroDaoImpl::new);
+        registrar("SinistroDaoJournalImpl", () -> new SinistroDaoJournalImpl(arquivoTemporario(), 1024));
+        registrar("VeiculoDaoImpl", VeiculoDaoImpl::new);
+        registrar("VeiculoDaoPlacaImpl", VeiculoDaoPlacaImpl::new);
+    }
+
+    private Implementacoes() {
+    }
+
+    /**
+     * Registra uma implementação sob um nome, para uso no parâmetro {@code implementacao}.
+     *
+     * @param nome O nome da implementação.
+     * @param fabrica A fábrica que cria uma instância vazia do DAO.
+     */
+    public static void registrar(String nome, Supplier<?> fabrica) {
+        REGISTRADAS.put(nome, fabrica);
+    }
+
+    /**
+     * Cria uma instância vazia do DAO pelo nome registrado ou pelo nome da classe.
+     *
+     * @param nome O nome registrado ou o nome totalmente qualificado da classe.
+     * @param tipo A interface DAO esperada.
+     * @return A nova instância do DAO.
+     * @throws IllegalArgumentException Se a implementação não existir ou não implementar a interface.
+     */
+    public static <D> D criar(String nome, Class<D> tipo) {
+        Supplier<?> fabrica = REGISTRADAS.get(nome);
+        Object dao;
+        if (fabrica != null) {
+            dao = fabrica.get();
+        } else {
+            try {
+                dao = Class.forName(nome).getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                     | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Implementação de DAO desconhecida: " + nome, e);
+            }
+        }
+        if (!tipo.isInstance(dao)) {
+            throw new IllegalArgumentException(nome + " não implementa " + tipo.getSimpleName());
+        }
+        return tipo.cast(dao);
+    }
+
+    /**
+     * Obtém as operações de benchmark da interface DAO implementada pela instância.
+     *
+     * @param dao A instância do DAO.
+     * @return As operações adaptadas à interface do DAO.
+     * @throws IllegalArgumentException Se o DAO não implementar nenhuma interface DAO conhecida.
+     */
+    @SuppressWarnings("unchecked")
+    static OperacoesDao<Object, Object> operacoes(Object dao) {
+        for (OperacoesDao<?, ?> operacoes : OPERACOES) {
+            if (operacoes.getTipo().isInstance(dao)) {
+                return (OperacoesDao<Object, Object>) operacoes;
+            }
+        }
+        throw new IllegalArgumentException(dao.getClass().getName() + " não implementa nenhuma interface DAO conhecida.");
+    }
+
+    /**
+     * Fecha o DAO se ele mantiver recursos abertos (por exemplo, o journal de sinistros).
+     *
+     * @param dao O DAO a ser liberado.
+     */
+    public static void liberar(Object dao) {
+        if (dao instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) dao).close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Erro ao liberar o DAO.", e);
+            }
+        }
+    }
+
+    private static Path arquivoTemporario() {
+        try {
+            Path arquivo = Files.createTempFile("benchmark-sinistros", ".journal");
+            Files.delete(arquivo);
+            arquivo.toFile().deleteOnExit();
+            return arquivo;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.benchmark.dao;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Adaptação de uma interface DAO às operações medidas pelo {@link DaoBenchmark}: geração da
+ * entidade sintética, inclusão, consulta, atualização, exclusão e listagem.
+ * Há uma instância por interface DAO, registrada em {@link Implementacoes}.
+ *
+ * @param <D> A interface DAO.
+ * @param <E> A entidade armazenada pelo DAO.
+ * @since 1.2
+ * @version 1.0
+ */
+public final class OperacoesDao<D, E> {
+
+    private final Class<D> tipo;
+    private final IntFunction<E> gerador;
+    private final BiConsumer<D, E> inclusao;
+    private final BiFunction<D, E, Object> consulta;
+    private final BiConsumer<D, E> atualizacao;
+    private final BiConsumer<D, E> exclusao;
+    private final Function<D, Object> listagem;
+
+    /**
+     * Construtor que define as operações sobre a interface DAO.
+     *
+     * @param tipo A interface DAO.
+     * @param gerador Gera a entidade sintética de índice i.
+     * @param inclusao Inclui a entidade no DAO.
+     * @param consulta Busca a entidade no DAO pela sua chave.
+     * @param atualizacao Atualiza a entidade no DAO.
+     * @param exclusao Remove a entidade do DAO pela sua chave.
+     * @param listagem Lista todas as entidades do DAO.
+     */
+    public OperacoesDao(Class<D> tipo, IntFunction<E> gerador, BiConsumer<D, E> inclusao,
+                        BiFunction<D, E, Object> consulta, BiConsumer<D, E> atualizacao,
+                        BiConsumer<D, E> exclusao, Function<D, Object> listagem) {
+        this.tipo = tipo;
+        this.gerador = gerador;
+        this.inclusao = inclusao;
+        this.consulta = consulta;
+        this.atualizacao = atualizacao;
+        this.exclusao = exclusao;
+        this.listagem = listagem;
+    }
+
+    Class<D> getTipo() {
+        return tipo;
+    }
+
+    E gerar(int i) {
+        return gerador.apply(i);
+    }
+
+    void incluir(D dao, E entidade) {
+        inclusao.accept(dao, entidade);
+    }
+
+    Object consultar(D dao, E entidade) {
+        return consulta.apply(dao, entidade);
+    }
+
+    void alterar(D dao, E entidade) {
+        atualizacao.accept(dao, entidade);
+    }
+
+    void excluir(D dao, E entidade) {
+        exclusao.accept(dao, entidade);
+    }
+
+    Object listarTodos(D dao) {
+        return listagem.apply(dao);
+    }
+}
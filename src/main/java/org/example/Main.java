@@ -4,6 +4,8 @@ import org.example.factory.*;
 import org.example.model.*;
 import org.example.service.*;
 import org.example.dao.*;
+import org.example.renderizacao.RenderizadorTexto;
+import org.example.renderizacao.SaidaBufferizada;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -15,7 +17,7 @@ import java.util.List;
  * A saída está organizada por instância e etapa, com mensagens claras para cada operação.
  *
  * @since 1.0
- * @version 1.2
+ * @version 1.6
  */
 public class Main {
 
@@ -39,8 +41,11 @@ public class Main {
         System.out.println("==================================\n");
 
         // *** Instanciando ClienteService e ApoliceDao ***
-        ClienteService clienteService = new ClienteServiceImpl(new ClienteDaoImpl());
-        ApoliceDao apoliceDao = new ApoliceDaoImpl();
+        // O índice de sinistros é compartilhado: alimentado pelo SinistroService e consultado pelo ClienteDao
+        IndiceSinistrosCliente indiceSinistros = new IndiceSinistrosCliente();
+        ClienteService clienteService = new ClienteServiceImpl(new ClienteDaoImpl(indiceSinistros),
+                ClienteServiceImpl.CAPACIDADE_CACHE_PADRAO);
+        ApoliceDao apoliceDao = new ApoliceDaoIndexadoImpl();  // Paginação pelo índice ordenado por número, sem varrer a lista
 
         // *** Cadastro de Seguro ***
         System.out.println("===== Cadastro de Seguro =====");
@@ -72,7 +77,7 @@ public class Main {
         System.out.println("===== Cadastro de Sinistro =====");
         LocalDate dataSinistro = LocalDate.parse("20/10/2024", formatter);
         Sinistro sinistro = SinistroFactory.criarSinistro("S-001", dataSinistro, cliente, apolice, endereco);
-        SinistroService sinistroService = new SinistroServiceImpl(new SinistroDaoImpl());
+        SinistroService sinistroService = new SinistroServiceImpl(new SinistroDaoImpl(), indiceSinistros);
 
         sinistroService.registrarSinistro(sinistro);
         System.out.println("Sinistro registrado com sucesso!");
@@ -90,9 +95,12 @@ public class Main {
         if (sinistrosRegistrados.isEmpty()) {
             System.out.println("Nenhum sinistro registrado.");
         } else {
-            for (Sinistro s : sinistrosRegistrados) {
-                System.out.println("\nSinistro Registrado: ");
-                s.exibirDetalhes();  // *** Exibe os detalhes de cada sinistro ***
+            // *** A listagem é acumulada e escrita no console em blocos ***
+            try (SaidaBufferizada saida = new SaidaBufferizada()) {
+                for (Sinistro s : sinistrosRegistrados) {
+                    saida.append("\nSinistro Registrado: ").append(System.lineSeparator());
+                    RenderizadorTexto.INSTANCIA.renderizar(s, saida);  // *** Exibe os detalhes de cada sinistro ***
+                }
             }
         }
         System.out.println("==================================\n");
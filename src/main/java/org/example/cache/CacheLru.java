@@ -0,0 +1,244 @@
+package org.example.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Cache limitado com descarte da entrada usada há mais tempo (LRU) e, opcionalmente, tempo de vida (TTL).
+ * Valores nulos não são armazenados.
+ *
+ * As entradas são distribuídas pelo hash da chave entre segmentos independentes, cada um com o seu
+ * próprio LinkedHashMap em ordem de acesso e o seu próprio lock; chaves de segmentos diferentes não
+ * disputam o mesmo monitor. A capacidade é repartida entre os segmentos e o descarte LRU é feito
+ * dentro de cada segmento, portanto a entrada descartada é a mais antiga do seu segmento, não
+ * necessariamente a mais antiga do cache. As métricas são contadas sem lock (LongAdder).
+ *
+ * Com tempo de vida, cada entrada expira após o prazo contado da sua inclusão. A expiração é
+ * verificada no acesso: uma entrada expirada é removida e a consulta conta como falha. Entradas
+ * expiradas que não são mais consultadas continuam ocupando espaço até serem descartadas pela
+ * capacidade, de modo que o tamanho do cache permanece limitado.
+ *
+ * @param <K> O tipo da chave.
+ * @param <V> O tipo do valor.
+ * @since 1.2
+ * @version 1.2
+ */
+public class CacheLru<K, V> {
+
+    private final int capacidade;
+    private final long tempoVidaNanos;  // 0: sem expiração
+    private final Segmento<K, V>[] segmentos;
+    private final int mascara;
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder descartes = new LongAdder();
+    private final LongAdder expirados = new LongAdder();
+
+    /**
+     * Construtor que cria o cache com a capacidade informada, sem expiração.
+     *
+     * @param capacidade O número máximo de entradas.
+     * @throws IllegalArgumentException Se a capacidade não for positiva.
+     */
+    public CacheLru(int capacidade) {
+        this(capacidade, Duration.ZERO);
+    }
+
+    /**
+     * Construtor que cria o cache com a capacidade e o tempo de vida informados, com um segmento
+     * para cada dois processadores disponíveis, aproximadamente (limitado pela capacidade).
+     *
+     * @param capacidade O número máximo de entradas.
+     * @param tempoVida O tempo de vida de cada entrada; zero desabilita a expiração.
+     * @throws IllegalArgumentException Se a capacidade não for positiva ou o tempo de vida for negativo.
+     */
+    public CacheLru(int capacidade, Duration tempoVida) {
+        this(capacidade, tempoVida, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construtor que cria o cache com a capacidade, o tempo de vida e a quantidade de segmentos informados.
+     * A quantidade de segmentos é arredondada para a potência de dois seguinte e limitada pela capacidade.
+     *
+     * @param capacidade O número máximo de entradas.
+     * @param tempoVida O tempo de vida de cada entrada; zero desabilita a expiração.
+     * @param segmentos A quantidade desejada de segmentos; 1 reproduz um LRU exato com um único lock.
+     * @throws IllegalArgumentException Se a capacidade ou os segmentos não forem positivos, ou o tempo de vida for negativo.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CacheLru(int capacidade, Duration tempoVida, int segmentos) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva.");
+        }
+        if (tempoVida.isNegative()) {
+            throw new IllegalArgumentException("O tempo de vida do cache não pode ser negativo.");
+        }
+        if (segmentos < 1) {
+            throw new IllegalArgumentException("A quantidade de segmentos do cache deve ser positiva.");
+        }
+        int quantidade = 1;
+        while (quantidade < segmentos && quantidade * 2 <= capacidade) {
+            quantidade <<= 1;
+        }
+        this.capacidade = capacidade;
+        this.tempoVidaNanos = tempoVida.toNanos();
+        this.segmentos = new Segmento[quantidade];
+        this.mascara = quantidade - 1;
+        for (int i = 0; i < quantidade; i++) {
+            int capacidadeSegmento = capacidade / quantidade + (i < capacidade % quantidade ? 1 : 0);
+            this.segmentos[i] = new Segmento<>(capacidadeSegmento, descartes);
+        }
+    }
+
+    /**
+     * Obtém o valor associado à chave, contabilizando acerto ou falha.
+     *
+     * @param chave A chave procurada.
+     * @return O valor em cache, ou null se não houver ou se tiver expirado.
+     */
+    public V obter(K chave) {
+        Segmento<K, V> segmento = segmento(chave);
+        Entrada<V> entrada;
+        synchronized (segmento) {
+            entrada = segmento.get(chave);
+            if (entrada != null && tempoVidaNanos > 0 && System.nanoTime() - entrada.incluidaEm >= tempoVidaNanos) {
+                segmento.remove(chave);
+                expirados.increment();
+                entrada = null;
+            }
+        }
+        if (entrada == null) {
+            falhas.increment();
+            return null;
+        }
+        acertos.increment();
+        return entrada.valor;
+    }
+
+    /**
+     * Associa o valor à chave, descartando a entrada mais antiga do segmento se a capacidade dele for excedida.
+     *
+     * @param chave A chave.
+     * @param valor O valor (não nulo).
+     */
+    public void colocar(K chave, V valor) {
+        Segmento<K, V> segmento = segmento(chave);
+        Entrada<V> entrada = new Entrada<>(valor, tempoVidaNanos > 0 ? System.nanoTime() : 0);
+        synchronized (segmento) {
+            segmento.put(chave, entrada);
+        }
+    }
+
+    /**
+     * Associa o valor à chave somente se a condição for verdadeira, avaliando-a sob o lock do
+     * segmento da chave. Permite descartar valores calculados antes de uma invalidação concorrente:
+     * se quem invalida altera o estado observado pela condição antes de chamar
+     * {@link #remover(Object)} ou {@link #limpar()}, um valor obsoleto nunca permanece no cache.
+     *
+     * @param chave A chave.
+     * @param valor O valor (não nulo).
+     * @param condicao A condição avaliada antes da inclusão.
+     * @return true se o valor foi incluído.
+     */
+    public boolean colocarSe(K chave, V valor, BooleanSupplier condicao) {
+        Segmento<K, V> segmento = segmento(chave);
+        Entrada<V> entrada = new Entrada<>(valor, tempoVidaNanos > 0 ? System.nanoTime() : 0);
+        synchronized (segmento) {
+            if (!condicao.getAsBoolean()) {
+                return false;
+            }
+            segmento.put(chave, entrada);
+            return true;
+        }
+    }
+
+    /**
+     * Remove a entrada associada à chave, se houver.
+     *
+     * @param chave A chave a ser invalidada.
+     */
+    public void remover(K chave) {
+        Segmento<K, V> segmento = segmento(chave);
+        synchronized (segmento) {
+            segmento.remove(chave);
+        }
+    }
+
+    /**
+     * Remove todas as entradas do cache, um segmento por vez, preservando as métricas.
+     */
+    public void limpar() {
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                segmento.clear();
+            }
+        }
+    }
+
+    /**
+     * Retorna a quantidade de entradas no cache, inclusive as expiradas ainda não removidas.
+     *
+     * @return O tamanho do cache.
+     */
+    public int tamanho() {
+        int tamanho = 0;
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                tamanho += segmento.size();
+            }
+        }
+        return tamanho;
+    }
+
+    /**
+     * Obtém as métricas do cache. Com acessos concorrentes, os contadores são lidos um a um e não
+     * formam um retrato instantâneo.
+     *
+     * @return As estatísticas do cache.
+     */
+    public EstatisticasCache estatisticas() {
+        return new EstatisticasCache(acertos.sum(), falhas.sum(), descartes.sum(), expirados.sum(), tamanho(), capacidade);
+    }
+
+    private Segmento<K, V> segmento(K chave) {
+        int h = chave.hashCode();
+        return segmentos[(h ^ (h >>> 16)) & mascara];
+    }
+
+    /** LinkedHashMap em ordem de acesso, limitado à capacidade do segmento; usado sob o seu próprio monitor. */
+    private static final class Segmento<K, V> extends LinkedHashMap<K, Entrada<V>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacidade;
+        private final transient LongAdder descartes;
+
+        Segmento(int capacidade, LongAdder descartes) {
+            super(16, 0.75f, true);
+            this.capacidade = capacidade;
+            this.descartes = descartes;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> maisAntiga) {
+            if (size() > capacidade) {
+                descartes.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Entrada<V> {
+        final V valor;
+        final long incluidaEm;  // System.nanoTime() da inclusão (0 sem expiração)
+
+        Entrada(V valor, long incluidaEm) {
+            this.valor = valor;
+            this.incluidaEm = incluidaEm;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.cache;
+
+/**
+ * Retrato imutável das métricas de um cache.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class EstatisticasCache {
+    private final long acertos;      // Consultas atendidas pelo cache
+    private final long falhas;       // Consultas sem entrada no cache
+    private final long descartes;    // Entradas descartadas por falta de capacidade
+    private final long expirados;    // Entradas descartadas por tempo de vida esgotado
+    private final int tamanho;       // Entradas no momento do retrato
+    private final int capacidade;    // Número máximo de entradas
+
+    /**
+     * Construtor que inicializa as métricas do cache.
+     *
+     * @param acertos Quantidade de consultas atendidas pelo cache.
+     * @param falhas Quantidade de consultas sem entrada no cache.
+     * @param descartes Quantidade de entradas descartadas por falta de capacidade.
+     * @param tamanho Quantidade de entradas no cache.
+     * @param capacidade Número máximo de entradas do cache.
+     */
+    public EstatisticasCache(long acertos, long falhas, long descartes, int tamanho, int capacidade) {
+        this(acertos, falhas, descartes, 0, tamanho, capacidade);
+    }
+
+    /**
+     * Construtor que inicializa as métricas de um cache com tempo de vida.
+     *
+     * @param acertos Quantidade de consultas atendidas pelo cache.
+     * @param falhas Quantidade de consultas sem entrada válida no cache.
+     * @param descartes Quantidade de entradas descartadas por falta de capacidade.
+     * @param expirados Quantidade de entradas descartadas por tempo de vida esgotado.
+     * @param tamanho Quantidade de entradas no cache.
+     * @param capacidade Número máximo de entradas do cache.
+     */
+    public EstatisticasCache(long acertos, long falhas, long descartes, long expirados, int tamanho, int capacidade) {
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.descartes = descartes;
+        this.expirados = expirados;
+        this.tamanho = tamanho;
+        this.capacidade = capacidade;
+    }
+
+    /**
+     * Obtém a quantidade de consultas atendidas pelo cache.
+     *
+     * @return Os acertos.
+     */
+    public long getAcertos() {
+        return acertos;
+    }
+
+    /**
+     * Obtém a quantidade de consultas sem entrada no cache.
+     *
+     * @return As falhas.
+     */
+    public long getFalhas() {
+        return falhas;
+    }
+
+    /**
+     * Obtém a quantidade de entradas descartadas por falta de capacidade.
+     *
+     * @return Os descartes.
+     */
+    public long getDescartes() {
+        return descartes;
+    }
+
+    /**
+     * Obtém a quantidade de entradas descartadas por tempo de vida esgotado.
+     *
+     * @return Os expirados.
+     */
+    public long getExpirados() {
+        return expirados;
+    }
+
+    /**
+     * Obtém a quantidade de entradas no cache.
+     *
+     * @return O tamanho do cache.
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Obtém o número máximo de entradas do cache.
+     *
+     * @return A capacidade do cache.
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Calcula a taxa de acerto do cache.
+     *
+     * @return A fração das consultas atendidas pelo cache (0 se não houve consultas).
+     */
+    public double getTaxaAcerto() {
+        long consultas = acertos + falhas;
+        return consultas == 0 ? 0 : (double) acertos / consultas;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cache: %d acertos, %d falhas (%.1f%%), %d descartes, %d expirados, %d/%d entradas",
+                acertos, falhas, getTaxaAcerto() * 100, descartes, expirados, tamanho, capacidade);
+    }
+}
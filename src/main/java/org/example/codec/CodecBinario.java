@@ -0,0 +1,636 @@
+package org.example.codec;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Combustivel;
+import org.example.model.Cor;
+import org.example.model.Endereco;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+import org.example.model.VeiculoCompacto;
+import org.example.tarifa.EstrategiaPrecificacao;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codec binário compacto das entidades do domínio.
+ *
+ * Formato de cada campo:
+ * <ul>
+ *   <li>inteiros: varint (LEB128, 7 bits por byte); valores com sinal em zigzag;</li>
+ *   <li>datas: dia da época (epoch day) em zigzag + 1, com 0 para data nula;</li>
+ *   <li>enums (TipoVeiculo, Cor, Combustivel): ordinal + 1 em um byte, com 0 para nulo; o
+ *       combustível OUTRO é seguido da descrição original, como texto repetitivo;</li>
+ *   <li>textos: tamanho em bytes + 1 (0 para nulo) seguido dos bytes UTF-8;</li>
+ *   <li>textos repetitivos (marca, modelo, bairro, cidade, UF): dicionário por codec, com 0 para
+ *       nulo, 1 para texto novo (que entra no dicionário) e n &gt;= 2 para a entrada n - 2;</li>
+ *   <li>valores monetários: double de 8 bytes, na ordem de bytes do buffer;</li>
+ *   <li>referências (cliente, veículo, apólice): identificador da {@link TabelaReferencias}, com 0 para nula.</li>
+ * </ul>
+ * Endereços são gravados dentro do cliente ou do sinistro; clientes, veículos e apólices recebem
+ * um identificador ao serem codificados e as entidades que os referenciam gravam só esse identificador.
+ * Por isso, a decodificação deve seguir a mesma ordem da codificação, com um codec por fluxo de
+ * bytes: o dicionário de textos é do codec, enquanto a tabela de referências pode ser compartilhada
+ * entre fluxos (por exemplo, uma seção de clientes e outra de apólices).
+ *
+ * A decodificação lê diretamente do buffer, inclusive de buffers diretos e mapeados em memória,
+ * sem cópia intermediária do registro. Se o buffer não tiver espaço para uma entidade, a
+ * codificação lança BufferOverflowException e desfaz a posição do buffer e os registros no
+ * dicionário, de modo que a entidade pode ser regravada em outro buffer. Da mesma forma, se o
+ * buffer terminar no meio de uma entidade, a decodificação restaura a posição do buffer e o
+ * dicionário antes de lançar a exceção, e a entidade pode ser lida de novo com o restante dos dados.
+ * Instâncias não são thread-safe.
+ *
+ * @since 1.2
+ * @version 1.2
+ */
+public class CodecBinario {
+
+    private static final TipoVeiculo[] TIPOS = TipoVeiculo.values();
+    private static final Cor[] CORES = Cor.values();
+    private static final Combustivel[] COMBUSTIVEIS = Combustivel.values();
+
+    private final TabelaReferencias referencias;
+
+    // Dicionário de textos: índice na codificação e lista na decodificação
+    private final Map<String, Integer> indiceTextos = new HashMap<>();
+    private final List<String> textos = new ArrayList<>();
+
+    // Área de trabalho para textos lidos de buffers sem array acessível (diretos ou mapeados)
+    private byte[] rascunho = new byte[64];
+
+    /**
+     * Cria um codec com tabela de referências própria.
+     */
+    public CodecBinario() {
+        this(new TabelaReferencias());
+    }
+
+    /**
+     * Cria um codec que usa a tabela de referências informada.
+     *
+     * @param referencias A tabela de referências, possivelmente compartilhada com outros codecs.
+     * @throws IllegalArgumentException Se a tabela for nula.
+     */
+    public CodecBinario(TabelaReferencias referencias) {
+        if (referencias == null) {
+            throw new IllegalArgumentException("Tabela de referências não pode ser nula.");
+        }
+        this.referencias = referencias;
+    }
+
+    /**
+     * Obtém a tabela de referências usada pelo codec.
+     *
+     * @return A tabela de referências.
+     */
+    public TabelaReferencias getReferencias() {
+        return referencias;
+    }
+
+    // Codificação
+
+    /**
+     * Codifica um endereço (que pode ser nulo).
+     *
+     * @param endereco O endereço.
+     * @param destino O buffer de destino.
+     */
+    public void codificar(Endereco endereco, ByteBuffer destino) {
+        Marca marca = marcar(destino);
+        try {
+            gravarEndereco(endereco, destino);
+        } catch (BufferOverflowException e) {
+            desfazer(marca, destino);
+            throw e;
+        }
+    }
+
+    /**
+     * Codifica um cliente e o registra na tabela de referências.
+     *
+     * @param cliente O cliente.
+     * @param destino O buffer de destino.
+     * @throws IllegalArgumentException Se o cliente for nulo.
+     */
+    public void codificar(Cliente cliente, ByteBuffer destino) {
+        exigir(cliente, "Cliente não pode ser nulo.");
+        Marca marca = marcar(destino);
+        try {
+            gravarTexto(cliente.getCpf(), destino);
+            gravarTexto(cliente.getNome(), destino);
+            gravarTexto(cliente.getTelefone(), destino);
+            gravarTexto(cliente.getEmail(), destino);
+            gravarVarint(cliente.getSexo(), destino);
+            gravarData(cliente.getDataNascimento(), destino);
+            gravarEndereco(cliente.getEndereco(), destino);
+        } catch (BufferOverflowException e) {
+            desfazer(marca, destino);
+            throw e;
+        }
+        referencias.clientes.registrar(cliente);
+    }
+
+    /**
+     * Codifica um veículo e o registra na tabela de referências.
+     *
+     * @param veiculo O veículo.
+     * @param destino O buffer de destino.
+     * @throws IllegalArgumentException Se o veículo ou o seu tipo forem nulos.
+     */
+    public void codificar(Veiculo veiculo, ByteBuffer destino) {
+        exigir(veiculo, "Veículo não pode ser nulo.");
+        if (veiculo.getTipo() == null) {
+            throw new IllegalArgumentException("Tipo de veículo não pode ser nulo.");
+        }
+        Combustivel combustivel = veiculo instanceof VeiculoCompacto compacto
+                ? compacto.getTipoCombustivel()
+                : veiculo.getCombustivel() == null ? null : Combustivel.deDescricao(veiculo.getCombustivel());
+        Marca marca = marcar(destino);
+        try {
+            gravarEnum(veiculo.getTipo(), destino);
+            gravarTexto(veiculo.getPlaca(), destino);
+            gravarTextoDicionario(veiculo.getMarca(), destino);
+            gravarTextoDicionario(veiculo.getModelo(), destino);
+            gravarVarint(zigzag(veiculo.getAno()), destino);
+            gravarEnum(veiculo.getCor(), destino);
+            gravarEnum(combustivel, destino);
+            if (combustivel == Combustivel.OUTRO) {
+                gravarTextoDicionario(veiculo.getCombustivel(), destino);
+            }
+        } catch (BufferOverflowException e) {
+            desfazer(marca, destino);
+            throw e;
+        }
+        referencias.veiculos.registrar(veiculo);
+    }
+
+    /**
+     * Codifica uma apólice e a registra na tabela de referências.
+     * O cliente e o veículo são gravados como referência e precisam ter sido registrados antes.
+     *
+     * @param apolice A apólice.
+     * @param destino O buffer de destino.
+     * @throws IllegalArgumentException Se a apólice for nula.
+     * @throws IllegalStateException Se o cliente ou o veículo não estiverem na tabela de referências.
+     */
+    public void codificar(Apolice apolice, ByteBuffer destino) {
+        exigir(apolice, "Apólice não pode ser nula.");
+        int cliente = referencias.clientes.id(apolice.getCliente());
+        int veiculo = referencias.veiculos.id(apolice.getVeiculo());
+        Marca marca = marcar(destino);
+        try {
+            gravarTexto(apolice.getNumeroApolice(), destino);
+            gravarVarint(cliente, destino);
+            gravarVarint(veiculo, destino);
+            gravarData(apolice.getDataInicio(), destino);
+            gravarData(apolice.getDataTermino(), destino);
+            destino.putDouble(apolice.getValor());
+        } catch (BufferOverflowException e) {
+            desfazer(marca, destino);
+            throw e;
+        }
+        referencias.apolices.registrar(apolice);
+    }
+
+    /**
+     * Codifica um seguro. O cliente e o veículo são gravados como referência e precisam ter sido registrados antes.
+     *
+     * @param seguro O seguro.
+     * @param destino O buffer de destino.
+     * @throws IllegalArgumentException Se o seguro for nulo.
+     * @throws IllegalStateException Se o cliente ou o veículo não estiverem na tabela de referências.
+     */
+    public void codificar(Seguro seguro, ByteBuffer destino) {
+        exigir(seguro, "Seguro não pode ser nulo.");
+        int cliente = referencias.clientes.id(seguro.getCliente());
+        int veiculo = referencias.veiculos.id(seguro.getVeiculo());
+        Marca marca = marcar(destino);
+        try {
+            gravarTexto(seguro.getNumeroSeguro(), destino);
+            gravarVarint(cliente, destino);
+            gravarVarint(veiculo, destino);
+            gravarData(seguro.getDataInicio(), destino);
+            gravarData(seguro.getDataTermino(), destino);
+            destino.putDouble(seguro.getValor());
+        } catch (BufferOverflowException e) {
+            desfazer(marca, destino);
+            throw e;
+        }
+    }
+
+    /**
+     * Codifica um sinistro. O cliente e a apólice são gravados como referência e precisam ter sido registrados antes.
+     *
+     * @param sinistro O sinistro.
+     * @param destino O buffer de destino.
+     * @throws IllegalArgumentException Se o sinistro for nulo.
+     * @throws IllegalStateException Se o cliente ou a apólice não estiverem na tabela de referências.
+     */
+    public void codificar(Sinistro sinistro, ByteBuffer destino) {
+        exigir(sinistro, "Sinistro não pode ser nulo.");
+        int cliente = referencias.clientes.id(sinistro.getCliente());
+        int apolice = referencias.apolices.id(sinistro.getApolice());
+        Marca marca = marcar(destino);
+        try {
+            gravarTexto(sinistro.getNumeroSinistro(), destino);
+            gravarData(sinistro.getDataEvento(), destino);
+            gravarVarint(cliente, destino);
+            gravarVarint(apolice, destino);
+            gravarEndereco(sinistro.getEndereco(), destino);
+        } catch (BufferOverflowException e) {
+            desfazer(marca, destino);
+            throw e;
+        }
+    }
+
+    // Decodificação
+
+    /**
+     * Decodifica um endereço.
+     *
+     * @param origem O buffer de origem.
+     * @return O endereço, ou null se foi codificado nulo.
+     * @throws IllegalArgumentException Se os dados estiverem corrompidos ou incompletos.
+     */
+    public Endereco decodificarEndereco(ByteBuffer origem) {
+        Marca inicio = marcar(origem);
+        try {
+            return lerEndereco(origem);
+        } catch (BufferUnderflowException e) {
+            desfazerLeitura(inicio, origem);
+            throw incompleto("endereço");
+        }
+    }
+
+    /**
+     * Decodifica um cliente e o registra na tabela de referências.
+     *
+     * @param origem O buffer de origem.
+     * @return O cliente.
+     * @throws IllegalArgumentException Se os dados estiverem corrompidos ou incompletos.
+     */
+    public Cliente decodificarCliente(ByteBuffer origem) {
+        Marca inicio = marcar(origem);
+        try {
+            String cpf = lerTexto(origem);
+            String nome = lerTexto(origem);
+            String telefone = lerTexto(origem);
+            String email = lerTexto(origem);
+            char sexo = (char) lerVarint(origem);
+            LocalDate nascimento = lerData(origem);
+            Cliente cliente = new Cliente(cpf, nome, lerEndereco(origem), telefone, email, sexo);
+            cliente.setDataNascimento(nascimento);
+            referencias.clientes.registrar(cliente);
+            return cliente;
+        } catch (BufferUnderflowException e) {
+            desfazerLeitura(inicio, origem);
+            throw incompleto("cliente");
+        }
+    }
+
+    /**
+     * Decodifica um veículo e o registra na tabela de referências.
+     *
+     * @param origem O buffer de origem.
+     * @return O veículo.
+     * @throws IllegalArgumentException Se os dados estiverem corrompidos ou incompletos.
+     */
+    public Veiculo decodificarVeiculo(ByteBuffer origem) {
+        Marca inicio = marcar(origem);
+        try {
+            TipoVeiculo tipo = lerEnum(TIPOS, origem);
+            if (tipo == null) {
+                throw new IllegalArgumentException("Veículo codificado sem tipo.");
+            }
+            String placa = lerTexto(origem);
+            String marca = lerTextoDicionario(origem);
+            String modelo = lerTextoDicionario(origem);
+            int ano = dezigzag(lerVarint(origem));
+            Cor cor = lerEnum(CORES, origem);
+            Combustivel combustivel = lerEnum(COMBUSTIVEIS, origem);
+            EstrategiaPrecificacao estrategia = EstrategiaPrecificacao.de(tipo);
+            Veiculo veiculo = combustivel == Combustivel.OUTRO
+                    ? new VeiculoCompacto(estrategia, placa, marca, modelo, ano, cor, lerTextoDicionario(origem))
+                    : new VeiculoCompacto(estrategia, placa, marca, modelo, ano, cor, combustivel);
+            referencias.veiculos.registrar(veiculo);
+            return veiculo;
+        } catch (BufferUnderflowException e) {
+            desfazerLeitura(inicio, origem);
+            throw incompleto("veículo");
+        }
+    }
+
+    /**
+     * Decodifica uma apólice, resolvendo o cliente e o veículo pela tabela de referências, e a registra na tabela.
+     *
+     * @param origem O buffer de origem.
+     * @return A apólice.
+     * @throws IllegalArgumentException Se os dados estiverem corrompidos ou incompletos.
+     */
+    public Apolice decodificarApolice(ByteBuffer origem) {
+        Marca inicio = marcar(origem);
+        try {
+            String numero = lerTexto(origem);
+            Cliente cliente = referencias.clientes.entidade(lerVarint(origem));
+            Veiculo veiculo = referencias.veiculos.entidade(lerVarint(origem));
+            Apolice apolice = new Apolice(numero, cliente, veiculo, lerData(origem), lerData(origem));
+            apolice.setValor(origem.getDouble());
+            referencias.apolices.registrar(apolice);
+            return apolice;
+        } catch (BufferUnderflowException e) {
+            desfazerLeitura(inicio, origem);
+            throw incompleto("apólice");
+        }
+    }
+
+    /**
+     * Decodifica um seguro, resolvendo o cliente e o veículo pela tabela de referências.
+     *
+     * @param origem O buffer de origem.
+     * @return O seguro.
+     * @throws IllegalArgumentException Se os dados estiverem corrompidos ou incompletos.
+     */
+    public Seguro decodificarSeguro(ByteBuffer origem) {
+        Marca inicio = marcar(origem);
+        try {
+            String numero = lerTexto(origem);
+            Cliente cliente = referencias.clientes.entidade(lerVarint(origem));
+            Veiculo veiculo = referencias.veiculos.entidade(lerVarint(origem));
+            Seguro seguro = new Seguro(numero, cliente, veiculo, lerData(origem), lerData(origem));
+            seguro.setValor(origem.getDouble());
+            return seguro;
+        } catch (BufferUnderflowException e) {
+            desfazerLeitura(inicio, origem);
+            throw incompleto("seguro");
+        }
+    }
+
+    /**
+     * Decodifica um sinistro, resolvendo o cliente e a apólice pela tabela de referências.
+     *
+     * @param origem O buffer de origem.
+     * @return O sinistro.
+     * @throws IllegalArgumentException Se os dados estiverem corrompidos ou incompletos.
+     */
+    public Sinistro decodificarSinistro(ByteBuffer origem) {
+        Marca inicio = marcar(origem);
+        try {
+            String numero = lerTexto(origem);
+            LocalDate dataEvento = lerData(origem);
+            Cliente cliente = referencias.clientes.entidade(lerVarint(origem));
+            Apolice apolice = referencias.apolices.entidade(lerVarint(origem));
+            return new Sinistro(numero, dataEvento, cliente, apolice, lerEndereco(origem));
+        } catch (BufferUnderflowException e) {
+            desfazerLeitura(inicio, origem);
+            throw incompleto("sinistro");
+        }
+    }
+
+    // Métodos auxiliares: gravação
+
+    private void gravarEndereco(Endereco endereco, ByteBuffer destino) {
+        if (endereco == null) {
+            destino.put((byte) 0);
+            return;
+        }
+        destino.put((byte) 1);
+        gravarTexto(endereco.getLogradouro(), destino);
+        gravarVarint(zigzag(endereco.getNumero()), destino);
+        gravarTexto(endereco.getCep(), destino);
+        gravarTextoDicionario(endereco.getBairro(), destino);
+        gravarTextoDicionario(endereco.getCidade(), destino);
+        gravarTextoDicionario(endereco.getUf(), destino);
+    }
+
+    private void gravarTextoDicionario(String texto, ByteBuffer destino) {
+        if (texto == null) {
+            destino.put((byte) 0);
+            return;
+        }
+        Integer id = indiceTextos.get(texto);
+        if (id != null) {
+            gravarVarint(id + 2, destino);
+            return;
+        }
+        destino.put((byte) 1);
+        gravarTexto(texto, destino);
+        indiceTextos.put(texto, textos.size());
+        textos.add(texto);
+    }
+
+    private static void gravarTexto(String texto, ByteBuffer destino) {
+        if (texto == null) {
+            destino.put((byte) 0);
+            return;
+        }
+        int tamanho = texto.length();
+        boolean ascii = true;
+        for (int i = 0; i < tamanho && ascii; i++) {
+            ascii = texto.charAt(i) < 0x80;
+        }
+        if (ascii) {  // Caminho rápido: um byte por caractere, sem array intermediário
+            gravarVarint(tamanho + 1, destino);
+            for (int i = 0; i < tamanho; i++) {
+                destino.put((byte) texto.charAt(i));
+            }
+        } else {
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            gravarVarint(bytes.length + 1, destino);
+            destino.put(bytes);
+        }
+    }
+
+    private static void gravarData(LocalDate data, ByteBuffer destino) {
+        gravarVarlong(data == null ? 0 : zigzag(data.toEpochDay()) + 1, destino);
+    }
+
+    private static void gravarEnum(Enum<?> valor, ByteBuffer destino) {
+        destino.put((byte) (valor == null ? 0 : valor.ordinal() + 1));
+    }
+
+    private static void gravarVarint(int valor, ByteBuffer destino) {
+        while ((valor & ~0x7F) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+
+    private static void gravarVarlong(long valor, ByteBuffer destino) {
+        while ((valor & ~0x7FL) != 0) {
+            destino.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        destino.put((byte) valor);
+    }
+
+    private static int zigzag(int valor) {
+        return (valor << 1) ^ (valor >> 31);
+    }
+
+    private static long zigzag(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+
+    // Métodos auxiliares: leitura
+
+    private Endereco lerEndereco(ByteBuffer origem) {
+        byte presente = origem.get();
+        if (presente == 0) {
+            return null;
+        }
+        if (presente != 1) {
+            throw new IllegalArgumentException("Marcador de endereço inválido: " + presente);
+        }
+        String logradouro = lerTexto(origem);
+        int numero = dezigzag(lerVarint(origem));
+        String cep = lerTexto(origem);
+        String bairro = lerTextoDicionario(origem);
+        String cidade = lerTextoDicionario(origem);
+        String uf = lerTextoDicionario(origem);
+        return new Endereco(logradouro, numero, cep, bairro, cidade, uf);
+    }
+
+    private String lerTextoDicionario(ByteBuffer origem) {
+        int codigo = lerVarint(origem);
+        if (codigo == 0) {
+            return null;
+        }
+        if (codigo == 1) {
+            String texto = lerTexto(origem);
+            textos.add(texto);
+            return texto;
+        }
+        int id = codigo - 2;
+        if (id < 0 || id >= textos.size()) {
+            throw new IllegalArgumentException("Referência de dicionário inválida: " + id);
+        }
+        return textos.get(id);
+    }
+
+    private String lerTexto(ByteBuffer origem) {
+        int codigo = lerVarint(origem);
+        if (codigo == 0) {
+            return null;
+        }
+        int tamanho = codigo - 1;
+        if (tamanho < 0 || tamanho > origem.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int posicao = origem.position();
+        String texto;
+        if (origem.hasArray()) {  // Buffer em heap: decodifica direto do array de apoio
+            texto = new String(origem.array(), origem.arrayOffset() + posicao, tamanho, StandardCharsets.UTF_8);
+        } else {
+            if (rascunho.length < tamanho) {
+                rascunho = new byte[Math.max(tamanho, rascunho.length * 2)];
+            }
+            origem.get(posicao, rascunho, 0, tamanho);
+            texto = new String(rascunho, 0, tamanho, StandardCharsets.UTF_8);
+        }
+        origem.position(posicao + tamanho);
+        return texto;
+    }
+
+    private static LocalDate lerData(ByteBuffer origem) {
+        long codigo = lerVarlong(origem);
+        if (codigo == 0) {
+            return null;
+        }
+        long zz = codigo - 1;
+        return LocalDate.ofEpochDay((zz >>> 1) ^ -(zz & 1));
+    }
+
+    private static <E extends Enum<E>> E lerEnum(E[] valores, ByteBuffer origem) {
+        int codigo = origem.get() & 0xFF;
+        if (codigo == 0) {
+            return null;
+        }
+        if (codigo > valores.length) {
+            throw new IllegalArgumentException("Código inválido para " + valores[0].getDeclaringClass().getSimpleName() + ": " + codigo);
+        }
+        return valores[codigo - 1];
+    }
+
+    private static int lerVarint(ByteBuffer origem) {
+        int valor = 0;
+        for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+            byte b = origem.get();
+            valor |= (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varint com mais de 5 bytes.");
+    }
+
+    private static long lerVarlong(ByteBuffer origem) {
+        long valor = 0;
+        for (int deslocamento = 0; deslocamento < 70; deslocamento += 7) {
+            byte b = origem.get();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Varlong com mais de 10 bytes.");
+    }
+
+    private static int dezigzag(int valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    // Métodos auxiliares: controle
+
+    private static void exigir(Object entidade, String mensagem) {
+        if (entidade == null) {
+            throw new IllegalArgumentException(mensagem);
+        }
+    }
+
+    private static IllegalArgumentException incompleto(String entidade) {
+        return new IllegalArgumentException("Dados binários incompletos ao decodificar " + entidade + ".");
+    }
+
+    private Marca marcar(ByteBuffer buffer) {
+        return new Marca(buffer.position(), textos.size());
+    }
+
+    // Desfaz a gravação parcial de uma entidade que não coube no buffer
+    private void desfazer(Marca marca, ByteBuffer destino) {
+        destino.position(marca.posicao);
+        while (textos.size() > marca.textos) {
+            indiceTextos.remove(textos.remove(textos.size() - 1));
+        }
+    }
+
+    // Desfaz a leitura parcial de uma entidade interrompida pelo fim do buffer; na decodificação
+    // os textos entram só na lista do dicionário
+    private void desfazerLeitura(Marca marca, ByteBuffer origem) {
+        origem.position(marca.posicao);
+        textos.subList(marca.textos, textos.size()).clear();
+    }
+
+    // Entidades só são registradas na tabela depois de gravadas ou lidas por completo, portanto
+    // basta restaurar a posição do buffer e o dicionário de textos
+    private static final class Marca {
+        final int posicao;
+        final int textos;
+
+        Marca(int posicao, int textos) {
+            this.posicao = posicao;
+            this.textos = textos;
+        }
+    }
+}
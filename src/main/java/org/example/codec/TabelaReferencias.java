@@ -0,0 +1,142 @@
+package org.example.codec;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Veiculo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tabela de identificadores das entidades referenciadas pelo codec binário.
+ * Clientes, veículos e apólices recebem identificadores sequenciais (a partir de 1) na ordem em
+ * que são codificados ou decodificados; as entidades que os referenciam (apólices, seguros e
+ * sinistros) gravam apenas o identificador. Na codificação, a tabela traduz a chave natural (CPF,
+ * placa, número da apólice) em identificador; na decodificação, o identificador na entidade.
+ *
+ * Vários CodecBinario podem compartilhar a mesma tabela. Cada tipo de entidade tem estruturas
+ * próprias: tipos diferentes podem ser registrados em paralelo, mas um tipo não deve ser lido
+ * enquanto estiver sendo registrado. A tabela não é thread-safe além disso.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class TabelaReferencias {
+
+    final Tipo<Cliente> clientes = new Tipo<>("Cliente", Cliente::getCpf);
+    final Tipo<Veiculo> veiculos = new Tipo<>("Veículo", Veiculo::getPlaca);
+    final Tipo<Apolice> apolices = new Tipo<>("Apólice", Apolice::getNumeroApolice);
+
+    /**
+     * Registra um cliente sem codificá-lo (por exemplo, já presente no destino).
+     * A decodificação deve registrar os mesmos clientes na mesma ordem.
+     *
+     * @param cliente O cliente.
+     * @return O identificador atribuído.
+     */
+    public int registrarCliente(Cliente cliente) {
+        return clientes.registrar(cliente);
+    }
+
+    /**
+     * Registra um veículo sem codificá-lo.
+     *
+     * @param veiculo O veículo.
+     * @return O identificador atribuído.
+     */
+    public int registrarVeiculo(Veiculo veiculo) {
+        return veiculos.registrar(veiculo);
+    }
+
+    /**
+     * Registra uma apólice sem codificá-la.
+     *
+     * @param apolice A apólice.
+     * @return O identificador atribuído.
+     */
+    public int registrarApolice(Apolice apolice) {
+        return apolices.registrar(apolice);
+    }
+
+    /**
+     * Obtém a quantidade de clientes registrados.
+     *
+     * @return A quantidade de clientes.
+     */
+    public int quantidadeClientes() {
+        return clientes.tamanho();
+    }
+
+    /**
+     * Obtém a quantidade de veículos registrados.
+     *
+     * @return A quantidade de veículos.
+     */
+    public int quantidadeVeiculos() {
+        return veiculos.tamanho();
+    }
+
+    /**
+     * Obtém a quantidade de apólices registradas.
+     *
+     * @return A quantidade de apólices.
+     */
+    public int quantidadeApolices() {
+        return apolices.tamanho();
+    }
+
+    /**
+     * Identificadores de um tipo de entidade: chave natural -> identificador e identificador -> entidade.
+     */
+    static final class Tipo<T> {
+        private final String nome;
+        private final Function<T, String> chave;
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<T> entidades = new ArrayList<>();
+
+        Tipo(String nome, Function<T, String> chave) {
+            this.nome = nome;
+            this.chave = chave;
+        }
+
+        int registrar(T entidade) {
+            entidades.add(entidade);
+            int id = entidades.size();
+            String k = chave.apply(entidade);
+            if (k != null) {
+                ids.put(k, id);  // Chave repetida: referências passam a apontar para a entidade mais recente
+            }
+            return id;
+        }
+
+        /** Identificador da entidade referenciada (0 para nula). */
+        int id(T entidade) {
+            if (entidade == null) {
+                return 0;
+            }
+            Integer id = ids.get(chave.apply(entidade));
+            if (id == null) {
+                throw new IllegalStateException(nome + " referenciado não foi registrado na tabela: " + chave.apply(entidade));
+            }
+            return id;
+        }
+
+        /** Entidade do identificador (null para 0). */
+        T entidade(int id) {
+            if (id == 0) {
+                return null;
+            }
+            if (id < 0 || id > entidades.size()) {
+                throw new IllegalArgumentException(nome + " com identificador inválido: " + id);
+            }
+            return entidades.get(id - 1);
+        }
+
+        int tamanho() {
+            return entidades.size();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package org.example.dao;
 
 import org.example.model.Apolice;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface que define os métodos de acesso a dados (DAO) para a entidade Apolice.
@@ -9,7 +11,7 @@ import java.util.List;
  * em uma base de dados ou em memória.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.4
  */
 public interface ApoliceDao {
 
@@ -31,10 +33,20 @@ public interface ApoliceDao {
     /**
      * Lista todas as apólices registradas no repositório.
      *
-     * @return Uma lista de apólices.
+     * @return Uma lista somente leitura de apólices.
      */
     List<Apolice> listarApolices();
 
+    /**
+     * Lista as apólices em páginas, em ordem crescente de número da apólice.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de apólices na página.
+     * @return A página de apólices.
+     * @throws IllegalArgumentException Se o tamanho não for positivo ou o cursor for inválido.
+     */
+    Pagina<Apolice> listarApolices(String cursor, int tamanho);
+
     /**
      * Atualiza as informações de uma apólice existente no repositório de dados.
      *
@@ -48,4 +60,50 @@ public interface ApoliceDao {
      * @param numeroApolice O número da apólice a ser removida.
      */
     void removerApolice(String numeroApolice);
+
+    /**
+     * Busca todas as apólices de um cliente pelo CPF.
+     *
+     * @param cpf O CPF do cliente titular das apólices.
+     * @return Lista de apólices do cliente (vazia se nenhuma for encontrada).
+     */
+    List<Apolice> buscarApolicesPorCpf(String cpf);
+
+    /**
+     * Busca todas as apólices que cobrem o veículo com a placa informada.
+     * A comparação da placa não diferencia maiúsculas de minúsculas.
+     *
+     * @param placa A placa do veículo coberto.
+     * @return Lista de apólices do veículo (vazia se nenhuma for encontrada).
+     */
+    List<Apolice> buscarApolicesPorPlaca(String placa);
+
+    /**
+     * Busca as apólices cuja data de início está dentro do período informado (inclusive).
+     *
+     * @param inicio A data inicial do período.
+     * @param fim A data final do período.
+     * @return Lista de apólices emitidas no período, ordenada pela data de início quando suportado.
+     */
+    List<Apolice> buscarApolicesPorPeriodo(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Retorna um fluxo preguiçoso com as apólices cuja data de início está dentro do período
+     * informado (inclusive). Os elementos são produzidos sob demanda, sem materializar uma lista.
+     * O repositório não deve ser modificado enquanto o fluxo estiver sendo consumido.
+     *
+     * @param inicio A data inicial do período.
+     * @param fim A data final do período.
+     * @return Fluxo de apólices emitidas no período.
+     */
+    Stream<Apolice> streamApolicesPorPeriodo(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Busca as apólices cuja data de término está dentro do período informado (inclusive).
+     *
+     * @param de A data inicial do período.
+     * @param ate A data final do período.
+     * @return Lista de apólices que vencem no período, ordenada pela data de término quando suportado.
+     */
+    List<Apolice> buscarApolicesVencendoEntre(LocalDate de, LocalDate ate);
 }
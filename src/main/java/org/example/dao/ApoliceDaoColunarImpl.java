@@ -0,0 +1,121 @@
+package org.example.dao;
+
+import org.example.model.Apolice;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de ApoliceDao que mantém um ArmazemColunarApolices em sincronia com o DAO.
+ * Todas as operações são delegadas ao DAO decorado; inclusões, atualizações e remoções
+ * também são refletidas nas colunas do armazém analítico, disponível em {@link #getArmazem()}.
+ *
+ * @since 1.2
+ * @version 1.3
+ */
+public class ApoliceDaoColunarImpl implements ApoliceDao {
+
+    private final ApoliceDao delegado;
+    private final ArmazemColunarApolices armazem;
+
+    /**
+     * Cria o decorador e carrega no armazém as apólices já existentes no DAO decorado.
+     * O prêmio das colunas é o valor do seguro do veículo, sem desconto do cliente.
+     *
+     * @param delegado O DAO de apólices a ser decorado.
+     */
+    public ApoliceDaoColunarImpl(ApoliceDao delegado) {
+        this(delegado, new ArmazemColunarApolices());
+    }
+
+    /**
+     * Cria o decorador com a função de prêmio informada e carrega no armazém as apólices já
+     * existentes no DAO decorado.
+     *
+     * @param delegado O DAO de apólices a ser decorado.
+     * @param calculoPremio A função que calcula o prêmio de uma apólice na gravação.
+     * @throws IllegalArgumentException Se a função for nula.
+     */
+    public ApoliceDaoColunarImpl(ApoliceDao delegado, ToDoubleFunction<Apolice> calculoPremio) {
+        this(delegado, new ArmazemColunarApolices(calculoPremio));
+    }
+
+    private ApoliceDaoColunarImpl(ApoliceDao delegado, ArmazemColunarApolices armazem) {
+        this.delegado = delegado;
+        this.armazem = armazem;
+        for (Apolice apolice : delegado.listarApolices()) {
+            armazem.gravar(apolice);
+        }
+    }
+
+    /**
+     * Obtém o armazém colunar mantido por este DAO.
+     *
+     * @return O armazém analítico das apólices.
+     */
+    public ArmazemColunarApolices getArmazem() {
+        return armazem;
+    }
+
+    @Override
+    public void adicionarApolice(Apolice apolice) {
+        delegado.adicionarApolice(apolice);
+        armazem.gravar(apolice);
+    }
+
+    @Override
+    public Apolice buscarApolicePorNumero(String numeroApolice) {
+        return delegado.buscarApolicePorNumero(numeroApolice);
+    }
+
+    @Override
+    public List<Apolice> listarApolices() {
+        return delegado.listarApolices();
+    }
+
+    @Override
+    public Pagina<Apolice> listarApolices(String cursor, int tamanho) {
+        return delegado.listarApolices(cursor, tamanho);
+    }
+
+    @Override
+    public void atualizarApolice(Apolice apolice) {
+        delegado.atualizarApolice(apolice);
+        if (delegado.buscarApolicePorNumero(apolice.getNumeroApolice()) != null) {
+            armazem.gravar(apolice);  // Só grava se a apólice existia no DAO
+        }
+    }
+
+    @Override
+    public void removerApolice(String numeroApolice) {
+        delegado.removerApolice(numeroApolice);
+        armazem.remover(numeroApolice);
+    }
+
+    @Override
+    public List<Apolice> buscarApolicesPorCpf(String cpf) {
+        return delegado.buscarApolicesPorCpf(cpf);
+    }
+
+    @Override
+    public List<Apolice> buscarApolicesPorPlaca(String placa) {
+        return delegado.buscarApolicesPorPlaca(placa);
+    }
+
+    @Override
+    public List<Apolice> buscarApolicesPorPeriodo(LocalDate inicio, LocalDate fim) {
+        return delegado.buscarApolicesPorPeriodo(inicio, fim);
+    }
+
+    @Override
+    public Stream<Apolice> streamApolicesPorPeriodo(LocalDate inicio, LocalDate fim) {
+        return delegado.streamApolicesPorPeriodo(inicio, fim);
+    }
+
+    @Override
+    public List<Apolice> buscarApolicesVencendoEntre(LocalDate de, LocalDate ate) {
+        return delegado.buscarApolicesVencendoEntre(de, ate);
+    }
+}
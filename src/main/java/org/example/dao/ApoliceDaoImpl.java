@@ -1,15 +1,21 @@
 package org.example.dao;
 
 import org.example.model.Apolice;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementação da interface ApoliceDao, utilizando uma lista em memória
  * para armazenar as apólices. Simula um repositório de dados onde as apólices são persistidas.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.5
  */
 public class ApoliceDaoImpl implements ApoliceDao {
 
@@ -42,14 +48,55 @@ public class ApoliceDaoImpl implements ApoliceDao {
         return null;  // Se não encontrada, retorna null
     }
 
+    // Ordem da paginação: número da apólice
+    private static final Comparator<Apolice> POR_NUMERO = Comparator.comparing(Apolice::getNumeroApolice);
+
     /**
      * Lista todas as apólices registradas.
      *
-     * @return Uma lista de apólices.
+     * @return Uma visão somente leitura da lista de apólices.
      */
     @Override
     public List<Apolice> listarApolices() {
-        return apolices;
+        return Collections.unmodifiableList(apolices);  // Visão sem cópia; a lista interna não é exposta
+    }
+
+    /**
+     * Lista as apólices em páginas, em ordem crescente de número.
+     * Como a lista não é ordenada, cada página percorre todas as apólices guardando apenas as
+     * menores chaves posteriores ao cursor, com memória proporcional ao tamanho da página;
+     * para grandes volumes, ApoliceDaoIndexadoImpl lê cada página diretamente de um índice ordenado.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de apólices na página.
+     * @return A página de apólices.
+     */
+    @Override
+    public Pagina<Apolice> listarApolices(String cursor, int tamanho) {
+        Paginacao.validarTamanho(tamanho);
+        String depoisDe = cursor == null ? null : Paginacao.decodificar(Paginacao.APOLICES, cursor);
+        // Heap de máximo com até tamanho + 1 apólices: a excedente indica que há uma próxima página
+        PriorityQueue<Apolice> menores = new PriorityQueue<>(POR_NUMERO.reversed());
+        for (Apolice apolice : apolices) {
+            String numero = apolice.getNumeroApolice();
+            if (numero == null || (depoisDe != null && numero.compareTo(depoisDe) <= 0)) {
+                continue;
+            }
+            if (menores.size() <= tamanho) {
+                menores.add(apolice);
+            } else if (numero.compareTo(menores.peek().getNumeroApolice()) < 0) {
+                menores.poll();
+                menores.add(apolice);
+            }
+        }
+        boolean temProxima = menores.size() > tamanho;
+        if (temProxima) {
+            menores.poll();
+        }
+        List<Apolice> itens = new ArrayList<>(menores);
+        itens.sort(POR_NUMERO);
+        String proximo = temProxima ? Paginacao.codificar(Paginacao.APOLICES, itens.get(itens.size() - 1).getNumeroApolice()) : null;
+        return new Pagina<>(itens, proximo);
     }
 
     /**
@@ -78,4 +125,78 @@ public class ApoliceDaoImpl implements ApoliceDao {
             apolices.remove(apolice);  // Remove a apólice se encontrada
         }
     }
+
+    /**
+     * Busca todas as apólices de um cliente pelo CPF, percorrendo a lista.
+     *
+     * @param cpf O CPF do cliente titular das apólices.
+     * @return Lista de apólices do cliente.
+     */
+    @Override
+    public List<Apolice> buscarApolicesPorCpf(String cpf) {
+        List<Apolice> resultado = new ArrayList<>();
+        for (Apolice apolice : apolices) {
+            if (apolice.getCliente() != null && cpf.equals(apolice.getCliente().getCpf())) {
+                resultado.add(apolice);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca todas as apólices de um veículo pela placa, percorrendo a lista.
+     *
+     * @param placa A placa do veículo coberto.
+     * @return Lista de apólices do veículo.
+     */
+    @Override
+    public List<Apolice> buscarApolicesPorPlaca(String placa) {
+        List<Apolice> resultado = new ArrayList<>();
+        for (Apolice apolice : apolices) {
+            if (apolice.getVeiculo() != null && placa.equalsIgnoreCase(apolice.getVeiculo().getPlaca())) {
+                resultado.add(apolice);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca as apólices emitidas no período, percorrendo a lista.
+     *
+     * @param inicio A data inicial do período.
+     * @param fim A data final do período.
+     * @return Lista de apólices emitidas no período.
+     */
+    @Override
+    public List<Apolice> buscarApolicesPorPeriodo(LocalDate inicio, LocalDate fim) {
+        return streamApolicesPorPeriodo(inicio, fim).collect(Collectors.toList());
+    }
+
+    /**
+     * Retorna um fluxo preguiçoso que filtra a lista pelas apólices emitidas no período.
+     *
+     * @param inicio A data inicial do período.
+     * @param fim A data final do período.
+     * @return Fluxo de apólices emitidas no período.
+     */
+    @Override
+    public Stream<Apolice> streamApolicesPorPeriodo(LocalDate inicio, LocalDate fim) {
+        return apolices.stream()
+                .filter(apolice -> !apolice.getDataInicio().isBefore(inicio) && !apolice.getDataInicio().isAfter(fim));
+    }
+
+    /**
+     * Busca as apólices que vencem no período, percorrendo a lista.
+     *
+     * @param de A data inicial do período.
+     * @param ate A data final do período.
+     * @return Lista de apólices que vencem no período.
+     */
+    @Override
+    public List<Apolice> buscarApolicesVencendoEntre(LocalDate de, LocalDate ate) {
+        return apolices.stream()
+                .filter(apolice -> apolice.getDataTermino() != null
+                        && !apolice.getDataTermino().isBefore(de) && !apolice.getDataTermino().isAfter(ate))
+                .collect(Collectors.toList());
+    }
 }
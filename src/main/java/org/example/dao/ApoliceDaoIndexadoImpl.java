@@ -0,0 +1,274 @@
+package org.example.dao;
+
+import org.example.model.Apolice;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Implementação da interface ApoliceDao baseada em índices de hash.
+ * O índice primário mapeia o número da apólice para a apólice, tornando busca, atualização
+ * e remoção operações O(1). Índices secundários mapeiam o CPF do cliente e a placa do veículo
+ * para as respectivas apólices, e um índice ordenado (TreeMap) pela data de início permite
+ * consultas por período em tempo logarítmico mais o tamanho do resultado. Um IndiceVencimento
+ * faz o mesmo pela data de término, para a busca de apólices que vencem em breve. Um índice
+ * ordenado pelo número da apólice atende a listagem paginada.
+ *
+ * As chaves secundárias são registradas no momento da indexação, de modo que uma apólice
+ * alterada fora do DAO (por exemplo, troca de veículo) é reindexada corretamente na próxima
+ * chamada a {@link #atualizarApolice(Apolice)}.
+ *
+ * @since 1.1
+ * @version 1.3
+ */
+public class ApoliceDaoIndexadoImpl implements ApoliceDao {
+
+    // Índice primário: número da apólice -> entrada indexada (mantém a ordem de inserção)
+    private final Map<String, Entrada> porNumero = new LinkedHashMap<>();
+
+    // Índices secundários: CPF / placa normalizada -> (número da apólice -> apólice)
+    private final Map<String, Map<String, Apolice>> porCpf = new HashMap<>();
+    private final Map<String, Map<String, Apolice>> porPlaca = new HashMap<>();
+
+    // Índice ordenado: data de início -> (número da apólice -> apólice)
+    private final NavigableMap<LocalDate, Map<String, Apolice>> porInicio = new TreeMap<>();
+
+    // Índice de vencimento: data de término -> apólices
+    private final IndiceVencimento<Apolice> porTermino = new IndiceVencimento<>();
+
+    // Índice ordenado pelo número da apólice, usado na paginação
+    private final NavigableMap<String, Apolice> ordenadas = new TreeMap<>();
+
+    /**
+     * Adiciona uma nova apólice ao repositório, indexando-a por número, CPF e placa.
+     * Se já existir uma apólice com o mesmo número, ela é substituída.
+     *
+     * @param apolice A apólice a ser adicionada.
+     */
+    @Override
+    public void adicionarApolice(Apolice apolice) {
+        Entrada anterior = porNumero.remove(apolice.getNumeroApolice());
+        if (anterior != null) {
+            desindexar(anterior);
+        }
+        Entrada entrada = new Entrada(apolice);
+        porNumero.put(apolice.getNumeroApolice(), entrada);
+        indexar(entrada);
+    }
+
+    /**
+     * Busca uma apólice pelo número em tempo constante.
+     *
+     * @param numeroApolice O número da apólice a ser buscada.
+     * @return A apólice encontrada ou null se não for encontrada.
+     */
+    @Override
+    public Apolice buscarApolicePorNumero(String numeroApolice) {
+        Entrada entrada = porNumero.get(numeroApolice);
+        return entrada != null ? entrada.apolice : null;
+    }
+
+    /**
+     * Lista todas as apólices registradas, na ordem de inserção.
+     *
+     * @return Uma nova lista somente leitura com as apólices.
+     */
+    @Override
+    public List<Apolice> listarApolices() {
+        List<Apolice> resultado = new ArrayList<>(porNumero.size());
+        for (Entrada entrada : porNumero.values()) {
+            resultado.add(entrada.apolice);
+        }
+        return Collections.unmodifiableList(resultado);
+    }
+
+    /**
+     * Lista as apólices em páginas, lendo cada página diretamente do índice ordenado por número.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de apólices na página.
+     * @return A página de apólices.
+     */
+    @Override
+    public Pagina<Apolice> listarApolices(String cursor, int tamanho) {
+        return Paginacao.paginar(ordenadas, Paginacao.APOLICES, cursor, tamanho);
+    }
+
+    /**
+     * Atualiza uma apólice existente e reindexa suas chaves secundárias.
+     * Se a apólice não existir, nenhum dado é alterado.
+     *
+     * @param apolice A apólice com as novas informações.
+     */
+    @Override
+    public void atualizarApolice(Apolice apolice) {
+        Entrada existente = porNumero.get(apolice.getNumeroApolice());
+        if (existente != null) {
+            desindexar(existente);
+            Entrada entrada = new Entrada(apolice);
+            porNumero.put(apolice.getNumeroApolice(), entrada);  // Mantém a posição original na ordem
+            indexar(entrada);
+        }
+    }
+
+    /**
+     * Remove uma apólice pelo número, removendo também suas entradas nos índices secundários.
+     *
+     * @param numeroApolice O número da apólice a ser removida.
+     */
+    @Override
+    public void removerApolice(String numeroApolice) {
+        Entrada entrada = porNumero.remove(numeroApolice);
+        if (entrada != null) {
+            desindexar(entrada);
+        }
+    }
+
+    /**
+     * Busca as apólices de um cliente pelo índice de CPF.
+     *
+     * @param cpf O CPF do cliente titular das apólices.
+     * @return Lista de apólices do cliente.
+     */
+    @Override
+    public List<Apolice> buscarApolicesPorCpf(String cpf) {
+        return copiar(porCpf.get(cpf));
+    }
+
+    /**
+     * Busca as apólices de um veículo pelo índice de placa (sem diferenciar maiúsculas de minúsculas).
+     *
+     * @param placa A placa do veículo coberto.
+     * @return Lista de apólices do veículo.
+     */
+    @Override
+    public List<Apolice> buscarApolicesPorPlaca(String placa) {
+        return copiar(porPlaca.get(normalizarPlaca(placa)));
+    }
+
+    /**
+     * Busca as apólices emitidas no período pelo índice de data de início.
+     *
+     * @param inicio A data inicial do período.
+     * @param fim A data final do período.
+     * @return Lista de apólices emitidas no período, ordenada pela data de início.
+     */
+    @Override
+    public List<Apolice> buscarApolicesPorPeriodo(LocalDate inicio, LocalDate fim) {
+        List<Apolice> resultado = new ArrayList<>();
+        for (Map<String, Apolice> apolicesNoDia : faixa(inicio, fim).values()) {
+            resultado.addAll(apolicesNoDia.values());
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna um fluxo preguiçoso sobre o índice de data de início; somente as apólices
+     * do período são visitadas.
+     *
+     * @param inicio A data inicial do período.
+     * @param fim A data final do período.
+     * @return Fluxo de apólices emitidas no período, ordenado pela data de início.
+     */
+    @Override
+    public Stream<Apolice> streamApolicesPorPeriodo(LocalDate inicio, LocalDate fim) {
+        return faixa(inicio, fim).values().stream()
+                .flatMap(apolicesNoDia -> apolicesNoDia.values().stream());
+    }
+
+    /**
+     * Busca as apólices que vencem no período pelo índice de vencimento.
+     *
+     * @param de A data inicial do período.
+     * @param ate A data final do período.
+     * @return Lista de apólices que vencem no período, ordenada pela data de término.
+     */
+    @Override
+    public List<Apolice> buscarApolicesVencendoEntre(LocalDate de, LocalDate ate) {
+        return porTermino.vencendoEntre(de, ate);
+    }
+
+    // Métodos auxiliares de manutenção dos índices secundários
+
+    private NavigableMap<LocalDate, Map<String, Apolice>> faixa(LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            return Collections.emptyNavigableMap();
+        }
+        return porInicio.subMap(inicio, true, fim, true);
+    }
+
+    private void indexar(Entrada entrada) {
+        String numero = entrada.apolice.getNumeroApolice();
+        if (entrada.dataInicio != null) {
+            porInicio.computeIfAbsent(entrada.dataInicio, d -> new LinkedHashMap<>()).put(numero, entrada.apolice);
+        }
+        if (entrada.cpf != null) {
+            porCpf.computeIfAbsent(entrada.cpf, k -> new LinkedHashMap<>()).put(numero, entrada.apolice);
+        }
+        if (entrada.placa != null) {
+            porPlaca.computeIfAbsent(entrada.placa, k -> new LinkedHashMap<>()).put(numero, entrada.apolice);
+        }
+        porTermino.registrar(numero, entrada.apolice, entrada.apolice.getDataTermino());
+        if (numero != null) {
+            ordenadas.put(numero, entrada.apolice);
+        }
+    }
+
+    private void desindexar(Entrada entrada) {
+        String numero = entrada.apolice.getNumeroApolice();
+        removerDoIndice(porCpf, entrada.cpf, numero);
+        removerDoIndice(porPlaca, entrada.placa, numero);
+        removerDoIndice(porInicio, entrada.dataInicio, numero);
+        porTermino.remover(numero);
+        if (numero != null) {
+            ordenadas.remove(numero);
+        }
+    }
+
+    private static <K> void removerDoIndice(Map<K, Map<String, Apolice>> indice, K chave, String numero) {
+        if (chave == null) {
+            return;
+        }
+        Map<String, Apolice> apolices = indice.get(chave);
+        if (apolices != null) {
+            apolices.remove(numero);
+            if (apolices.isEmpty()) {
+                indice.remove(chave);  // Evita acumular entradas vazias no índice
+            }
+        }
+    }
+
+    private static List<Apolice> copiar(Map<String, Apolice> apolices) {
+        return apolices == null ? Collections.emptyList() : new ArrayList<>(apolices.values());
+    }
+
+    private static String normalizarPlaca(String placa) {
+        return placa == null ? null : placa.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Apólice indexada junto com as chaves secundárias e a data de início vigentes no momento da indexação.
+     */
+    private static final class Entrada {
+        final Apolice apolice;
+        final String cpf;
+        final String placa;
+        final LocalDate dataInicio;
+
+        Entrada(Apolice apolice) {
+            this.apolice = apolice;
+            this.dataInicio = apolice.getDataInicio();
+            this.cpf = apolice.getCliente() != null ? apolice.getCliente().getCpf() : null;
+            this.placa = apolice.getVeiculo() != null ? normalizarPlaca(apolice.getVeiculo().getPlaca()) : null;
+        }
+    }
+}
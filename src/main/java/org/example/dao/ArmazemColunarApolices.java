@@ -0,0 +1,351 @@
+package org.example.dao;
+
+import org.example.model.Apolice;
+import org.example.model.TipoVeiculo;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Armazém analítico colunar (struct-of-arrays) das apólices.
+ * Cada atributo usado em agregações é mantido em um array primitivo próprio: datas de início
+ * e término em dias desde a época (int, limitados ao intervalo de int), valor do prêmio (double),
+ * ordinal do TipoVeiculo, ano do veículo e código da UF do cliente (dicionário). As varreduras
+ * percorrem arrays contíguos, sem seguir referências para Cliente, Veiculo ou LocalDate.
+ *
+ * O prêmio é calculado na gravação da apólice pela função de prêmio do armazém; por padrão, o
+ * valor do seguro do veículo pela tabela de tarifas vigente, sem desconto do cliente. Uma
+ * recarga da tabela não recalcula as apólices já gravadas.
+ *
+ * As apólices ocupam posições densas 0..tamanho-1; a remoção move a última posição para a
+ * lacuna. O armazém é mantido em sincronia por ApoliceDaoColunarImpl e, assim como os DAOs
+ * de apólice, não é thread-safe.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class ArmazemColunarApolices {
+
+    private static final int SEM_DATA = Integer.MIN_VALUE;  // Datas válidas ficam acima deste valor
+    private static final int CAPACIDADE_INICIAL = 1024;
+    private static final TipoVeiculo[] TIPOS = TipoVeiculo.values();
+
+    // Colunas
+    private int[] inicio = new int[CAPACIDADE_INICIAL];
+    private int[] termino = new int[CAPACIDADE_INICIAL];
+    private double[] premio = new double[CAPACIDADE_INICIAL];
+    private byte[] tipo = new byte[CAPACIDADE_INICIAL];
+    private short[] anoVeiculo = new short[CAPACIDADE_INICIAL];
+    private short[] uf = new short[CAPACIDADE_INICIAL];
+    private String[] numeros = new String[CAPACIDADE_INICIAL];
+    private int tamanho;
+
+    // Número da apólice -> posição nas colunas
+    private final Map<String, Integer> posicoes = new HashMap<>();
+
+    // Dicionário de UFs: código -> sigla e sigla -> código
+    private final Map<String, Short> codigosUf = new HashMap<>();
+    private String[] siglasUf = new String[32];
+
+    private final ToDoubleFunction<Apolice> calculoPremio;
+
+    /**
+     * Cria um armazém cujo prêmio é o valor do seguro do veículo (Veiculo.calcularValorSeguro),
+     * sem desconto do cliente; apólices sem veículo têm prêmio 0.
+     */
+    public ArmazemColunarApolices() {
+        this(apolice -> apolice.getVeiculo() == null ? 0 : apolice.getVeiculo().calcularValorSeguro());
+    }
+
+    /**
+     * Cria um armazém com a função de prêmio informada (por exemplo, o calcularValor de um
+     * ApoliceService, que aplica o desconto do cliente).
+     *
+     * @param calculoPremio A função que calcula o prêmio de uma apólice na gravação.
+     * @throws IllegalArgumentException Se a função for nula.
+     */
+    public ArmazemColunarApolices(ToDoubleFunction<Apolice> calculoPremio) {
+        if (calculoPremio == null) {
+            throw new IllegalArgumentException("A função de prêmio não pode ser nula.");
+        }
+        this.calculoPremio = calculoPremio;
+    }
+
+    /**
+     * Grava (insere ou substitui) os atributos analíticos de uma apólice.
+     *
+     * @param apolice A apólice a ser gravada.
+     */
+    public void gravar(Apolice apolice) {
+        Integer existente = posicoes.get(apolice.getNumeroApolice());
+        int i;
+        if (existente != null) {
+            i = existente;
+        } else {
+            garantirCapacidade(tamanho + 1);
+            i = tamanho++;
+            posicoes.put(apolice.getNumeroApolice(), i);
+            numeros[i] = apolice.getNumeroApolice();
+        }
+        inicio[i] = diaEpoca(apolice.getDataInicio());
+        termino[i] = diaEpoca(apolice.getDataTermino());
+        premio[i] = calculoPremio.applyAsDouble(apolice);
+        if (apolice.getVeiculo() != null) {
+            tipo[i] = apolice.getVeiculo().getTipo() == null ? -1 : (byte) apolice.getVeiculo().getTipo().ordinal();
+            anoVeiculo[i] = (short) apolice.getVeiculo().getAno();
+        } else {
+            tipo[i] = -1;
+            anoVeiculo[i] = 0;
+        }
+        boolean temUf = apolice.getCliente() != null && apolice.getCliente().getEndereco() != null;
+        uf[i] = codificarUf(temUf ? apolice.getCliente().getEndereco().getUf() : null);
+    }
+
+    /**
+     * Remove uma apólice do armazém.
+     *
+     * @param numeroApolice O número da apólice a ser removida.
+     */
+    public void remover(String numeroApolice) {
+        Integer removida = posicoes.remove(numeroApolice);
+        if (removida == null) {
+            return;
+        }
+        int i = removida;
+        int ultima = --tamanho;
+        if (i != ultima) {  // Move a última posição para a lacuna, mantendo as colunas densas
+            inicio[i] = inicio[ultima];
+            termino[i] = termino[ultima];
+            premio[i] = premio[ultima];
+            tipo[i] = tipo[ultima];
+            anoVeiculo[i] = anoVeiculo[ultima];
+            uf[i] = uf[ultima];
+            numeros[i] = numeros[ultima];
+            posicoes.put(numeros[i], i);
+        }
+        numeros[ultima] = null;
+    }
+
+    /**
+     * Remove todas as apólices do armazém.
+     */
+    public void limpar() {
+        posicoes.clear();
+        Arrays.fill(numeros, 0, tamanho, null);
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna a quantidade de apólices no armazém.
+     *
+     * @return O número de apólices.
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    // Consultas analíticas. Os períodos se referem à data de início da apólice, inclusive nas extremidades.
+
+    /**
+     * Conta as apólices emitidas no período.
+     *
+     * @param de Data inicial do período.
+     * @param ate Data final do período.
+     * @return A quantidade de apólices.
+     */
+    public long contarEntre(LocalDate de, LocalDate ate) {
+        int a = limitar(de.toEpochDay());
+        int b = limitar(ate.toEpochDay());
+        long total = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int d = inicio[i];
+            total += (d >= a && d <= b) ? 1 : 0;
+        }
+        return total;
+    }
+
+    /**
+     * Soma o prêmio das apólices emitidas no período.
+     *
+     * @param de Data inicial do período.
+     * @param ate Data final do período.
+     * @return O prêmio total.
+     */
+    public double totalPremioEntre(LocalDate de, LocalDate ate) {
+        int a = limitar(de.toEpochDay());
+        int b = limitar(ate.toEpochDay());
+        double total = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int d = inicio[i];
+            if (d >= a && d <= b) {
+                total += premio[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Conta as apólices emitidas no período agrupadas por tipo de veículo.
+     *
+     * @param de Data inicial do período.
+     * @param ate Data final do período.
+     * @return Mapa do tipo de veículo para a quantidade de apólices (todos os tipos presentes).
+     */
+    public Map<TipoVeiculo, Long> contarPorTipoEntre(LocalDate de, LocalDate ate) {
+        int a = limitar(de.toEpochDay());
+        int b = limitar(ate.toEpochDay());
+        long[] contagem = new long[TIPOS.length];
+        for (int i = 0; i < tamanho; i++) {
+            int d = inicio[i];
+            int t = tipo[i];
+            if (d >= a && d <= b && t >= 0) {
+                contagem[t]++;
+            }
+        }
+        Map<TipoVeiculo, Long> resultado = new EnumMap<>(TipoVeiculo.class);
+        for (TipoVeiculo t : TIPOS) {
+            resultado.put(t, contagem[t.ordinal()]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Soma o prêmio das apólices emitidas no período agrupado por tipo de veículo.
+     *
+     * @param de Data inicial do período.
+     * @param ate Data final do período.
+     * @return Mapa do tipo de veículo para o prêmio total (todos os tipos presentes).
+     */
+    public Map<TipoVeiculo, Double> totalPremioPorTipoEntre(LocalDate de, LocalDate ate) {
+        int a = limitar(de.toEpochDay());
+        int b = limitar(ate.toEpochDay());
+        double[] soma = new double[TIPOS.length];
+        for (int i = 0; i < tamanho; i++) {
+            int d = inicio[i];
+            int t = tipo[i];
+            if (d >= a && d <= b && t >= 0) {
+                soma[t] += premio[i];
+            }
+        }
+        Map<TipoVeiculo, Double> resultado = new EnumMap<>(TipoVeiculo.class);
+        for (TipoVeiculo t : TIPOS) {
+            resultado.put(t, soma[t.ordinal()]);
+        }
+        return resultado;
+    }
+
+    /**
+     * Soma o prêmio das apólices emitidas no período agrupado pela UF do cliente.
+     *
+     * @param de Data inicial do período.
+     * @param ate Data final do período.
+     * @return Mapa da sigla da UF para o prêmio total (apenas UFs com apólices no período).
+     */
+    public Map<String, Double> totalPremioPorUfEntre(LocalDate de, LocalDate ate) {
+        int a = limitar(de.toEpochDay());
+        int b = limitar(ate.toEpochDay());
+        double[] soma = new double[codigosUf.size() + 1];  // Posição 0: apólices sem UF
+        boolean[] presente = new boolean[soma.length];
+        for (int i = 0; i < tamanho; i++) {
+            int d = inicio[i];
+            if (d >= a && d <= b) {
+                soma[uf[i]] += premio[i];
+                presente[uf[i]] = true;
+            }
+        }
+        Map<String, Double> resultado = new LinkedHashMap<>();
+        for (int codigo = 1; codigo < soma.length; codigo++) {
+            if (presente[codigo]) {
+                resultado.put(siglasUf[codigo], soma[codigo]);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula o ano médio de fabricação dos veículos das apólices emitidas no período.
+     *
+     * @param de Data inicial do período.
+     * @param ate Data final do período.
+     * @return O ano médio, ou 0 se não houver apólices com veículo no período.
+     */
+    public double anoMedioVeiculosEntre(LocalDate de, LocalDate ate) {
+        int a = limitar(de.toEpochDay());
+        int b = limitar(ate.toEpochDay());
+        long soma = 0;
+        long quantidade = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int d = inicio[i];
+            if (d >= a && d <= b && tipo[i] >= 0) {
+                soma += anoVeiculo[i];
+                quantidade++;
+            }
+        }
+        return quantidade == 0 ? 0 : (double) soma / quantidade;
+    }
+
+    /**
+     * Conta as apólices vigentes em uma data (início até a data, inclusive, e término após a data).
+     *
+     * @param data A data de referência.
+     * @return A quantidade de apólices vigentes.
+     */
+    public long contarVigentesEm(LocalDate data) {
+        int d = limitar(data.toEpochDay());
+        long total = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int ini = inicio[i];
+            total += (ini != SEM_DATA && ini <= d && termino[i] > d) ? 1 : 0;
+        }
+        return total;
+    }
+
+    // Métodos auxiliares
+
+    private short codificarUf(String sigla) {
+        if (sigla == null) {
+            return 0;
+        }
+        Short codigo = codigosUf.get(sigla);
+        if (codigo == null) {
+            if (codigosUf.size() + 1 > Short.MAX_VALUE) {
+                throw new IllegalStateException("Dicionário de UFs excedeu a capacidade.");
+            }
+            codigo = (short) (codigosUf.size() + 1);
+            codigosUf.put(sigla, codigo);
+            if (codigo >= siglasUf.length) {
+                siglasUf = Arrays.copyOf(siglasUf, siglasUf.length * 2);
+            }
+            siglasUf[codigo] = sigla;
+        }
+        return codigo;
+    }
+
+    private void garantirCapacidade(int minimo) {
+        if (minimo <= inicio.length) {
+            return;
+        }
+        int capacidade = Math.max(minimo, inicio.length * 2);
+        inicio = Arrays.copyOf(inicio, capacidade);
+        termino = Arrays.copyOf(termino, capacidade);
+        premio = Arrays.copyOf(premio, capacidade);
+        tipo = Arrays.copyOf(tipo, capacidade);
+        anoVeiculo = Arrays.copyOf(anoVeiculo, capacidade);
+        uf = Arrays.copyOf(uf, capacidade);
+        numeros = Arrays.copyOf(numeros, capacidade);
+    }
+
+    private static int diaEpoca(LocalDate data) {
+        return data == null ? SEM_DATA : limitar(data.toEpochDay());
+    }
+
+    // LocalDate.MIN e MAX não cabem em int: o dia é limitado ao intervalo, acima de SEM_DATA
+    private static int limitar(long diaEpoca) {
+        return (int) Math.max(SEM_DATA + 1L, Math.min(Integer.MAX_VALUE, diaEpoca));
+    }
+}
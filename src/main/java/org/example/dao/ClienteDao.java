@@ -1,6 +1,7 @@
 package org.example.dao;
 
 import org.example.model.Cliente;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -9,7 +10,7 @@ import java.util.Map;
  * Também define um método para verificar se o cliente tem sinistros.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.4
  */
 public interface ClienteDao {
 
@@ -20,6 +21,15 @@ public interface ClienteDao {
      */
     void adicionarCliente(Cliente cliente);
 
+    /**
+     * Adiciona um lote de clientes ao sistema.
+     * Equivale a chamar {@link #adicionarCliente(Cliente)} para cada cliente, na ordem da coleção,
+     * mas permite que a implementação faça a inclusão de uma só vez.
+     *
+     * @param clientes Os clientes a serem adicionados.
+     */
+    void adicionarClientes(Collection<Cliente> clientes);
+
     /**
      * Busca um cliente pelo CPF.
      *
@@ -31,10 +41,20 @@ public interface ClienteDao {
     /**
      * Retorna todos os clientes cadastrados no sistema.
      *
-     * @return Um mapa contendo todos os clientes, onde a chave é o CPF e o valor é o objeto Cliente.
+     * @return Um mapa somente leitura contendo todos os clientes, onde a chave é o CPF e o valor é o objeto Cliente.
      */
     Map<String, Cliente> listarClientes();
 
+    /**
+     * Lista os clientes em páginas, em ordem crescente de CPF.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de clientes na página.
+     * @return A página de clientes.
+     * @throws IllegalArgumentException Se o tamanho não for positivo ou o cursor for inválido.
+     */
+    Pagina<Cliente> listarClientes(String cursor, int tamanho);
+
     /**
      * Atualiza os dados de um cliente.
      *
@@ -56,4 +76,12 @@ public interface ClienteDao {
      * @return true se o cliente tem sinistro, false caso contrário.
      */
     boolean verificarSinistros(String cpf);
+
+    /**
+     * Obtém o índice de histórico de sinistros consultado por {@link #verificarSinistros(String)},
+     * cujos avisos permitem invalidar dados derivados do histórico (como descontos em cache).
+     *
+     * @return O índice de sinistros, ou null se o DAO não usar um índice.
+     */
+    IndiceSinistrosCliente getIndiceSinistros();
 }
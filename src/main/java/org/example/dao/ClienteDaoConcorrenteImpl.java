@@ -0,0 +1,164 @@
+package org.example.dao;
+
+import org.example.model.Cliente;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Implementação thread-safe da interface ClienteDao.
+ * Utiliza um ConcurrentHashMap, cujo travamento é feito por compartimento (bin) da tabela,
+ * permitindo que leituras e escritas de CPFs diferentes avancem em paralelo sem um lock global.
+ * As leituras nunca bloqueiam, inclusive a verificação de sinistros pelo IndiceSinistrosCliente.
+ *
+ * Para a listagem paginada, um índice ordenado por CPF (ConcurrentSkipListMap) é alterado dentro
+ * do compute do ConcurrentHashMap, sob o travamento do compartimento do CPF, de modo que os dois
+ * mapas não divergem mesmo com escritas concorrentes no mesmo CPF.
+ *
+ * @since 1.1
+ * @version 1.5
+ */
+public class ClienteDaoConcorrenteImpl implements ClienteDao {
+
+    // Mapa concorrente: a chave é o CPF e o valor é o objeto Cliente
+    private final Map<String, Cliente> clientes = new ConcurrentHashMap<>();
+
+    // Índice ordenado por CPF, usado na paginação
+    private final ConcurrentNavigableMap<String, Cliente> ordenados = new ConcurrentSkipListMap<>();
+
+    // Histórico de sinistros por CPF, alimentado pelo serviço de sinistros
+    private final IndiceSinistrosCliente indiceSinistros;
+
+    /**
+     * Construtor que cria o DAO com um índice de sinistros próprio (vazio).
+     */
+    public ClienteDaoConcorrenteImpl() {
+        this(new IndiceSinistrosCliente());
+    }
+
+    /**
+     * Construtor que cria o DAO consultando o índice de sinistros informado.
+     *
+     * @param indiceSinistros O índice de histórico de sinistros por CPF.
+     */
+    public ClienteDaoConcorrenteImpl(IndiceSinistrosCliente indiceSinistros) {
+        this.indiceSinistros = indiceSinistros;
+    }
+
+    /**
+     * Adiciona um novo cliente ao sistema.
+     *
+     * @param cliente O cliente a ser adicionado.
+     */
+    @Override
+    public void adicionarCliente(Cliente cliente) {
+        clientes.compute(cliente.getCpf(), (cpf, anterior) -> {
+            ordenados.put(cpf, cliente);
+            return cliente;
+        });
+    }
+
+    /**
+     * Adiciona um lote de clientes ao sistema.
+     * Cada inclusão é atômica, mas o lote não é: leitores concorrentes podem ver parte dele.
+     *
+     * @param clientes Os clientes a serem adicionados.
+     */
+    @Override
+    public void adicionarClientes(Collection<Cliente> clientes) {
+        for (Cliente cliente : clientes) {
+            adicionarCliente(cliente);
+        }
+    }
+
+    /**
+     * Busca um cliente pelo CPF sem bloquear.
+     *
+     * @param cpf O CPF do cliente.
+     * @return O cliente correspondente ou null se não encontrado.
+     */
+    @Override
+    public Cliente buscarClientePorCpf(String cpf) {
+        return clientes.get(cpf);
+    }
+
+    /**
+     * Retorna uma cópia somente leitura dos clientes cadastrados.
+     * A cópia é feita sem bloquear escritores concorrentes e nunca lança ConcurrentModificationException,
+     * mas é fracamente consistente, não um retrato instantâneo: escritas concorrentes à cópia podem
+     * aparecer nela ou não, de forma independente para cada CPF. Alterações posteriores à cópia
+     * não são refletidas.
+     *
+     * @return Um mapa imutável contendo os clientes, onde a chave é o CPF.
+     */
+    @Override
+    public Map<String, Cliente> listarClientes() {
+        return Collections.unmodifiableMap(new HashMap<>(clientes));
+    }
+
+    /**
+     * Lista os clientes em páginas, sem bloquear escritores concorrentes.
+     * A página reflete o índice ordenado no momento da leitura de cada item.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de clientes na página.
+     * @return A página de clientes.
+     */
+    @Override
+    public Pagina<Cliente> listarClientes(String cursor, int tamanho) {
+        return Paginacao.paginar(ordenados, Paginacao.CLIENTES, cursor, tamanho);
+    }
+
+    /**
+     * Atualiza os dados de um cliente de forma atômica.
+     * Se o cliente não existir, nenhum dado é alterado.
+     *
+     * @param cliente Cliente com as informações atualizadas.
+     */
+    @Override
+    public void atualizarCliente(Cliente cliente) {
+        clientes.computeIfPresent(cliente.getCpf(), (cpf, anterior) -> {  // Só substitui se o CPF já estiver presente
+            ordenados.put(cpf, cliente);
+            return cliente;
+        });
+    }
+
+    /**
+     * Remove um cliente pelo CPF.
+     *
+     * @param cpf CPF do cliente a ser removido.
+     */
+    @Override
+    public void removerCliente(String cpf) {
+        clientes.computeIfPresent(cpf, (chave, anterior) -> {
+            ordenados.remove(chave);
+            return null;
+        });
+    }
+
+    /**
+     * Verifica se o cliente tem algum sinistro associado, consultando o índice em O(1).
+     *
+     * @param cpf CPF do cliente a ser verificado.
+     * @return true se o cliente tem sinistro, false caso contrário.
+     */
+    @Override
+    public boolean verificarSinistros(String cpf) {
+        return indiceSinistros.possuiSinistros(cpf);
+    }
+
+    /**
+     * Obtém o índice de histórico de sinistros consultado por {@link #verificarSinistros(String)}.
+     *
+     * @return O índice de sinistros do DAO.
+     */
+    @Override
+    public IndiceSinistrosCliente getIndiceSinistros() {
+        return indiceSinistros;
+    }
+}
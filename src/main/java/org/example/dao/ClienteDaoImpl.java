@@ -1,22 +1,53 @@
 package org.example.dao;
 
 import org.example.model.Cliente;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * Implementação da interface ClienteDao.
  * Utiliza um HashMap para armazenar os clientes simulando a persistência de dados.
- * Inclui um método para verificar sinistros associados ao cliente.
+ * Inclui um método para verificar sinistros associados ao cliente, respondido pelo
+ * índice de histórico de sinistros (IndiceSinistrosCliente).
+ *
+ * Um índice ordenado por CPF (TreeMap) é mantido junto ao HashMap para a listagem paginada;
+ * as buscas por CPF continuam sendo feitas no HashMap.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.5
  */
 public class ClienteDaoImpl implements ClienteDao {
 
     // Simulação de um banco de dados usando HashMap
     private Map<String, Cliente> clientes = new HashMap<>();
 
+    // Índice ordenado por CPF, usado na paginação (clientes sem CPF não são paginados)
+    private final NavigableMap<String, Cliente> ordenados = new TreeMap<>();
+
+    // Histórico de sinistros por CPF, alimentado pelo serviço de sinistros
+    private final IndiceSinistrosCliente indiceSinistros;
+
+    /**
+     * Construtor que cria o DAO com um índice de sinistros próprio (vazio).
+     */
+    public ClienteDaoImpl() {
+        this(new IndiceSinistrosCliente());
+    }
+
+    /**
+     * Construtor que cria o DAO consultando o índice de sinistros informado.
+     * O mesmo índice deve ser repassado ao SinistroServiceImpl para ser mantido atualizado.
+     *
+     * @param indiceSinistros O índice de histórico de sinistros por CPF.
+     */
+    public ClienteDaoImpl(IndiceSinistrosCliente indiceSinistros) {
+        this.indiceSinistros = indiceSinistros;
+    }
+
     /**
      * Adiciona um novo cliente ao sistema.
      *
@@ -25,6 +56,20 @@ public class ClienteDaoImpl implements ClienteDao {
     @Override
     public void adicionarCliente(Cliente cliente) {
         clientes.put(cliente.getCpf(), cliente);  // Adiciona o cliente ao HashMap
+        indexar(cliente);
+    }
+
+    /**
+     * Adiciona um lote de clientes ao sistema.
+     *
+     * @param clientes Os clientes a serem adicionados.
+     */
+    @Override
+    public void adicionarClientes(Collection<Cliente> clientes) {
+        for (Cliente cliente : clientes) {
+            this.clientes.put(cliente.getCpf(), cliente);
+            indexar(cliente);
+        }
     }
 
     /**
@@ -41,11 +86,23 @@ public class ClienteDaoImpl implements ClienteDao {
     /**
      * Retorna todos os clientes cadastrados no sistema.
      *
-     * @return Um mapa contendo todos os clientes, onde a chave é o CPF e o valor é o objeto Cliente.
+     * @return Uma visão somente leitura do mapa de clientes, onde a chave é o CPF e o valor é o objeto Cliente.
      */
     @Override
     public Map<String, Cliente> listarClientes() {
-        return clientes;  // Retorna o mapa completo de clientes
+        return Collections.unmodifiableMap(clientes);  // Visão sem cópia; o mapa interno não é exposto
+    }
+
+    /**
+     * Lista os clientes em páginas, percorrendo o índice ordenado por CPF a partir do cursor.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de clientes na página.
+     * @return A página de clientes.
+     */
+    @Override
+    public Pagina<Cliente> listarClientes(String cursor, int tamanho) {
+        return Paginacao.paginar(ordenados, Paginacao.CLIENTES, cursor, tamanho);
     }
 
     /**
@@ -57,6 +114,7 @@ public class ClienteDaoImpl implements ClienteDao {
     public void atualizarCliente(Cliente cliente) {
         if (clientes.containsKey(cliente.getCpf())) {
             clientes.put(cliente.getCpf(), cliente);  // Atualiza o cliente no HashMap
+            indexar(cliente);
         }
     }
 
@@ -68,18 +126,35 @@ public class ClienteDaoImpl implements ClienteDao {
     @Override
     public void removerCliente(String cpf) {
         clientes.remove(cpf);  // Remove o cliente pelo CPF
+        if (cpf != null) {
+            ordenados.remove(cpf);
+        }
     }
 
     /**
-     * Verifica se o cliente tem algum sinistro associado.
+     * Verifica se o cliente tem algum sinistro associado, consultando o índice em O(1).
      *
      * @param cpf CPF do cliente a ser verificado.
      * @return true se o cliente tem sinistro, false caso contrário.
      */
     @Override
     public boolean verificarSinistros(String cpf) {
-        // Neste exemplo, assumimos que o sinistro está associado ao cliente de forma simples
-        // Aqui, o cliente poderia ter uma lista de sinistros. Para simplicidade, retornamos false.
-        return false;  // Implementação fictícia, ajustar conforme necessário
+        return indiceSinistros.possuiSinistros(cpf);
+    }
+
+    /**
+     * Obtém o índice de histórico de sinistros consultado por {@link #verificarSinistros(String)}.
+     *
+     * @return O índice de sinistros do DAO.
+     */
+    @Override
+    public IndiceSinistrosCliente getIndiceSinistros() {
+        return indiceSinistros;
+    }
+
+    private void indexar(Cliente cliente) {
+        if (cliente.getCpf() != null) {
+            ordenados.put(cliente.getCpf(), cliente);
+        }
     }
 }
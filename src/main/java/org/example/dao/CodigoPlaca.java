@@ -0,0 +1,82 @@
+package org.example.dao;
+
+/**
+ * Utilitário que compacta placas de veículos brasileiras em um valor long.
+ * Tanto o formato antigo (AAA-9999) quanto o Mercosul (AAA9A99) têm sete caracteres
+ * alfanuméricos; cada caractere é codificado em 6 bits (dígitos 1-10, letras 11-36),
+ * totalizando 42 bits. O hífen é ignorado e letras minúsculas são tratadas como maiúsculas,
+ * de modo que "abc-1234" e "ABC1234" geram o mesmo código.
+ *
+ * A codificação não aloca objetos e nunca produz o valor 0, que é reservado para placas inválidas.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public final class CodigoPlaca {
+
+    /** Valor retornado para placas que não seguem o formato de sete caracteres alfanuméricos. */
+    public static final long INVALIDA = 0L;
+
+    private static final int CARACTERES = 7;
+    private static final int BITS = 6;
+
+    private CodigoPlaca() {
+    }
+
+    /**
+     * Codifica uma placa em um long.
+     *
+     * @param placa A placa a ser codificada (com ou sem hífen, em qualquer caixa).
+     * @return O código da placa, ou {@link #INVALIDA} se a placa não tiver sete caracteres alfanuméricos.
+     */
+    public static long codificar(CharSequence placa) {
+        if (placa == null) {
+            return INVALIDA;
+        }
+        long codigo = 0;
+        int lidos = 0;
+        for (int i = 0; i < placa.length(); i++) {
+            char c = placa.charAt(i);
+            int valor;
+            if (c >= '0' && c <= '9') {
+                valor = c - '0' + 1;
+            } else if (c >= 'A' && c <= 'Z') {
+                valor = c - 'A' + 11;
+            } else if (c >= 'a' && c <= 'z') {
+                valor = c - 'a' + 11;
+            } else if (c == '-') {
+                continue;
+            } else {
+                return INVALIDA;
+            }
+            if (++lidos > CARACTERES) {
+                return INVALIDA;
+            }
+            codigo = (codigo << BITS) | valor;
+        }
+        return lidos == CARACTERES ? codigo : INVALIDA;
+    }
+
+    /**
+     * Decodifica um código de placa para o texto normalizado (maiúsculas, sem hífen).
+     *
+     * @param codigo O código gerado por {@link #codificar(CharSequence)}.
+     * @return A placa normalizada.
+     * @throws IllegalArgumentException Se o código for inválido.
+     */
+    public static String decodificar(long codigo) {
+        if (codigo == INVALIDA) {
+            throw new IllegalArgumentException("Código de placa inválido.");
+        }
+        char[] placa = new char[CARACTERES];
+        for (int i = CARACTERES - 1; i >= 0; i--) {
+            int valor = (int) (codigo & 0x3F);
+            if (valor < 1 || valor > 36) {
+                throw new IllegalArgumentException("Código de placa inválido: " + codigo);
+            }
+            placa[i] = valor <= 10 ? (char) ('0' + valor - 1) : (char) ('A' + valor - 11);
+            codigo >>>= BITS;
+        }
+        return new String(placa);
+    }
+}
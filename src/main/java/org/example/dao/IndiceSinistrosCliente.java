@@ -0,0 +1,178 @@
+package org.example.dao;
+
+import org.example.model.Sinistro;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Índice incremental do histórico de sinistros por cliente.
+ * Mantém, para cada CPF, a quantidade de sinistros e a data do sinistro mais recente,
+ * permitindo que ClienteDao.verificarSinistros responda em O(1) no caminho de precificação,
+ * sem percorrer os sinistros cadastrados.
+ *
+ * O índice é alimentado pelo serviço de sinistros a cada registro, atualização e remoção.
+ * Cada sinistro é contabilizado pelo seu número, com o CPF e a data vigentes no momento do
+ * registro, de forma que alterações posteriores no objeto não corrompem as contagens.
+ * As escritas são serializadas; as leituras não bloqueiam.
+ *
+ * Ouvintes registrados em {@link #adicionarOuvinte(Consumer)} são avisados, com o CPF, sempre que
+ * o histórico de um cliente muda, o que permite invalidar dados derivados (como descontos em cache);
+ * {@link #removerOuvinte(Consumer)} os desliga, para que o índice não retenha quem já foi descartado.
+ *
+ * @since 1.2
+ * @version 1.2
+ */
+public class IndiceSinistrosCliente {
+
+    // Resumo publicado por CPF (imutável), lido sem bloqueio
+    private final Map<String, Resumo> resumos = new ConcurrentHashMap<>();
+
+    // Estado de manutenção, acessado apenas sob o lock do índice
+    private final Map<String, Contabilizado> porNumero = new HashMap<>();
+    private final Map<String, TreeMap<LocalDate, Integer>> datasPorCpf = new HashMap<>();
+
+    // Avisados com o CPF a cada alteração de histórico
+    private final List<Consumer<String>> ouvintes = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registra um ouvinte de alterações no histórico de sinistros.
+     * O ouvinte é chamado com o CPF afetado, na thread que alterou o índice e sob o lock do índice;
+     * portanto, deve ser rápido e não deve alterar o índice.
+     *
+     * @param ouvinte O ouvinte a ser avisado.
+     */
+    public void adicionarOuvinte(Consumer<String> ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    /**
+     * Remove um ouvinte registrado; a mesma instância passada a {@link #adicionarOuvinte(Consumer)}
+     * deve ser informada.
+     *
+     * @param ouvinte O ouvinte a ser removido.
+     */
+    public void removerOuvinte(Consumer<String> ouvinte) {
+        ouvintes.remove(ouvinte);
+    }
+
+    /**
+     * Contabiliza um sinistro no histórico do cliente associado.
+     * Se o número do sinistro já estiver contabilizado, a contagem anterior é substituída.
+     *
+     * @param sinistro O sinistro registrado ou atualizado.
+     */
+    public synchronized void registrar(Sinistro sinistro) {
+        remover(sinistro.getNumeroSinistro());
+        if (sinistro.getCliente() == null || sinistro.getCliente().getCpf() == null) {
+            return;  // Sinistro sem cliente não afeta o histórico
+        }
+        Contabilizado contabilizado = new Contabilizado(sinistro.getCliente().getCpf(), sinistro.getDataEvento());
+        porNumero.put(sinistro.getNumeroSinistro(), contabilizado);
+        TreeMap<LocalDate, Integer> datas = datasPorCpf.computeIfAbsent(contabilizado.cpf, k -> new TreeMap<>());
+        datas.merge(chaveData(contabilizado.data), 1, Integer::sum);
+        publicar(contabilizado.cpf, datas);
+    }
+
+    /**
+     * Remove um sinistro do histórico do cliente ao qual ele foi contabilizado.
+     *
+     * @param numeroSinistro O número do sinistro removido.
+     */
+    public synchronized void remover(String numeroSinistro) {
+        Contabilizado contabilizado = porNumero.remove(numeroSinistro);
+        if (contabilizado == null) {
+            return;
+        }
+        TreeMap<LocalDate, Integer> datas = datasPorCpf.get(contabilizado.cpf);
+        LocalDate chave = chaveData(contabilizado.data);
+        if (datas.merge(chave, -1, Integer::sum) == 0) {
+            datas.remove(chave);
+        }
+        if (datas.isEmpty()) {
+            datasPorCpf.remove(contabilizado.cpf);
+        }
+        publicar(contabilizado.cpf, datas);
+    }
+
+    /**
+     * Verifica se o cliente possui algum sinistro registrado.
+     *
+     * @param cpf CPF do cliente.
+     * @return true se o cliente tem sinistro, false caso contrário.
+     */
+    public boolean possuiSinistros(String cpf) {
+        return cpf != null && resumos.containsKey(cpf);
+    }
+
+    /**
+     * Retorna a quantidade de sinistros registrados para o cliente.
+     *
+     * @param cpf CPF do cliente.
+     * @return A quantidade de sinistros (0 se não houver).
+     */
+    public int quantidadeSinistros(String cpf) {
+        Resumo resumo = cpf == null ? null : resumos.get(cpf);
+        return resumo == null ? 0 : resumo.quantidade;
+    }
+
+    /**
+     * Retorna a data do sinistro mais recente do cliente.
+     *
+     * @param cpf CPF do cliente.
+     * @return A data do último sinistro, ou null se o cliente não tiver sinistros com data informada.
+     */
+    public LocalDate dataUltimoSinistro(String cpf) {
+        Resumo resumo = cpf == null ? null : resumos.get(cpf);
+        return resumo == null ? null : resumo.ultimaData;
+    }
+
+    // Métodos auxiliares
+
+    private void publicar(String cpf, TreeMap<LocalDate, Integer> datas) {
+        if (datas.isEmpty()) {
+            resumos.remove(cpf);
+        } else {
+            int quantidade = 0;
+            for (int ocorrencias : datas.values()) {
+                quantidade += ocorrencias;
+            }
+            LocalDate ultima = datas.lastKey();
+            resumos.put(cpf, new Resumo(quantidade, ultima.equals(LocalDate.MIN) ? null : ultima));
+        }
+        for (Consumer<String> ouvinte : ouvintes) {
+            ouvinte.accept(cpf);
+        }
+    }
+
+    // Sinistros sem data são agrupados sob LocalDate.MIN, que nunca é a "última data" se houver outra
+    private static LocalDate chaveData(LocalDate data) {
+        return data == null ? LocalDate.MIN : data;
+    }
+
+    private static final class Contabilizado {
+        final String cpf;
+        final LocalDate data;
+
+        Contabilizado(String cpf, LocalDate data) {
+            this.cpf = cpf;
+            this.data = data;
+        }
+    }
+
+    private static final class Resumo {
+        final int quantidade;
+        final LocalDate ultimaData;
+
+        Resumo(int quantidade, LocalDate ultimaData) {
+            this.quantidade = quantidade;
+            this.ultimaData = ultimaData;
+        }
+    }
+}
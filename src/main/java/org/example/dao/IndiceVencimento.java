@@ -0,0 +1,101 @@
+package org.example.dao;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Índice de vencimento: organiza itens (apólices, seguros) pela data de término.
+ * Os itens são agrupados por dia em um mapa ordenado (TreeMap), de modo que a consulta
+ * "tudo que vence entre duas datas" custa tempo logarítmico mais o tamanho do resultado,
+ * independentemente do tamanho da carteira.
+ *
+ * A data é registrada no momento da indexação: um item cuja data de término for alterada deve
+ * ser registrado novamente para ser reposicionado. Itens sem data de término não são indexados.
+ * Assim como os DAOs que o utilizam, não é thread-safe.
+ *
+ * @param <T> O tipo dos itens indexados.
+ * @since 1.2
+ * @version 1.0
+ */
+public class IndiceVencimento<T> {
+
+    // Data de término -> (chave -> item), na ordem de registro dentro do dia
+    private final NavigableMap<LocalDate, Map<String, T>> porData = new TreeMap<>();
+
+    // Chave -> data de término sob a qual o item está indexado
+    private final Map<String, LocalDate> datas = new HashMap<>();
+
+    /**
+     * Registra (ou reposiciona) um item no índice.
+     *
+     * @param chave A chave única do item (por exemplo, o número da apólice).
+     * @param item O item.
+     * @param dataTermino A data de término do item; se for nula, o item é apenas removido do índice.
+     */
+    public void registrar(String chave, T item, LocalDate dataTermino) {
+        remover(chave);
+        if (dataTermino == null) {
+            return;
+        }
+        porData.computeIfAbsent(dataTermino, d -> new LinkedHashMap<>()).put(chave, item);
+        datas.put(chave, dataTermino);
+    }
+
+    /**
+     * Remove um item do índice.
+     *
+     * @param chave A chave do item.
+     */
+    public void remover(String chave) {
+        LocalDate data = datas.remove(chave);
+        if (data == null) {
+            return;
+        }
+        Map<String, T> doDia = porData.get(data);
+        doDia.remove(chave);
+        if (doDia.isEmpty()) {
+            porData.remove(data);  // Evita acumular dias vazios no índice
+        }
+    }
+
+    /**
+     * Busca os itens com data de término dentro do período (inclusive nas extremidades).
+     *
+     * @param de A data inicial do período.
+     * @param ate A data final do período.
+     * @return Uma nova lista com os itens, ordenada pela data de término (vazia se de for posterior a ate).
+     */
+    public List<T> vencendoEntre(LocalDate de, LocalDate ate) {
+        List<T> resultado = new ArrayList<>();
+        if (de.isAfter(ate)) {
+            return resultado;
+        }
+        for (Map<String, T> doDia : porData.subMap(de, true, ate, true).values()) {
+            resultado.addAll(doDia.values());
+        }
+        return resultado;
+    }
+
+    /**
+     * Remove todos os itens do índice.
+     */
+    public void limpar() {
+        porData.clear();
+        datas.clear();
+    }
+
+    /**
+     * Retorna a quantidade de itens indexados.
+     *
+     * @return O tamanho do índice.
+     */
+    public int tamanho() {
+        return datas.size();
+    }
+}
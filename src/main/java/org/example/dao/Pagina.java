@@ -0,0 +1,61 @@
+package org.example.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Página de uma listagem paginada por cursor (keyset).
+ * Os itens vêm em ordem crescente de chave (CPF, número da apólice ou número do sinistro) e o
+ * cursor de continuação é um texto opaco que deve ser repassado, sem alterações, ao pedido da
+ * página seguinte. Cada página lê apenas os seus itens, sem copiar ou expor a coleção interna do DAO.
+ *
+ * A paginação não é um retrato: itens incluídos ou removidos entre duas páginas aparecem ou
+ * deixam de aparecer conforme a sua chave esteja antes ou depois do cursor, mas os itens que
+ * não foram alterados são listados exatamente uma vez.
+ *
+ * @param <T> O tipo dos itens.
+ * @since 1.2
+ * @version 1.0
+ */
+public class Pagina<T> {
+    private final List<T> itens;
+    private final String proximoCursor;
+
+    /**
+     * Construtor que inicializa a página.
+     *
+     * @param itens Os itens da página, em ordem.
+     * @param proximoCursor O cursor da página seguinte, ou null se esta for a última.
+     */
+    public Pagina(List<T> itens, String proximoCursor) {
+        this.itens = Collections.unmodifiableList(itens);
+        this.proximoCursor = proximoCursor;
+    }
+
+    /**
+     * Obtém os itens da página.
+     *
+     * @return Lista somente leitura com os itens.
+     */
+    public List<T> getItens() {
+        return itens;
+    }
+
+    /**
+     * Obtém o cursor da página seguinte.
+     *
+     * @return O cursor opaco, ou null se não houver mais itens.
+     */
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    /**
+     * Verifica se há uma página seguinte.
+     *
+     * @return true se houver mais itens depois desta página.
+     */
+    public boolean temProxima() {
+        return proximoCursor != null;
+    }
+}
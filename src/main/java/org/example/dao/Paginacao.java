@@ -0,0 +1,70 @@
+package org.example.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Funções de apoio à paginação por cursor dos DAOs.
+ * O cursor é a última chave da página, prefixada pelo tipo da listagem e codificada em Base64
+ * (URL-safe, sem preenchimento); o prefixo impede que o cursor de uma listagem seja usado em outra.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+final class Paginacao {
+
+    static final char CLIENTES = 'C';
+    static final char APOLICES = 'A';
+    static final char SINISTROS = 'S';
+
+    // Capacidade inicial máxima da lista da página, para tamanhos de página grandes demais
+    private static final int CAPACIDADE_MAXIMA = 1024;
+
+    private Paginacao() {
+    }
+
+    /**
+     * Lê uma página de um índice ordenado pela chave, a partir da chave seguinte à do cursor.
+     */
+    static <T> Pagina<T> paginar(NavigableMap<String, T> ordenados, char tipo, String cursor, int tamanho) {
+        validarTamanho(tamanho);
+        NavigableMap<String, T> restantes = cursor == null ? ordenados : ordenados.tailMap(decodificar(tipo, cursor), false);
+        List<T> itens = new ArrayList<>(Math.min(tamanho, CAPACIDADE_MAXIMA));
+        String ultima = null;
+        Iterator<Map.Entry<String, T>> iterador = restantes.entrySet().iterator();
+        while (itens.size() < tamanho && iterador.hasNext()) {
+            Map.Entry<String, T> entrada = iterador.next();
+            itens.add(entrada.getValue());
+            ultima = entrada.getKey();
+        }
+        return new Pagina<>(itens, iterador.hasNext() ? codificar(tipo, ultima) : null);
+    }
+
+    static void validarTamanho(int tamanho) {
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("O tamanho da página deve ser positivo.");
+        }
+    }
+
+    static String codificar(char tipo, String chave) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((tipo + chave).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decodificar(char tipo, String cursor) {
+        String conteudo;
+        try {
+            conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+        }
+        if (conteudo.isEmpty() || conteudo.charAt(0) != tipo) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+        }
+        return conteudo.substring(1);
+    }
+}
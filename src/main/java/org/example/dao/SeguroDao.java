@@ -1,6 +1,7 @@
 package org.example.dao;
 
 import org.example.model.Seguro;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -8,7 +9,7 @@ import java.util.List;
  * As operações CRUD (Create, Read, Update, Delete) estão definidas nesta interface.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.1
  */
 public interface SeguroDao {
 
@@ -47,4 +48,13 @@ public interface SeguroDao {
      * @param numero O número do seguro a ser removido.
      */
     void removerSeguro(String numero);
+
+    /**
+     * Busca os seguros cuja data de término está dentro do período informado (inclusive).
+     *
+     * @param de A data inicial do período.
+     * @param ate A data final do período.
+     * @return Lista de seguros que vencem no período, ordenada pela data de término.
+     */
+    List<Seguro> buscarSegurosVencendoEntre(LocalDate de, LocalDate ate);
 }
@@ -3,56 +3,89 @@ package org.example.dao;
 import org.example.dao.SeguroDao;
 import org.example.model.Seguro;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementação da interface SeguroDao, utilizando uma lista em memória
  * para armazenar os seguros. Simula a persistência de dados.
+ * Um IndiceVencimento, mantido a cada inclusão, atualização e remoção, responde à busca de
+ * seguros que vencem em um período sem percorrer a lista, e um mapa número -> posição permite
+ * buscar e atualizar um seguro sem percorrê-la; a atualização mantém a posição na lista.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.3
  */
 public class SeguroDaoImpl implements SeguroDao {
 
     // Lista que simula o armazenamento de seguros em memória
     private List<Seguro> seguros = new ArrayList<>();
 
+    // Índice de vencimento: data de término -> seguros
+    private final IndiceVencimento<Seguro> vencimentos = new IndiceVencimento<>();
+
+    // Posição na lista do primeiro seguro de cada número
+    private final Map<String, Integer> posicoes = new HashMap<>();
+
     @Override
     public void adicionarSeguro(Seguro seguro) {
         seguros.add(seguro); // Adiciona o seguro à lista
+        posicoes.putIfAbsent(seguro.getNumeroSeguro(), seguros.size() - 1);
+        vencimentos.registrar(seguro.getNumeroSeguro(), seguro, seguro.getDataTermino());
     }
 
     @Override
     public Seguro buscarSeguroPorNumero(String numero) {
-        // Busca o seguro pelo número
-        for (Seguro seguro : seguros) {
-            if (seguro.getNumeroSeguro().equals(numero)) {
-                return seguro;
-            }
-        }
-        return null; // Retorna null se não encontrado
+        int posicao = posicao(numero);
+        return posicao >= 0 ? seguros.get(posicao) : null; // Retorna null se não encontrado
     }
 
     @Override
     public List<Seguro> listarSeguros() {
-        return seguros; // Retorna todos os seguros cadastrados
+        return Collections.unmodifiableList(seguros);  // Visão sem cópia; o mapa de posições depende da lista interna
     }
 
     @Override
     public void atualizarSeguro(Seguro seguro) {
-        Seguro seguroExistente = buscarSeguroPorNumero(seguro.getNumeroSeguro());
-        if (seguroExistente != null) {
-            seguros.remove(seguroExistente);
-            seguros.add(seguro); // Substitui o seguro antigo pelo atualizado
+        int posicao = posicao(seguro.getNumeroSeguro());
+        if (posicao >= 0) {
+            if (seguros.get(posicao) != seguro) {
+                seguros.set(posicao, seguro); // Substitui o seguro antigo na mesma posição
+            }
+            // Mesma instância alterada: basta registrar a nova data de término no índice
+            vencimentos.registrar(seguro.getNumeroSeguro(), seguro, seguro.getDataTermino());
         }
     }
 
     @Override
     public void removerSeguro(String numero) {
-        Seguro seguro = buscarSeguroPorNumero(numero);
-        if (seguro != null) {
-            seguros.remove(seguro); // Remove o seguro encontrado
+        int posicao = posicao(numero);
+        if (posicao >= 0) {
+            seguros.remove(posicao); // Remove o seguro encontrado
+            vencimentos.remover(numero);
+            reindexar(); // As posições seguintes mudaram
+        }
+    }
+
+    @Override
+    public List<Seguro> buscarSegurosVencendoEntre(LocalDate de, LocalDate ate) {
+        return vencimentos.vencendoEntre(de, ate); // Custa apenas os seguros do período
+    }
+
+    // Posição do seguro com o número informado, ou -1
+    private int posicao(String numero) {
+        Integer posicao = posicoes.get(numero);
+        return posicao != null ? posicao : -1;
+    }
+
+    private void reindexar() {
+        posicoes.clear();
+        for (int i = 0; i < seguros.size(); i++) {
+            posicoes.putIfAbsent(seguros.get(i).getNumeroSeguro(), i);
         }
     }
 }
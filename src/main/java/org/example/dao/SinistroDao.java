@@ -3,6 +3,7 @@ package org.example.dao;
 import org.example.model.Sinistro;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Interface que define os métodos para a persistência de sinistros no sistema.
@@ -10,7 +11,7 @@ import java.util.List;
  * possibilitando a adição, busca, remoção, listagem e atualização de sinistros.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.4
  */
 public interface SinistroDao {
 
@@ -50,6 +51,16 @@ public interface SinistroDao {
      */
     List<Sinistro> listarSinistros();
 
+    /**
+     * Lista os sinistros em páginas, em ordem crescente de número do sinistro.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de sinistros na página.
+     * @return A página de sinistros.
+     * @throws IllegalArgumentException Se o tamanho não for positivo ou o cursor for inválido.
+     */
+    Pagina<Sinistro> listarSinistros(String cursor, int tamanho);
+
     /**
      * Busca uma lista de sinistros ocorridos em uma data específica.
      *
@@ -57,4 +68,32 @@ public interface SinistroDao {
      * @return Lista de sinistros ocorridos na data fornecida.
      */
     List<Sinistro> buscarSinistrosPorData(LocalDate data);
+
+    /**
+     * Busca os sinistros ocorridos dentro de um intervalo de datas, inclusive nas extremidades.
+     * O resultado é ordenado pela data do evento.
+     *
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return Lista de sinistros ocorridos no intervalo (vazia se inicio for posterior a fim).
+     */
+    List<Sinistro> buscarSinistrosEntre(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Percorre os sinistros ocorridos entre duas datas (inclusive) como um fluxo preguiçoso,
+     * sem montar a lista do resultado. O DAO não deve ser alterado enquanto o fluxo é consumido.
+     *
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return Um fluxo dos sinistros do intervalo, ordenado pela data do evento quando suportado.
+     */
+    Stream<Sinistro> streamSinistrosEntre(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Percorre todos os sinistros como um fluxo preguiçoso, sem montar a lista do resultado.
+     * O DAO não deve ser alterado enquanto o fluxo é consumido.
+     *
+     * @return Um fluxo de todos os sinistros.
+     */
+    Stream<Sinistro> streamSinistros();
 }
@@ -3,23 +3,42 @@ package org.example.dao;
 import org.example.model.Sinistro;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 /**
  * Implementação da interface SinistroDao.
  * Esta classe utiliza um HashMap para armazenar os sinistros em memória,
  * simulando a persistência de dados sem o uso de banco de dados.
  *
+ * Um índice ordenado por data do evento (TreeMap) é mantido junto ao HashMap,
+ * permitindo consultas por data e por intervalo de datas em tempo logarítmico
+ * mais o tamanho do resultado. Um segundo índice, ordenado pelo número do sinistro, atende a
+ * listagem paginada sem copiar os sinistros.
+ *
  * @since 1.0
- * @version 1.1
+ * @version 1.5
  */
 public class SinistroDaoImpl implements SinistroDao {
 
     // HashMap para armazenar os sinistros. A chave é o número do sinistro.
     private Map<String, Sinistro> sinistros = new HashMap<>();
 
+    // Índice ordenado: data do evento -> (número do sinistro -> sinistro)
+    private final NavigableMap<LocalDate, Map<String, Sinistro>> porData = new TreeMap<>();
+
+    // Data sob a qual cada sinistro foi indexado, para reindexar mesmo se o objeto for alterado externamente
+    private final Map<String, LocalDate> datasIndexadas = new HashMap<>();
+
+    // Índice ordenado pelo número do sinistro, usado na paginação
+    private final NavigableMap<String, Sinistro> porNumero = new TreeMap<>();
+
     /**
      * Adiciona um sinistro ao HashMap, utilizando o número do sinistro como chave.
      *
@@ -28,6 +47,7 @@ public class SinistroDaoImpl implements SinistroDao {
     @Override
     public void adicionarSinistro(Sinistro sinistro) {
         sinistros.put(sinistro.getNumeroSinistro(), sinistro);
+        reindexar(sinistro);
     }
 
     /**
@@ -48,7 +68,12 @@ public class SinistroDaoImpl implements SinistroDao {
      */
     @Override
     public void removerSinistro(String numero) {
-        sinistros.remove(numero);
+        if (sinistros.remove(numero) != null) {
+            desindexar(numero);
+            if (numero != null) {
+                porNumero.remove(numero);
+            }
+        }
     }
 
     /**
@@ -60,6 +85,7 @@ public class SinistroDaoImpl implements SinistroDao {
     @Override
     public void atualizarSinistro(Sinistro sinistro) {
         sinistros.put(sinistro.getNumeroSinistro(), sinistro);  // Sobrescreve o sinistro existente
+        reindexar(sinistro);
     }
 
     /**
@@ -73,19 +99,118 @@ public class SinistroDaoImpl implements SinistroDao {
     }
 
     /**
-     * Busca uma lista de sinistros ocorridos em uma data específica.
+     * Lista os sinistros em páginas, lendo cada página diretamente do índice ordenado por número.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de sinistros na página.
+     * @return A página de sinistros.
+     */
+    @Override
+    public Pagina<Sinistro> listarSinistros(String cursor, int tamanho) {
+        return Paginacao.paginar(porNumero, Paginacao.SINISTROS, cursor, tamanho);
+    }
+
+    /**
+     * Busca uma lista de sinistros ocorridos em uma data específica, consultando o índice por data.
      *
      * @param data A data dos sinistros a serem buscados.
      * @return Lista de sinistros ocorridos na data fornecida.
      */
     @Override
     public List<Sinistro> buscarSinistrosPorData(LocalDate data) {
-        List<Sinistro> sinistrosNaData = new ArrayList<>();
-        for (Sinistro sinistro : sinistros.values()) {
-            if (sinistro.getDataEvento().isEqual(data)) {
-                sinistrosNaData.add(sinistro);
+        Map<String, Sinistro> sinistrosNaData = porData.get(data);
+        return sinistrosNaData == null ? new ArrayList<>() : new ArrayList<>(sinistrosNaData.values());
+    }
+
+    /**
+     * Busca os sinistros ocorridos entre duas datas (inclusive), consultando o índice por data.
+     *
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return Lista de sinistros ocorridos no intervalo, ordenada pela data do evento.
+     */
+    @Override
+    public List<Sinistro> buscarSinistrosEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            return Collections.emptyList();
+        }
+        List<Sinistro> resultado = new ArrayList<>();
+        for (Map<String, Sinistro> sinistrosNaData : porData.subMap(inicio, true, fim, true).values()) {
+            resultado.addAll(sinistrosNaData.values());
+        }
+        return resultado;
+    }
+
+    /**
+     * Percorre os sinistros do intervalo diretamente sobre o índice por data, sem copiá-los.
+     *
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return Um fluxo dos sinistros do intervalo, ordenado pela data do evento.
+     */
+    @Override
+    public Stream<Sinistro> streamSinistrosEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            return Stream.empty();
+        }
+        return porData.subMap(inicio, true, fim, true).values().stream()
+                .flatMap(sinistrosNaData -> sinistrosNaData.values().stream());
+    }
+
+    /**
+     * Percorre todos os sinistros diretamente sobre o mapa, sem copiá-los.
+     *
+     * @return Um fluxo de todos os sinistros.
+     */
+    @Override
+    public Stream<Sinistro> streamSinistros() {
+        return sinistros.values().stream();
+    }
+
+    /**
+     * Copia para o destino os sinistros das datas entre desde e fim (inclusive), parando ao final da
+     * primeira data que completar o limite. Permite percorrer o índice por data em blocos curtos,
+     * cada um lido sob o lock de um DAO externo.
+     *
+     * @param desde A primeira data a copiar.
+     * @param fim A data final do intervalo.
+     * @param limite Quantidade de sinistros a partir da qual o bloco é encerrado.
+     * @param destino A lista que recebe os sinistros do bloco.
+     * @return A próxima data do intervalo ainda não copiada, ou null se o intervalo terminou.
+     */
+    LocalDate copiarBlocoEntre(LocalDate desde, LocalDate fim, int limite, List<Sinistro> destino) {
+        for (Map.Entry<LocalDate, Map<String, Sinistro>> entrada : porData.subMap(desde, true, fim, true).entrySet()) {
+            if (destino.size() >= limite) {
+                return entrada.getKey();
+            }
+            destino.addAll(entrada.getValue().values());
+        }
+        return null;
+    }
+
+    // Métodos auxiliares de manutenção dos índices
+
+    private void reindexar(Sinistro sinistro) {
+        String numero = sinistro.getNumeroSinistro();
+        desindexar(numero);
+        if (numero != null) {
+            porNumero.put(numero, sinistro);
+        }
+        LocalDate data = sinistro.getDataEvento();
+        if (data != null) {
+            porData.computeIfAbsent(data, d -> new LinkedHashMap<>()).put(numero, sinistro);
+            datasIndexadas.put(numero, data);
+        }
+    }
+
+    private void desindexar(String numero) {
+        LocalDate data = datasIndexadas.remove(numero);
+        if (data != null) {
+            Map<String, Sinistro> sinistrosNaData = porData.get(data);
+            sinistrosNaData.remove(numero);
+            if (sinistrosNaData.isEmpty()) {
+                porData.remove(data);  // Remove datas sem sinistros do índice
             }
         }
-        return sinistrosNaData;
     }
 }
@@ -0,0 +1,728 @@
+package org.example.dao;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Combustivel;
+import org.example.model.Cor;
+import org.example.model.Endereco;
+import org.example.model.Sinistro;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+import org.example.model.VeiculoCompacto;
+import org.example.tarifa.EstrategiaPrecificacao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+
+/**
+ * Implementação durável da interface SinistroDao baseada em um journal somente-anexação.
+ * Cada inclusão, atualização e remoção é gravada como um registro compacto em um arquivo
+ * mapeado em memória; o estado em memória (incluindo o índice por data) é mantido por um
+ * SinistroDaoImpl interno.
+ *
+ * Formato do arquivo: cabeçalho de 8 bytes (assinatura e versão) seguido de registros
+ * [tamanho int][crc32 int][conteúdo]; o combustível do veículo é gravado como código do enum
+ * Combustivel (-1 para nulo), seguido da descrição original quando é OUTRO. Um veículo sem tipo
+ * (código -1) é gravado com o valor do seu seguro, que o veículo reconstruído na leitura devolve.
+ *
+ * Na abertura o journal é reproduzido do início até o primeiro registro vazio ou com tamanho ou
+ * CRC inválido (escrita interrompida), reconstruindo o mapa em memória. Um registro com tamanho
+ * e CRC válidos é dado confirmado: se não puder ser decodificado, a abertura falha com
+ * IllegalStateException, sem descartar os registros seguintes.
+ *
+ * A sincronização com o disco (fsync) é feita em grupo: os registros são acumulados e forçados
+ * ao disco a cada {@code tamanhoLote} operações, em {@link #sincronizar()} e em {@link #close()}.
+ * Com tamanhoLote igual a 1 toda operação é durável ao retornar; com 0 apenas as chamadas
+ * explícitas sincronizam.
+ *
+ * Os fluxos de {@link #streamSinistros()} e {@link #streamSinistrosEntre(LocalDate, LocalDate)}
+ * são lidos em blocos de chaves consecutivas, cada bloco copiado sob o lock do DAO. Escritas
+ * concorrentes são permitidas durante o consumo: cada bloco é consistente, e o fluxo reflete as
+ * alterações feitas nas chaves ainda não lidas.
+ *
+ * @since 1.2
+ * @version 1.8
+ */
+public class SinistroDaoJournalImpl implements SinistroDao, AutoCloseable {
+
+    private static final int ASSINATURA = 0x534A524E;  // "SJRN"
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 8;
+    private static final int TAMANHO_CABECALHO_REGISTRO = 8;  // [tamanho int][crc32 int]
+    private static final int TAMANHO_SEGMENTO = 64 * 1024 * 1024;  // Crescimento do arquivo em blocos de 64 MiB
+
+    private static final byte OP_ADICIONAR = 1;
+    private static final byte OP_ATUALIZAR = 2;
+    private static final byte OP_REMOVER = 3;
+
+    private static final int NULO = 0xFFFF;  // Marcador de texto nulo no comprimento (unsigned short)
+    private static final int TAMANHO_BLOCO_LEITURA = 1024;  // Sinistros copiados por aquisição do lock nos fluxos
+
+    private static final TipoVeiculo[] TIPOS = TipoVeiculo.values();
+    private static final Cor[] CORES = Cor.values();
+    private static final Combustivel[] COMBUSTIVEIS = Combustivel.values();
+
+    private final SinistroDaoImpl memoria = new SinistroDaoImpl();
+    private final FileChannel canal;
+    private final int tamanhoLote;
+    private final CRC32 crc = new CRC32();
+
+    private MappedByteBuffer mapa;
+    private ByteBuffer registro = ByteBuffer.allocate(4096);  // Buffer reutilizado para montar cada registro
+    private int posicao;           // Próxima posição livre no journal
+    private int inicioPendente;    // Início dos registros ainda não sincronizados
+    private int pendentes;         // Quantidade de registros ainda não sincronizados
+
+    /**
+     * Abre (ou cria) o journal sincronizando com o disco a cada 64 operações.
+     *
+     * @param arquivo Caminho do arquivo de journal.
+     */
+    public SinistroDaoJournalImpl(Path arquivo) {
+        this(arquivo, 64);
+    }
+
+    /**
+     * Abre (ou cria) o journal e reconstrói os sinistros em memória a partir dele.
+     *
+     * @param arquivo Caminho do arquivo de journal.
+     * @param tamanhoLote Número de operações acumuladas antes de cada fsync (0 desativa o fsync automático).
+     * @throws IllegalArgumentException Se tamanhoLote for negativo ou o arquivo não for um journal válido.
+     * @throws IllegalStateException Se um registro íntegro do journal não puder ser decodificado.
+     * @throws UncheckedIOException Se ocorrer erro de E/S ao abrir o arquivo.
+     */
+    public SinistroDaoJournalImpl(Path arquivo, int tamanhoLote) {
+        if (tamanhoLote < 0) {
+            throw new IllegalArgumentException("O tamanho do lote de sincronização não pode ser negativo.");
+        }
+        this.tamanhoLote = tamanhoLote;
+        try {
+            this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Journal maior que 2 GiB não é suportado: " + arquivo);
+            }
+            this.mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(tamanhoArquivo, TAMANHO_SEGMENTO));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao abrir o journal de sinistros: " + arquivo, e);
+        }
+        try {
+            if (mapa.getInt(0) == 0) {
+                mapa.putInt(0, ASSINATURA);
+                mapa.putInt(4, VERSAO);
+            } else if (mapa.getInt(0) != ASSINATURA || mapa.getInt(4) != VERSAO) {
+                throw new IllegalArgumentException("Arquivo não é um journal de sinistros válido: " + arquivo);
+            }
+            reproduzir();
+        } catch (RuntimeException e) {
+            fecharCanal(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void adicionarSinistro(Sinistro sinistro) {
+        anexar(OP_ADICIONAR, sinistro, null);
+        memoria.adicionarSinistro(sinistro);
+    }
+
+    @Override
+    public synchronized Sinistro buscarSinistroPorNumero(String numero) {
+        return memoria.buscarSinistroPorNumero(numero);
+    }
+
+    @Override
+    public synchronized void removerSinistro(String numero) {
+        if (memoria.buscarSinistroPorNumero(numero) != null) {
+            anexar(OP_REMOVER, null, numero);
+            memoria.removerSinistro(numero);
+        }
+    }
+
+    @Override
+    public synchronized void atualizarSinistro(Sinistro sinistro) {
+        anexar(OP_ATUALIZAR, sinistro, null);
+        memoria.atualizarSinistro(sinistro);
+    }
+
+    @Override
+    public synchronized List<Sinistro> listarSinistros() {
+        return memoria.listarSinistros();
+    }
+
+    @Override
+    public synchronized Pagina<Sinistro> listarSinistros(String cursor, int tamanho) {
+        return memoria.listarSinistros(cursor, tamanho);
+    }
+
+    @Override
+    public synchronized List<Sinistro> buscarSinistrosPorData(LocalDate data) {
+        return memoria.buscarSinistrosPorData(data);
+    }
+
+    @Override
+    public synchronized List<Sinistro> buscarSinistrosEntre(LocalDate inicio, LocalDate fim) {
+        return memoria.buscarSinistrosEntre(inicio, fim);
+    }
+
+    /**
+     * Percorre os sinistros do intervalo em blocos de datas consecutivas, cada um copiado sob o lock
+     * do DAO, na ordem da data do evento.
+     */
+    @Override
+    public Stream<Sinistro> streamSinistrosEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            return Stream.empty();
+        }
+        return StreamSupport.stream(new LeitorEmBlocos() {
+            private LocalDate proxima = inicio;
+
+            @Override
+            boolean carregar(List<Sinistro> bloco) {
+                synchronized (SinistroDaoJournalImpl.this) {
+                    proxima = memoria.copiarBlocoEntre(proxima, fim, TAMANHO_BLOCO_LEITURA, bloco);
+                }
+                return proxima != null;
+            }
+        }, false);
+    }
+
+    /**
+     * Percorre todos os sinistros em páginas do índice por número, cada uma copiada sob o lock do
+     * DAO, na ordem do número do sinistro.
+     */
+    @Override
+    public Stream<Sinistro> streamSinistros() {
+        return StreamSupport.stream(new LeitorEmBlocos() {
+            private String cursor;
+
+            @Override
+            boolean carregar(List<Sinistro> bloco) {
+                Pagina<Sinistro> pagina = listarSinistros(cursor, TAMANHO_BLOCO_LEITURA);
+                bloco.addAll(pagina.getItens());
+                cursor = pagina.getProximoCursor();
+                return pagina.temProxima();
+            }
+        }, false);
+    }
+
+    /**
+     * Força ao disco todos os registros ainda não sincronizados.
+     */
+    public synchronized void sincronizar() {
+        if (posicao > inicioPendente) {
+            mapa.force(inicioPendente, posicao - inicioPendente);
+        }
+        inicioPendente = posicao;
+        pendentes = 0;
+    }
+
+    /**
+     * Sincroniza os registros pendentes e fecha o arquivo de journal.
+     */
+    @Override
+    public synchronized void close() {
+        sincronizar();
+        try {
+            canal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao fechar o journal de sinistros.", e);
+        }
+    }
+
+    // Fecha o arquivo quando a abertura falha, preservando a exceção original
+    private void fecharCanal(RuntimeException falha) {
+        try {
+            canal.close();
+        } catch (IOException e) {
+            falha.addSuppressed(e);
+        }
+    }
+
+    // Gravação de registros
+
+    private void anexar(byte operacao, Sinistro sinistro, String numero) {
+        registro.clear();
+        while (true) {
+            try {
+                registro.put(operacao);
+                if (operacao == OP_REMOVER) {
+                    putTexto(numero);
+                } else {
+                    putSinistro(sinistro);
+                }
+                break;
+            } catch (BufferOverflowException e) {
+                registro = ByteBuffer.allocate(registro.capacity() * 2);  // Registro maior que o buffer: dobra e tenta de novo
+            }
+        }
+        registro.flip();
+        int tamanho = registro.remaining();
+        garantirEspaco(8 + tamanho);
+
+        crc.reset();
+        crc.update(registro.duplicate());
+        // O conteúdo e o CRC são gravados antes do tamanho, para que um registro interrompido nunca pareça completo
+        mapa.putInt(posicao + 4, (int) crc.getValue());
+        mapa.put(posicao + 8, registro, 0, tamanho);
+        mapa.putInt(posicao, tamanho);
+        posicao += 8 + tamanho;
+
+        if (tamanhoLote > 0 && ++pendentes >= tamanhoLote) {
+            sincronizar();
+        }
+    }
+
+    private void garantirEspaco(int bytes) {
+        if ((long) posicao + bytes + 4 <= mapa.capacity()) {  // Reserva 4 bytes para o marcador de fim (zero)
+            return;
+        }
+        long novoTamanho = ((long) posicao + bytes + 4 + TAMANHO_SEGMENTO - 1) / TAMANHO_SEGMENTO * TAMANHO_SEGMENTO;
+        if (novoTamanho > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Journal de sinistros atingiu o tamanho máximo de 2 GiB.");
+        }
+        sincronizar();
+        try {
+            mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, novoTamanho);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao expandir o journal de sinistros.", e);
+        }
+    }
+
+    private void putSinistro(Sinistro sinistro) {
+        putTexto(sinistro.getNumeroSinistro());
+        putData(sinistro.getDataEvento());
+        putEndereco(sinistro.getEndereco());
+        putCliente(sinistro.getCliente());
+        Apolice apolice = sinistro.getApolice();
+        registro.put((byte) (apolice == null ? 0 : 1));
+        if (apolice != null) {
+            putTexto(apolice.getNumeroApolice());
+            putCliente(apolice.getCliente());
+            putVeiculo(apolice.getVeiculo());
+            putData(apolice.getDataInicio());
+            putData(apolice.getDataTermino());
+            registro.putDouble(apolice.getValor());
+        }
+    }
+
+    private void putCliente(Cliente cliente) {
+        registro.put((byte) (cliente == null ? 0 : 1));
+        if (cliente != null) {
+            putTexto(cliente.getCpf());
+            putTexto(cliente.getNome());
+            putTexto(cliente.getTelefone());
+            putTexto(cliente.getEmail());
+            registro.putChar(cliente.getSexo());
+            putData(cliente.getDataNascimento());
+            putEndereco(cliente.getEndereco());
+        }
+    }
+
+    private void putEndereco(Endereco endereco) {
+        registro.put((byte) (endereco == null ? 0 : 1));
+        if (endereco != null) {
+            putTexto(endereco.getLogradouro());
+            registro.putInt(endereco.getNumero());
+            putTexto(endereco.getCep());
+            putTexto(endereco.getBairro());
+            putTexto(endereco.getCidade());
+            putTexto(endereco.getUf());
+        }
+    }
+
+    private void putVeiculo(Veiculo veiculo) {
+        registro.put((byte) (veiculo == null ? 0 : 1));
+        if (veiculo != null) {
+            registro.put((byte) (veiculo.getTipo() == null ? -1 : veiculo.getTipo().ordinal()));
+            putTexto(veiculo.getPlaca());
+            putTexto(veiculo.getMarca());
+            putTexto(veiculo.getModelo());
+            registro.putShort((short) veiculo.getAno());
+            registro.put((byte) (veiculo.getCor() == null ? -1 : veiculo.getCor().ordinal()));
+            Combustivel combustivel = combustivel(veiculo);
+            registro.put((byte) (combustivel == null ? -1 : combustivel.ordinal()));
+            if (combustivel == Combustivel.OUTRO) {
+                putTexto(veiculo.getCombustivel());
+            }
+            if (veiculo.getTipo() == null) {
+                registro.putDouble(veiculo.calcularValorSeguro());  // Sem estratégia para recalcular na leitura
+            }
+        }
+    }
+
+    private void putData(LocalDate data) {
+        registro.putInt(data == null ? Integer.MIN_VALUE : (int) data.toEpochDay());
+    }
+
+    private void putTexto(String texto) {
+        if (texto == null) {
+            registro.putShort((short) NULO);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULO) {
+            throw new IllegalArgumentException("Texto muito longo para o journal de sinistros.");
+        }
+        registro.putShort((short) bytes.length);
+        registro.put(bytes);
+    }
+
+    // Leitura em blocos para os fluxos
+
+    /**
+     * Spliterator que consome os sinistros em blocos, buscando o bloco seguinte só quando o atual
+     * se esgota.
+     */
+    private abstract static class LeitorEmBlocos extends Spliterators.AbstractSpliterator<Sinistro> {
+
+        private final List<Sinistro> bloco = new ArrayList<>();
+        private int indice;
+        private boolean haMais = true;
+
+        LeitorEmBlocos() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        /**
+         * Acrescenta o próximo bloco à lista fornecida.
+         *
+         * @return true se ainda houver blocos depois deste.
+         */
+        abstract boolean carregar(List<Sinistro> bloco);
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Sinistro> acao) {
+            while (indice == bloco.size()) {
+                if (!haMais) {
+                    return false;
+                }
+                bloco.clear();
+                indice = 0;
+                haMais = carregar(bloco);
+            }
+            acao.accept(bloco.get(indice++));
+            return true;
+        }
+    }
+
+    // Reprodução do journal na abertura
+
+    private void reproduzir() {
+        // Clientes e apólices já lidos, para que sinistros do mesmo cliente/apólice compartilhem a instância
+        Map<String, Cliente> clientes = new HashMap<>();
+        Map<String, Apolice> apolices = new HashMap<>();
+
+        int pos = TAMANHO_CABECALHO;
+        while (pos + 8 <= mapa.capacity()) {
+            int tamanho = mapa.getInt(pos);
+            if (tamanho <= 0 || (long) pos + 8 + tamanho > mapa.capacity()) {
+                break;
+            }
+            ByteBuffer conteudo = mapa.slice(pos + 8, tamanho);
+            crc.reset();
+            crc.update(conteudo.duplicate());
+            if ((int) crc.getValue() != mapa.getInt(pos + 4)) {
+                break;  // Registro interrompido: fim dos dados válidos
+            }
+            try {
+                aplicar(conteudo, clientes, apolices);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                // O registro passou pelo tamanho e pelo CRC: é dado confirmado, não uma escrita interrompida
+                throw new IllegalStateException("Registro íntegro do journal de sinistros não pôde ser decodificado na posição " + pos + ".", e);
+            }
+            pos += 8 + tamanho;
+        }
+        posicao = pos;
+        inicioPendente = pos;
+        limparCauda(pos);
+    }
+
+    /**
+     * Zera os restos de uma escrita interrompida após o último registro válido, para que não
+     * sejam confundidos com registros gravados depois. Só o registro danificado é percorrido: a
+     * limpeza cobre o tamanho declarado no seu cabeçalho (quando cabe no mapeamento) e segue até
+     * a primeira sequência de zeros do tamanho de um cabeçalho de registro, onde termina a área
+     * já escrita. Um resto que sobreviva depois dela (zeros no meio do conteúdo interrompido) é
+     * rejeitado pelo CRC na reprodução.
+     */
+    private void limparCauda(int inicio) {
+        int capacidade = mapa.capacity();
+        long fimDeclarado = inicio;
+        if (inicio + TAMANHO_CABECALHO_REGISTRO <= capacidade && mapa.getInt(inicio) > 0) {
+            fimDeclarado = Math.min(capacidade, (long) inicio + TAMANHO_CABECALHO_REGISTRO + mapa.getInt(inicio));
+        }
+        int ultimoNaoZero = -1;
+        int zeros = 0;
+        for (int i = inicio; i < capacidade && (i < fimDeclarado || zeros < TAMANHO_CABECALHO_REGISTRO); i++) {
+            if (mapa.get(i) != 0) {
+                ultimoNaoZero = i;
+                zeros = 0;
+            } else {
+                zeros++;
+            }
+        }
+        for (int i = inicio; i <= ultimoNaoZero; i++) {
+            mapa.put(i, (byte) 0);
+        }
+        if (ultimoNaoZero >= inicio) {
+            mapa.force(inicio, ultimoNaoZero + 1 - inicio);
+        }
+    }
+
+    private void aplicar(ByteBuffer conteudo, Map<String, Cliente> clientes, Map<String, Apolice> apolices) {
+        byte operacao = conteudo.get();
+        switch (operacao) {
+            case OP_ADICIONAR:
+                memoria.adicionarSinistro(getSinistro(conteudo, clientes, apolices));
+                break;
+            case OP_ATUALIZAR:
+                memoria.atualizarSinistro(getSinistro(conteudo, clientes, apolices));
+                break;
+            case OP_REMOVER:
+                memoria.removerSinistro(getTexto(conteudo));
+                break;
+            default:
+                throw new IllegalArgumentException("Operação desconhecida no journal: " + operacao);
+        }
+    }
+
+    private Sinistro getSinistro(ByteBuffer in, Map<String, Cliente> clientes, Map<String, Apolice> apolices) {
+        String numero = getTexto(in);
+        LocalDate dataEvento = getData(in);
+        Endereco endereco = getEndereco(in);
+        Cliente cliente = getCliente(in, clientes);
+        Apolice apolice = null;
+        if (in.get() == 1) {
+            String numeroApolice = getTexto(in);
+            Cliente titular = getCliente(in, clientes);
+            Veiculo veiculo = getVeiculo(in);
+            LocalDate inicio = getData(in);
+            LocalDate termino = getData(in);
+            double valor = in.getDouble();
+            apolice = apolices.get(numeroApolice);
+            if (apolice == null) {
+                apolice = new Apolice(numeroApolice, titular, veiculo, inicio, termino);
+                apolices.put(numeroApolice, apolice);
+            } else {
+                // Estado mais recente da apólice prevalece
+                apolice.setCliente(titular);
+                apolice.setVeiculo(veiculo);
+                apolice.setDataInicio(inicio);
+                apolice.setDataTermino(termino);
+            }
+            apolice.setValor(valor);
+        }
+        return new Sinistro(numero, dataEvento, cliente, apolice, endereco);
+    }
+
+    private Cliente getCliente(ByteBuffer in, Map<String, Cliente> clientes) {
+        if (in.get() == 0) {
+            return null;
+        }
+        String cpf = getTexto(in);
+        String nome = getTexto(in);
+        String telefone = getTexto(in);
+        String email = getTexto(in);
+        char sexo = in.getChar();
+        LocalDate dataNascimento = getData(in);
+        Endereco endereco = getEndereco(in);
+        Cliente cliente = cpf != null ? clientes.get(cpf) : null;
+        if (cliente == null) {
+            cliente = new Cliente(cpf, nome, endereco, telefone, email, sexo);
+            if (cpf != null) {
+                clientes.put(cpf, cliente);
+            }
+        } else {
+            cliente.setNome(nome);
+            cliente.setEndereco(endereco);
+            cliente.setTelefone(telefone);
+            cliente.setEmail(email);
+            cliente.setSexo(sexo);
+        }
+        cliente.setDataNascimento(dataNascimento);
+        return cliente;
+    }
+
+    private Endereco getEndereco(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        String logradouro = getTexto(in);
+        int numero = in.getInt();
+        String cep = getTexto(in);
+        String bairro = getTexto(in);
+        String cidade = getTexto(in);
+        String uf = getTexto(in);
+        return new Endereco(logradouro, numero, cep, bairro, cidade, uf);
+    }
+
+    private Veiculo getVeiculo(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        byte codigoTipo = in.get();
+        TipoVeiculo tipo = codigoTipo < 0 ? null : porOrdinal(TIPOS, codigoTipo, "tipo de veículo");
+        String placa = getTexto(in);
+        String marca = getTexto(in);
+        String modelo = getTexto(in);
+        int ano = in.getShort();
+        byte cor = in.get();
+        Cor corVeiculo = cor < 0 ? null : porOrdinal(CORES, cor, "cor");
+        byte codigo = in.get();
+        Combustivel combustivel = codigo < 0 ? null : porOrdinal(COMBUSTIVEIS, codigo, "combustível");
+        String descricao = combustivel == Combustivel.OUTRO ? getTexto(in)
+                : combustivel == null ? null : combustivel.getDescricao();
+        if (tipo == null) {
+            return new VeiculoSemTipo(placa, marca, modelo, ano, corVeiculo, descricao, in.getDouble());
+        }
+        // Construção direta: o registro já foi validado na gravação e pode ter combustível nulo
+        return new VeiculoCompacto(EstrategiaPrecificacao.de(tipo), placa, marca, modelo, ano, corVeiculo, descricao);
+    }
+
+    private static Combustivel combustivel(Veiculo veiculo) {
+        if (veiculo instanceof VeiculoCompacto compacto) {
+            return compacto.getTipoCombustivel();
+        }
+        return veiculo.getCombustivel() == null ? null : Combustivel.deDescricao(veiculo.getCombustivel());
+    }
+
+    /**
+     * Veículo sem tipo reconstruído do journal: sem estratégia de precificação, devolve o valor do
+     * seguro gravado. Como em VeiculoCompacto, placa, modelo e ano são imutáveis.
+     */
+    private static final class VeiculoSemTipo implements Veiculo {
+
+        private final String placa;
+        private String marca;
+        private final String modelo;
+        private final int ano;
+        private Cor cor;
+        private String combustivel;
+        private final double valorSeguro;
+
+        VeiculoSemTipo(String placa, String marca, String modelo, int ano, Cor cor, String combustivel, double valorSeguro) {
+            this.placa = placa;
+            this.marca = marca;
+            this.modelo = modelo;
+            this.ano = ano;
+            this.cor = cor;
+            this.combustivel = combustivel;
+            this.valorSeguro = valorSeguro;
+        }
+
+        @Override
+        public String getPlaca() {
+            return placa;
+        }
+
+        @Override
+        public String getMarca() {
+            return marca;
+        }
+
+        @Override
+        public String getModelo() {
+            return modelo;
+        }
+
+        @Override
+        public int getAno() {
+            return ano;
+        }
+
+        @Override
+        public Cor getCor() {
+            return cor;
+        }
+
+        @Override
+        public String getCombustivel() {
+            return combustivel;
+        }
+
+        @Override
+        public TipoVeiculo getTipo() {
+            return null;
+        }
+
+        @Override
+        public void setPlaca(String placa) {
+        }
+
+        @Override
+        public void setMarca(String marca) {
+            this.marca = marca;
+        }
+
+        @Override
+        public void setModelo(String modelo) {
+        }
+
+        @Override
+        public void setAno(int ano) {
+        }
+
+        @Override
+        public void setCor(Cor cor) {
+            this.cor = cor;
+        }
+
+        @Override
+        public void setCombustivel(String combustivel) {
+            this.combustivel = combustivel;
+        }
+
+        @Override
+        public double calcularValorSeguro() {
+            return valorSeguro;
+        }
+
+        @Override
+        public String toString() {
+            return "Veículo: " + marca + " " + modelo + ", Placa: " + placa + ", Ano: " + ano + ", Cor: " + cor
+                    + ", Combustível: " + combustivel;
+        }
+    }
+
+    private static <E> E porOrdinal(E[] valores, int ordinal, String nome) {
+        if (ordinal < 0 || ordinal >= valores.length) {
+            throw new IllegalArgumentException("Código de " + nome + " inválido no journal: " + ordinal);
+        }
+        return valores[ordinal];
+    }
+
+    private static LocalDate getData(ByteBuffer in) {
+        int epochDay = in.getInt();
+        return epochDay == Integer.MIN_VALUE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static String getTexto(ByteBuffer in) {
+        int tamanho = in.getShort() & 0xFFFF;
+        if (tamanho == NULO) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
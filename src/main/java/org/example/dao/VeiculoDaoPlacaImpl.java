@@ -0,0 +1,209 @@
+package org.example.dao;
+
+import org.example.model.Veiculo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Implementação da interface VeiculoDao indexada pela placa compactada.
+ * As placas são convertidas em chaves long por {@link CodigoPlaca} e armazenadas em uma
+ * tabela hash de endereçamento aberto com arrays primitivos (sondagem linear), tornando
+ * busca, atualização e remoção O(1), sem diferenciar maiúsculas de minúsculas e sem alocar
+ * objetos no caminho de consulta.
+ *
+ * Placas fora do padrão de sete caracteres alfanuméricos são mantidas em um HashMap auxiliar
+ * com a placa normalizada como chave. A ordem de {@link #listarVeiculos()} não é garantida.
+ * Veículos sem placa não podem ser indexados e são rejeitados na inclusão.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class VeiculoDaoPlacaImpl implements VeiculoDao {
+
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    // Tabela de endereçamento aberto: chaves[i] == 0 indica posição livre
+    private long[] chaves;
+    private Veiculo[] valores;
+    private int tamanho;
+
+    // Placas que não podem ser compactadas (formato não padronizado)
+    private final Map<String, Veiculo> placasNaoPadronizadas = new HashMap<>();
+
+    /**
+     * Construtor que inicializa a tabela de placas vazia.
+     */
+    public VeiculoDaoPlacaImpl() {
+        this.chaves = new long[CAPACIDADE_INICIAL];
+        this.valores = new Veiculo[CAPACIDADE_INICIAL];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException Se o veículo não tiver placa.
+     */
+    @Override
+    public Veiculo adicionarVeiculo(Veiculo veiculo) {
+        if (veiculo.getPlaca() == null) {
+            throw new IllegalArgumentException("Placa é obrigatória para adicionar o veículo.");
+        }
+        long chave = CodigoPlaca.codificar(veiculo.getPlaca());
+        if (chave == CodigoPlaca.INVALIDA) {
+            placasNaoPadronizadas.put(normalizar(veiculo.getPlaca()), veiculo);
+        } else {
+            inserir(chave, veiculo);
+        }
+        return veiculo;
+    }
+
+    @Override
+    public Veiculo buscarPorPlaca(String placa) {
+        long chave = CodigoPlaca.codificar(placa);
+        if (chave == CodigoPlaca.INVALIDA) {
+            return placa == null ? null : placasNaoPadronizadas.get(normalizar(placa));
+        }
+        int posicao = localizar(chave);
+        return posicao >= 0 ? valores[posicao] : null;
+    }
+
+    @Override
+    public Veiculo atualizarVeiculo(Veiculo veiculoAtualizado) {
+        long chave = CodigoPlaca.codificar(veiculoAtualizado.getPlaca());
+        if (chave == CodigoPlaca.INVALIDA) {
+            if (veiculoAtualizado.getPlaca() == null) {
+                return null;  // Veículos sem placa nunca são indexados
+            }
+            String placa = normalizar(veiculoAtualizado.getPlaca());
+            return placasNaoPadronizadas.replace(placa, veiculoAtualizado) != null ? veiculoAtualizado : null;
+        }
+        int posicao = localizar(chave);
+        if (posicao < 0) {
+            return null;  // Retorna null se o veículo não for encontrado.
+        }
+        valores[posicao] = veiculoAtualizado;
+        return veiculoAtualizado;
+    }
+
+    @Override
+    public boolean removerVeiculo(String placa) {
+        long chave = CodigoPlaca.codificar(placa);
+        if (chave == CodigoPlaca.INVALIDA) {
+            return placa != null && placasNaoPadronizadas.remove(normalizar(placa)) != null;
+        }
+        int posicao = localizar(chave);
+        if (posicao < 0) {
+            return false;
+        }
+        removerPosicao(posicao);
+        return true;
+    }
+
+    @Override
+    public List<Veiculo> listarVeiculos() {
+        List<Veiculo> veiculos = new ArrayList<>(tamanho + placasNaoPadronizadas.size());
+        for (int i = 0; i < chaves.length; i++) {
+            if (chaves[i] != 0) {
+                veiculos.add(valores[i]);
+            }
+        }
+        veiculos.addAll(placasNaoPadronizadas.values());
+        return veiculos;
+    }
+
+    // Operações da tabela de endereçamento aberto
+
+    private int localizar(long chave) {
+        int mascara = chaves.length - 1;
+        for (int i = espalhar(chave) & mascara; ; i = (i + 1) & mascara) {
+            long atual = chaves[i];
+            if (atual == chave) {
+                return i;
+            }
+            if (atual == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void inserir(long chave, Veiculo veiculo) {
+        int mascara = chaves.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (chaves[i] != 0) {
+            if (chaves[i] == chave) {
+                valores[i] = veiculo;  // Mesma placa: substitui o veículo
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = veiculo;
+        if (++tamanho * 2 > chaves.length) {  // Mantém o fator de carga abaixo de 50%
+            redimensionar(chaves.length * 2);
+        }
+    }
+
+    /**
+     * Remove a posição e desloca para trás as entradas seguintes do mesmo agrupamento,
+     * dispensando marcadores de remoção (tombstones).
+     */
+    private void removerPosicao(int posicao) {
+        int mascara = chaves.length - 1;
+        int livre = posicao;
+        int i = posicao;
+        while (true) {
+            i = (i + 1) & mascara;
+            long chave = chaves[i];
+            if (chave == 0) {
+                break;
+            }
+            int ideal = espalhar(chave) & mascara;
+            // Move a entrada se sua posição ideal não estiver entre a posição livre e a atual (circularmente)
+            if (((i - ideal) & mascara) >= ((i - livre) & mascara)) {
+                chaves[livre] = chave;
+                valores[livre] = valores[i];
+                livre = i;
+            }
+        }
+        chaves[livre] = 0;
+        valores[livre] = null;
+        tamanho--;
+    }
+
+    private void redimensionar(int novaCapacidade) {
+        long[] chavesAntigas = chaves;
+        Veiculo[] valoresAntigos = valores;
+        chaves = new long[novaCapacidade];
+        valores = new Veiculo[novaCapacidade];
+        int mascara = novaCapacidade - 1;
+        for (int j = 0; j < chavesAntigas.length; j++) {
+            long chave = chavesAntigas[j];
+            if (chave != 0) {
+                int i = espalhar(chave) & mascara;
+                while (chaves[i] != 0) {
+                    i = (i + 1) & mascara;
+                }
+                chaves[i] = chave;
+                valores[i] = valoresAntigos[j];
+            }
+        }
+    }
+
+    // Mistura de bits (finalizador do MurmurHash3) para distribuir códigos de placa sequenciais
+    private static int espalhar(long chave) {
+        chave ^= chave >>> 33;
+        chave *= 0xff51afd7ed558ccdL;
+        chave ^= chave >>> 33;
+        chave *= 0xc4ceb9fe1a85ec53L;
+        chave ^= chave >>> 33;
+        return (int) chave;
+    }
+
+    private static String normalizar(String placa) {
+        return placa.toUpperCase(Locale.ROOT);
+    }
+}
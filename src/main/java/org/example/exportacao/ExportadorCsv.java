@@ -0,0 +1,221 @@
+package org.example.exportacao;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Endereco;
+import org.example.model.Sinistro;
+import org.example.model.Veiculo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Exportador de relatórios em CSV com memória constante.
+ * As linhas são consumidas uma a uma de um Stream preguiçoso (por exemplo, os fluxos por período
+ * dos DAOs), formatadas em um StringBuilder reutilizado, codificadas em UTF-8 diretamente para um
+ * ByteBuffer direto e escritas em um FileChannel sempre que o buffer enche. Nenhuma lista com o
+ * resultado completo é criada, qualquer que seja a quantidade de linhas.
+ *
+ * Formato: campos separados por ';' (o mesmo da importação de clientes), datas ISO (aaaa-mm-dd),
+ * valores com ponto decimal e uma linha de cabeçalho. Campos que contêm ';', aspas ou quebras de
+ * linha são escritos entre aspas, com aspas internas duplicadas. Campos nulos ficam vazios.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class ExportadorCsv {
+
+    /** Cabeçalho do relatório de apólices. */
+    public static final String CABECALHO_APOLICES = "numeroApolice;cpf;nome;placa;tipoVeiculo;dataInicio;dataTermino;valor";
+
+    /** Cabeçalho do relatório de sinistros. */
+    public static final String CABECALHO_SINISTROS = "numeroSinistro;dataEvento;cpf;nome;numeroApolice;cidade;uf";
+
+    private static final int TAMANHO_BUFFER_PADRAO = 64 * 1024;
+
+    private final int tamanhoBuffer;
+
+    /**
+     * Construtor que usa um buffer de escrita de 64 KiB.
+     */
+    public ExportadorCsv() {
+        this(TAMANHO_BUFFER_PADRAO);
+    }
+
+    /**
+     * Construtor que usa um buffer de escrita do tamanho informado.
+     *
+     * @param tamanhoBuffer O tamanho do buffer de escrita, em bytes (mínimo de 16).
+     */
+    public ExportadorCsv(int tamanhoBuffer) {
+        if (tamanhoBuffer < 16) {
+            throw new IllegalArgumentException("O buffer de escrita deve ter ao menos 16 bytes.");
+        }
+        this.tamanhoBuffer = tamanhoBuffer;
+    }
+
+    /**
+     * Exporta apólices para um arquivo CSV.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param apolices O fluxo de apólices; é consumido e fechado pela exportação.
+     * @return O resultado da exportação.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    public ResultadoExportacao exportarApolices(Path arquivo, Stream<Apolice> apolices) throws IOException {
+        return exportar(arquivo, CABECALHO_APOLICES, apolices, ExportadorCsv::formatarApolice);
+    }
+
+    /**
+     * Exporta sinistros para um arquivo CSV.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param sinistros O fluxo de sinistros; é consumido e fechado pela exportação.
+     * @return O resultado da exportação.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    public ResultadoExportacao exportarSinistros(Path arquivo, Stream<Sinistro> sinistros) throws IOException {
+        return exportar(arquivo, CABECALHO_SINISTROS, sinistros, ExportadorCsv::formatarSinistro);
+    }
+
+    /**
+     * Exporta um fluxo qualquer para um arquivo CSV.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param cabecalho A linha de cabeçalho, sem a quebra de linha.
+     * @param itens O fluxo de itens; é consumido e fechado pela exportação.
+     * @param formatador Escreve os campos de um item no StringBuilder (sem a quebra de linha),
+     *                   usando {@link #campo(StringBuilder, String)} para os textos.
+     * @param <T> O tipo dos itens.
+     * @return O resultado da exportação.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    public <T> ResultadoExportacao exportar(Path arquivo, String cabecalho, Stream<T> itens,
+                                            BiConsumer<T, StringBuilder> formatador) throws IOException {
+        long inicio = System.nanoTime();
+        long linhas = 0;
+        CharsetEncoder codificador = StandardCharsets.UTF_8.newEncoder();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(tamanhoBuffer);
+        StringBuilder linha = new StringBuilder(256);
+        long bytes;
+        try (Stream<T> fluxo = itens;
+             FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            linha.append(cabecalho).append('\n');
+            escrever(linha, codificador, buffer, canal);
+            Iterator<T> iterador = fluxo.iterator();
+            while (iterador.hasNext()) {
+                linha.setLength(0);
+                formatador.accept(iterador.next(), linha);
+                linha.append('\n');
+                escrever(linha, codificador, buffer, canal);
+                linhas++;
+            }
+            buffer.flip();
+            descarregar(buffer, canal);
+            bytes = canal.position();
+        }
+        return new ResultadoExportacao(arquivo, linhas, bytes, Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    /**
+     * Acrescenta um campo de texto à linha, entre aspas se necessário. Nulos ficam vazios.
+     *
+     * @param linha A linha em montagem.
+     * @param valor O valor do campo.
+     * @return A própria linha.
+     */
+    public static StringBuilder campo(StringBuilder linha, String valor) {
+        if (valor == null) {
+            return linha;
+        }
+        boolean aspas = false;
+        for (int i = 0; i < valor.length() && !aspas; i++) {
+            char c = valor.charAt(i);
+            aspas = c == ';' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!aspas) {
+            return linha.append(valor);
+        }
+        linha.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                linha.append('"');  // Aspas internas são duplicadas
+            }
+            linha.append(c);
+        }
+        return linha.append('"');
+    }
+
+    // Formatadores das linhas
+
+    private static void formatarApolice(Apolice apolice, StringBuilder linha) {
+        Cliente cliente = apolice.getCliente();
+        Veiculo veiculo = apolice.getVeiculo();
+        campo(linha, apolice.getNumeroApolice()).append(';');
+        campo(linha, cliente == null ? null : cliente.getCpf()).append(';');
+        campo(linha, cliente == null ? null : cliente.getNome()).append(';');
+        campo(linha, veiculo == null ? null : veiculo.getPlaca()).append(';');
+        campo(linha, veiculo == null || veiculo.getTipo() == null ? null : veiculo.getTipo().name()).append(';');
+        data(linha, apolice.getDataInicio()).append(';');
+        data(linha, apolice.getDataTermino()).append(';');
+        linha.append(apolice.getValor());
+    }
+
+    private static void formatarSinistro(Sinistro sinistro, StringBuilder linha) {
+        Cliente cliente = sinistro.getCliente();
+        Endereco endereco = sinistro.getEndereco();
+        campo(linha, sinistro.getNumeroSinistro()).append(';');
+        data(linha, sinistro.getDataEvento()).append(';');
+        campo(linha, cliente == null ? null : cliente.getCpf()).append(';');
+        campo(linha, cliente == null ? null : cliente.getNome()).append(';');
+        campo(linha, sinistro.getApolice() == null ? null : sinistro.getApolice().getNumeroApolice()).append(';');
+        campo(linha, endereco == null ? null : endereco.getCidade()).append(';');
+        campo(linha, endereco == null ? null : endereco.getUf());
+    }
+
+    private static StringBuilder data(StringBuilder linha, LocalDate data) {
+        return data == null ? linha : linha.append(data);
+    }
+
+    // Métodos auxiliares de escrita
+
+    private static void escrever(CharSequence texto, CharsetEncoder codificador, ByteBuffer buffer, FileChannel canal)
+            throws IOException {
+        CharBuffer entrada = CharBuffer.wrap(texto);
+        codificador.reset();
+        while (true) {
+            CoderResult resultado = codificador.encode(entrada, buffer, true);
+            if (resultado.isUnderflow()) {
+                break;
+            }
+            if (resultado.isOverflow()) {
+                buffer.flip();  // Buffer cheio: escreve e continua a codificação da mesma linha
+                descarregar(buffer, canal);
+                buffer.clear();
+            } else {
+                resultado.throwException();
+            }
+        }
+        codificador.flush(buffer);  // UTF-8 não guarda estado entre linhas: o flush apenas encerra a sequência
+    }
+
+    private static void descarregar(ByteBuffer buffer, FileChannel canal) throws IOException {
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+}
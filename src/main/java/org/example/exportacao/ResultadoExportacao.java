@@ -0,0 +1,84 @@
+package org.example.exportacao;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Classe que resume o resultado de uma exportação.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class ResultadoExportacao {
+    private final Path arquivo;
+    private final long linhas;
+    private final long bytes;
+    private final Duration duracao;
+
+    /**
+     * Construtor que inicializa o resultado da exportação.
+     *
+     * @param arquivo O arquivo gerado.
+     * @param linhas Quantidade de linhas de dados escritas (sem o cabeçalho).
+     * @param bytes Tamanho do arquivo gerado, em bytes.
+     * @param duracao O tempo total da exportação.
+     */
+    public ResultadoExportacao(Path arquivo, long linhas, long bytes, Duration duracao) {
+        this.arquivo = arquivo;
+        this.linhas = linhas;
+        this.bytes = bytes;
+        this.duracao = duracao;
+    }
+
+    /**
+     * Obtém o arquivo gerado.
+     *
+     * @return O caminho do arquivo.
+     */
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Obtém a quantidade de linhas de dados escritas.
+     *
+     * @return Linhas escritas, sem o cabeçalho.
+     */
+    public long getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * Obtém o tamanho do arquivo gerado.
+     *
+     * @return Bytes escritos.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Obtém o tempo total da exportação.
+     *
+     * @return A duração da exportação.
+     */
+    public Duration getDuracao() {
+        return duracao;
+    }
+
+    /**
+     * Calcula a vazão da exportação.
+     *
+     * @return Linhas escritas por segundo.
+     */
+    public double getLinhasPorSegundo() {
+        long nanos = duracao.toNanos();
+        return nanos == 0 ? 0 : linhas * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Exportação %s: %d linhas, %d bytes em %d ms (%.0f linhas/s)",
+                arquivo.getFileName(), linhas, bytes, duracao.toMillis(), getLinhasPorSegundo());
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.importacao;
+
+/**
+ * Classe que representa uma linha rejeitada durante uma importação em lote.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class ErroImportacao {
+    private final long linha;       // Número da linha no arquivo (a partir de 1)
+    private final String motivo;    // Descrição do problema encontrado
+
+    /**
+     * Construtor que inicializa o erro de importação.
+     *
+     * @param linha O número da linha rejeitada (a partir de 1).
+     * @param motivo A descrição do problema encontrado.
+     */
+    public ErroImportacao(long linha, String motivo) {
+        this.linha = linha;
+        this.motivo = motivo;
+    }
+
+    /**
+     * Obtém o número da linha rejeitada.
+     *
+     * @return O número da linha (a partir de 1).
+     */
+    public long getLinha() {
+        return linha;
+    }
+
+    /**
+     * Obtém a descrição do problema encontrado.
+     *
+     * @return O motivo da rejeição.
+     */
+    public String getMotivo() {
+        return motivo;
+    }
+
+    @Override
+    public String toString() {
+        return "Linha " + linha + ": " + motivo;
+    }
+}
@@ -0,0 +1,345 @@
+package org.example.importacao;
+
+import org.example.factory.ClienteFactory;
+import org.example.model.Cliente;
+import org.example.model.Endereco;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Importador em lote de clientes (com endereço) a partir de um arquivo CSV.
+ *
+ * O arquivo é lido por um FileChannel em blocos de tamanho fixo, sempre cortados em fim de linha.
+ * Cada bloco é convertido e validado em paralelo, e os clientes válidos de cada bloco são entregues
+ * ao destino como um lote, na ordem do arquivo e sempre pela thread que chamou
+ * {@link #importar(Path, Consumer)}; o destino, portanto, não precisa ser thread-safe.
+ * O número de blocos em processamento é limitado, de modo que a memória usada não depende do
+ * tamanho do arquivo.
+ *
+ * Formato (UTF-8, separador ';', sem aspas), com cabeçalho opcional iniciado por "cpf":
+ * <pre>
+ * cpf;nome;telefone;email;sexo;logradouro;numero;cep;bairro;cidade;uf[;dataNascimento]
+ * </pre>
+ * O CPF é aceito com 11 dígitos, sem formatação ou no formato 000.000.000-00, e é usado como chave
+ * exatamente como informado, como em {@code ClienteService.registrarCliente}.
+ * A data de nascimento, se informada, usa o formato AAAA-MM-DD. Linhas em branco são ignoradas.
+ * Se um CPF se repetir, vale a última ocorrência, como em registros individuais sucessivos.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class ImportadorClientesCsv {
+
+    private static final int CAMPOS_OBRIGATORIOS = 11;
+    private static final int CAMPOS_MAXIMOS = 12;
+
+    private final int paralelismo;
+    private final int tamanhoBloco;
+    private final int limiteErros;
+
+    /**
+     * Construtor que cria o importador com blocos de 4 MiB, uma thread por processador
+     * e até 1000 erros detalhados no relatório.
+     */
+    public ImportadorClientesCsv() {
+        this(Runtime.getRuntime().availableProcessors(), 4 * 1024 * 1024, 1000);
+    }
+
+    /**
+     * Construtor que cria o importador com a configuração informada.
+     *
+     * @param paralelismo Quantidade de threads de conversão.
+     * @param tamanhoBloco Tamanho, em bytes, dos blocos lidos do arquivo.
+     * @param limiteErros Quantidade máxima de erros guardados em detalhe no relatório.
+     * @throws IllegalArgumentException Se algum parâmetro for inválido.
+     */
+    public ImportadorClientesCsv(int paralelismo, int tamanhoBloco, int limiteErros) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("O paralelismo deve ser positivo.");
+        }
+        if (tamanhoBloco < 1024) {
+            throw new IllegalArgumentException("O tamanho do bloco deve ser de pelo menos 1024 bytes.");
+        }
+        if (limiteErros < 0) {
+            throw new IllegalArgumentException("O limite de erros não pode ser negativo.");
+        }
+        this.paralelismo = paralelismo;
+        this.tamanhoBloco = tamanhoBloco;
+        this.limiteErros = limiteErros;
+    }
+
+    /**
+     * Importa os clientes do arquivo, entregando-os ao destino em lotes.
+     *
+     * @param arquivo O arquivo CSV a ser importado.
+     * @param destino Recebe cada lote de clientes válidos, na ordem do arquivo.
+     * @return O relatório da importação, com os erros por linha.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    public RelatorioImportacao importar(Path arquivo, Consumer<List<Cliente>> destino) throws IOException {
+        long inicio = System.nanoTime();
+        Consolidacao consolidacao = new Consolidacao(destino);
+        int maximoPendentes = paralelismo * 2;
+        Deque<Future<Bloco>> pendentes = new ArrayDeque<>();
+        ExecutorService executor = Executors.newFixedThreadPool(paralelismo);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(tamanhoBloco);
+            boolean primeiro = true;
+            boolean fim = false;
+            while (!fim) {
+                fim = preencher(canal, buffer);
+                int corte = fim ? buffer.position() : ultimaQuebra(buffer) + 1;
+                if (corte == 0) {
+                    if (buffer.position() > 0) {  // Linha maior que o bloco: amplia o buffer e continua lendo
+                        ByteBuffer maior = ByteBuffer.allocate(buffer.capacity() * 2);
+                        buffer.flip();
+                        buffer = maior.put(buffer);
+                    }
+                    continue;
+                }
+                byte[] dados = new byte[corte];
+                buffer.flip();
+                buffer.get(dados);
+                buffer.compact();  // Mantém o início da linha incompleta para o próximo bloco
+
+                boolean cabecalhoPossivel = primeiro;
+                pendentes.addLast(executor.submit(() -> converter(dados, cabecalhoPossivel)));
+                primeiro = false;
+                while (pendentes.size() >= maximoPendentes) {
+                    consolidacao.aplicar(aguardar(pendentes.removeFirst()));
+                }
+            }
+            while (!pendentes.isEmpty()) {
+                consolidacao.aplicar(aguardar(pendentes.removeFirst()));
+            }
+        } finally {
+            for (Future<Bloco> pendente : pendentes) {
+                pendente.cancel(true);
+            }
+            executor.shutdownNow();
+        }
+        return new RelatorioImportacao(consolidacao.linhasLidas, consolidacao.importados, consolidacao.totalErros,
+                consolidacao.erros, Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    // Leitura do arquivo
+
+    /** Lê até encher o buffer; retorna true se o fim do arquivo foi atingido. */
+    private static boolean preencher(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int ultimaQuebra(ByteBuffer buffer) {
+        byte[] bytes = buffer.array();
+        for (int i = buffer.position() - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Bloco aguardar(Future<Bloco> futuro) throws IOException {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Importação interrompida.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Falha ao converter bloco do arquivo.", e.getCause());
+        }
+    }
+
+    // Conversão e validação de um bloco (executada em paralelo)
+
+    private static Bloco converter(byte[] dados, boolean cabecalhoPossivel) {
+        Bloco bloco = new Bloco();
+        int[] inicios = new int[CAMPOS_MAXIMOS + 1];
+        int inicioLinha = 0;
+        while (inicioLinha < dados.length) {
+            int fimLinha = inicioLinha;
+            while (fimLinha < dados.length && dados[fimLinha] != '\n') {
+                fimLinha++;
+            }
+            int proximaLinha = fimLinha + 1;
+            if (fimLinha > inicioLinha && dados[fimLinha - 1] == '\r') {
+                fimLinha--;
+            }
+            bloco.linhas++;
+            boolean cabecalho = cabecalhoPossivel && bloco.linhas == 1 && comecaCom(dados, inicioLinha, fimLinha, "cpf");
+            if (fimLinha > inicioLinha && !cabecalho) {
+                bloco.linhasLidas++;
+                converterLinha(dados, inicioLinha, fimLinha, inicios, bloco);
+            }
+            inicioLinha = proximaLinha;
+        }
+        return bloco;
+    }
+
+    private static void converterLinha(byte[] dados, int inicio, int fim, int[] inicios, Bloco bloco) {
+        int campos = 0;
+        inicios[campos++] = inicio;
+        for (int i = inicio; i < fim; i++) {
+            if (dados[i] == ';') {
+                if (campos == CAMPOS_MAXIMOS) {
+                    bloco.rejeitar("mais de " + CAMPOS_MAXIMOS + " campos.");
+                    return;
+                }
+                inicios[campos++] = i + 1;
+            }
+        }
+        if (campos < CAMPOS_OBRIGATORIOS) {
+            bloco.rejeitar("esperados pelo menos " + CAMPOS_OBRIGATORIOS + " campos, encontrados " + campos + ".");
+            return;
+        }
+        inicios[campos] = fim + 1;  // Sentinela: fim do último campo
+        String[] valores = new String[campos];
+        for (int c = 0; c < campos; c++) {
+            valores[c] = new String(dados, inicios[c], inicios[c + 1] - 1 - inicios[c], StandardCharsets.UTF_8).trim();
+        }
+        String motivo = validar(valores);
+        if (motivo != null) {
+            bloco.rejeitar(motivo);
+            return;
+        }
+        LocalDate nascimento = null;
+        if (campos > 11 && !valores[11].isEmpty()) {
+            try {
+                nascimento = LocalDate.parse(valores[11]);
+            } catch (DateTimeParseException e) {
+                bloco.rejeitar("data de nascimento inválida (use AAAA-MM-DD).");
+                return;
+            }
+        }
+        Endereco endereco = new Endereco(valores[5], Integer.parseInt(valores[6]), valores[7], valores[8], valores[9], valores[10]);
+        Cliente cliente = ClienteFactory.criarCliente(valores[0], valores[1], endereco, valores[2], valores[3],
+                valores[4].charAt(0), nascimento);
+        cliente.setDataNascimento(nascimento);
+        bloco.aceitar(cliente);
+    }
+
+    /** Valida os campos textuais; retorna a descrição do primeiro problema, ou null se forem válidos. */
+    private static String validar(String[] valores) {
+        if (!cpfValido(valores[0])) {
+            return "CPF deve conter 11 dígitos, sem formatação ou no formato 000.000.000-00.";
+        }
+        if (valores[1].isEmpty()) {
+            return "nome é obrigatório.";
+        }
+        String sexo = valores[4];
+        if (!sexo.equals("M") && !sexo.equals("F")) {
+            return "sexo deve ser M ou F.";
+        }
+        if (valores[6].isEmpty() || valores[6].length() > 9 || !somenteDigitos(valores[6])) {
+            return "número do endereço inválido.";
+        }
+        String uf = valores[10];
+        if (uf.length() != 2 || !Character.isLetter(uf.charAt(0)) || !Character.isLetter(uf.charAt(1))) {
+            return "UF deve conter 2 letras.";
+        }
+        return null;
+    }
+
+    /** Aceita "00000000000" e "000.000.000-00". */
+    private static boolean cpfValido(String cpf) {
+        if (cpf.length() == 11) {
+            return somenteDigitos(cpf);
+        }
+        return cpf.length() == 14 && cpf.charAt(3) == '.' && cpf.charAt(7) == '.' && cpf.charAt(11) == '-'
+                && somenteDigitos(cpf.substring(0, 3)) && somenteDigitos(cpf.substring(4, 7))
+                && somenteDigitos(cpf.substring(8, 11)) && somenteDigitos(cpf.substring(12));
+    }
+
+    private static boolean somenteDigitos(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean comecaCom(byte[] dados, int inicio, int fim, String prefixo) {
+        if (fim - inicio < prefixo.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefixo.length(); i++) {
+            if (Character.toLowerCase((char) dados[inicio + i]) != prefixo.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Resultado da conversão de um bloco; as linhas dos erros são relativas ao início do bloco. */
+    private static final class Bloco {
+        final List<Cliente> clientes = new ArrayList<>();
+        final List<ErroImportacao> erros = new ArrayList<>();
+        long linhas;        // Todas as linhas do bloco, inclusive em branco e cabeçalho
+        long linhasLidas;   // Linhas de dados
+
+        void aceitar(Cliente cliente) {
+            clientes.add(cliente);
+        }
+
+        void rejeitar(String motivo) {
+            erros.add(new ErroImportacao(linhas, motivo));
+        }
+    }
+
+    /** Estado acumulado pela thread do importador, que aplica os blocos na ordem do arquivo. */
+    private final class Consolidacao {
+        final Consumer<List<Cliente>> destino;
+        final List<ErroImportacao> erros = new ArrayList<>();
+        long linhaBase;
+        long linhasLidas;
+        long importados;
+        long totalErros;
+
+        Consolidacao(Consumer<List<Cliente>> destino) {
+            this.destino = destino;
+        }
+
+        void aplicar(Bloco bloco) {
+            if (!bloco.clientes.isEmpty()) {
+                destino.accept(bloco.clientes);
+                importados += bloco.clientes.size();
+            }
+            for (ErroImportacao erro : bloco.erros) {
+                if (erros.size() < limiteErros) {
+                    erros.add(new ErroImportacao(linhaBase + erro.getLinha(), erro.getMotivo()));
+                }
+            }
+            totalErros += bloco.erros.size();
+            linhasLidas += bloco.linhasLidas;
+            linhaBase += bloco.linhas;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.importacao;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe que resume o resultado de uma importação em lote.
+ * Registra as linhas lidas, os registros importados e os erros por linha. Para manter a memória
+ * limitada em arquivos muito grandes, apenas os primeiros erros são guardados em detalhe;
+ * {@link #getTotalErros()} sempre informa a contagem completa.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class RelatorioImportacao {
+    private final long linhasLidas;
+    private final long importados;
+    private final long totalErros;
+    private final List<ErroImportacao> erros;
+    private final Duration duracao;
+
+    /**
+     * Construtor que inicializa o relatório de importação.
+     *
+     * @param linhasLidas Quantidade de linhas de dados lidas (sem cabeçalho e linhas em branco).
+     * @param importados Quantidade de registros incluídos.
+     * @param totalErros Quantidade total de linhas rejeitadas.
+     * @param erros Os erros guardados em detalhe, em ordem de linha.
+     * @param duracao O tempo total da importação.
+     */
+    public RelatorioImportacao(long linhasLidas, long importados, long totalErros, List<ErroImportacao> erros, Duration duracao) {
+        this.linhasLidas = linhasLidas;
+        this.importados = importados;
+        this.totalErros = totalErros;
+        this.erros = Collections.unmodifiableList(erros);
+        this.duracao = duracao;
+    }
+
+    /**
+     * Obtém a quantidade de linhas de dados lidas.
+     *
+     * @return Linhas lidas, sem cabeçalho e linhas em branco.
+     */
+    public long getLinhasLidas() {
+        return linhasLidas;
+    }
+
+    /**
+     * Obtém a quantidade de clientes importados.
+     *
+     * @return Registros incluídos.
+     */
+    public long getImportados() {
+        return importados;
+    }
+
+    /**
+     * Obtém a quantidade total de linhas rejeitadas.
+     *
+     * @return Total de erros, inclusive os não guardados em detalhe.
+     */
+    public long getTotalErros() {
+        return totalErros;
+    }
+
+    /**
+     * Obtém os erros guardados em detalhe.
+     *
+     * @return Lista somente leitura, possivelmente menor que {@link #getTotalErros()}.
+     */
+    public List<ErroImportacao> getErros() {
+        return erros;
+    }
+
+    /**
+     * Obtém o tempo total da importação.
+     *
+     * @return A duração da importação.
+     */
+    public Duration getDuracao() {
+        return duracao;
+    }
+
+    /**
+     * Calcula a vazão da importação.
+     *
+     * @return Linhas lidas por segundo.
+     */
+    public double getLinhasPorSegundo() {
+        long nanos = duracao.toNanos();
+        return nanos == 0 ? 0 : linhasLidas * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Importação: %d linhas lidas, %d importadas, %d com erro em %d ms (%.0f linhas/s)",
+                linhasLidas, importados, totalErros, duracao.toMillis(), getLinhasPorSegundo());
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.lote;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.Properties;
+
+/**
+ * Checkpoint de uma tarefa em lote: o conjunto de partições concluídas, gravado em arquivo.
+ * A gravação escreve um arquivo temporário, força-o para o disco e o move sobre o anterior
+ * (movimento atômico quando o sistema de arquivos permite), de modo que uma queda durante a
+ * gravação deixa o checkpoint anterior intacto.
+ *
+ * Formato (Properties, UTF-8): quantidade de itens, assinatura dos itens (SHA-256 das chaves,
+ * na ordem), tamanho da partição e o conjunto de partições concluídas em Base64. Um checkpoint
+ * só é reaproveitado se os itens e o tamanho da partição forem os mesmos da execução atual.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+class Checkpoint {
+
+    private final Path arquivo;
+    private final int itens;
+    private final String assinatura;
+    private final int tamanhoParticao;
+    private final BitSet concluidas;
+
+    private Checkpoint(Path arquivo, int itens, String assinatura, int tamanhoParticao, BitSet concluidas) {
+        this.arquivo = arquivo;
+        this.itens = itens;
+        this.assinatura = assinatura;
+        this.tamanhoParticao = tamanhoParticao;
+        this.concluidas = concluidas;
+    }
+
+    /**
+     * Calcula a assinatura de uma lista de itens: o SHA-256, em hexadecimal, das chaves na ordem.
+     */
+    static String assinatura(Iterable<String> chaves) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);  // Obrigatório em toda JVM
+        }
+        for (String chave : chaves) {
+            byte[] bytes = chave.getBytes(StandardCharsets.UTF_8);
+            // O comprimento antes de cada chave evita que ["ab", "c"] e ["a", "bc"] coincidam
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Carrega o checkpoint do arquivo, ou cria um vazio se o arquivo não existir ou não
+     * corresponder à quantidade, à assinatura dos itens e ao tamanho de partição informados.
+     */
+    static Checkpoint abrir(Path arquivo, int itens, String assinatura, int tamanhoParticao) throws IOException {
+        if (Files.exists(arquivo)) {
+            Properties propriedades = new Properties();
+            try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+                propriedades.load(leitor);
+            }
+            try {
+                if (Integer.parseInt(propriedades.getProperty("itens", "-1")) == itens
+                        && assinatura.equals(propriedades.getProperty("assinatura"))
+                        && Integer.parseInt(propriedades.getProperty("tamanhoParticao", "-1")) == tamanhoParticao) {
+                    byte[] bits = Base64.getDecoder().decode(propriedades.getProperty("concluidas", ""));
+                    return new Checkpoint(arquivo, itens, assinatura, tamanhoParticao, BitSet.valueOf(bits));
+                }
+            } catch (IllegalArgumentException e) {
+                // Checkpoint corrompido ou de outro formato: recomeça do zero
+            }
+        }
+        return new Checkpoint(arquivo, itens, assinatura, tamanhoParticao, new BitSet());
+    }
+
+    int quantidadeParticoes() {
+        return (itens + tamanhoParticao - 1) / tamanhoParticao;
+    }
+
+    boolean concluida(int particao) {
+        return concluidas.get(particao);
+    }
+
+    void marcar(int particao) {
+        concluidas.set(particao);
+    }
+
+    boolean completo() {
+        return concluidas.cardinality() == quantidadeParticoes();
+    }
+
+    /** Quantidade de itens nas partições já concluídas. */
+    long itensConcluidos() {
+        long total = 0;
+        for (int p = concluidas.nextSetBit(0); p >= 0; p = concluidas.nextSetBit(p + 1)) {
+            total += Math.min(tamanhoParticao, itens - (long) p * tamanhoParticao);
+        }
+        return total;
+    }
+
+    void gravar() {
+        Properties propriedades = new Properties();
+        propriedades.setProperty("itens", Integer.toString(itens));
+        propriedades.setProperty("assinatura", assinatura);
+        propriedades.setProperty("tamanhoParticao", Integer.toString(tamanhoParticao));
+        propriedades.setProperty("concluidas", Base64.getEncoder().encodeToString(concluidas.toByteArray()));
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try {
+            ByteArrayOutputStream conteudo = new ByteArrayOutputStream();
+            propriedades.store(conteudo, null);
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(conteudo.toByteArray());
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                canal.force(true);  // O conteúdo precisa estar no disco antes do movimento
+            }
+            try {
+                Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o checkpoint " + arquivo, e);
+        }
+    }
+
+    void excluir() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+}
@@ -0,0 +1,232 @@
+package org.example.lote;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Executor de tarefas em lote com checkpoint e retomada.
+ * Os itens da tarefa são divididos em partições de tamanho fixo, processadas em paralelo em
+ * threads virtuais (uma por partição) ou em um ForkJoinPool com uma thread por processador.
+ * As partições concluídas são registradas em um arquivo de checkpoint por tarefa
+ * ({@code <diretorio>/<nome>.checkpoint}), gravado no máximo a cada intervalo configurado e
+ * ao final da execução.
+ *
+ * Se a execução for interrompida (queda do processo ou erro não tratado), a próxima execução da
+ * mesma tarefa pula as partições registradas no checkpoint e processa apenas as demais; as
+ * partições concluídas depois da última gravação são processadas novamente. Se a lista de itens
+ * mudou (outra quantidade ou outras chaves, ver {@link TarefaLote#chave(Object)}), o checkpoint
+ * anterior é descartado e a tarefa recomeça do início. Quando todas as
+ * partições são concluídas, o checkpoint é excluído.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class ExecutorLote {
+
+    /**
+     * Modo de execução das partições.
+     */
+    public enum Modo {
+        /** Uma thread virtual por partição; indicado quando o processamento espera E/S. */
+        THREADS_VIRTUAIS,
+        /** ForkJoinPool com uma thread por processador; indicado para processamento de CPU. */
+        FORK_JOIN
+    }
+
+    /** Tamanho de partição padrão, em itens. */
+    public static final int TAMANHO_PARTICAO_PADRAO = 1024;
+
+    private static final Duration INTERVALO_CHECKPOINT_PADRAO = Duration.ofSeconds(1);
+    private static final int MAXIMO_ERROS_DETALHADOS = 100;
+    private static final Pattern NOME_VALIDO = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final Path diretorio;
+    private final int tamanhoParticao;
+    private final Modo modo;
+    private final Duration intervaloCheckpoint;
+
+    /**
+     * Construtor que usa partições de {@link #TAMANHO_PARTICAO_PADRAO} itens, threads virtuais
+     * e checkpoint a cada segundo.
+     *
+     * @param diretorio O diretório dos arquivos de checkpoint.
+     */
+    public ExecutorLote(Path diretorio) {
+        this(diretorio, TAMANHO_PARTICAO_PADRAO, Modo.THREADS_VIRTUAIS, INTERVALO_CHECKPOINT_PADRAO);
+    }
+
+    /**
+     * Construtor que inicializa o executor com a configuração informada.
+     *
+     * @param diretorio O diretório dos arquivos de checkpoint.
+     * @param tamanhoParticao A quantidade de itens por partição.
+     * @param modo O modo de execução das partições.
+     * @param intervaloCheckpoint O intervalo mínimo entre gravações do checkpoint (zero grava a cada partição).
+     */
+    public ExecutorLote(Path diretorio, int tamanhoParticao, Modo modo, Duration intervaloCheckpoint) {
+        if (tamanhoParticao <= 0) {
+            throw new IllegalArgumentException("O tamanho da partição deve ser positivo.");
+        }
+        if (intervaloCheckpoint.isNegative()) {
+            throw new IllegalArgumentException("O intervalo de checkpoint não pode ser negativo.");
+        }
+        this.diretorio = diretorio;
+        this.tamanhoParticao = tamanhoParticao;
+        this.modo = modo;
+        this.intervaloCheckpoint = intervaloCheckpoint;
+    }
+
+    /**
+     * Executa a tarefa, retomando do checkpoint se houver um compatível.
+     *
+     * @param tarefa A tarefa a executar.
+     * @param <T> O tipo dos itens da tarefa.
+     * @return O resultado desta execução.
+     * @throws IOException Se o checkpoint não puder ser lido ou gravado.
+     * @throws IllegalArgumentException Se o nome da tarefa for inválido.
+     */
+    public <T> ResultadoLote executar(TarefaLote<T> tarefa) throws IOException {
+        String nome = tarefa.getNome();
+        if (nome == null || !NOME_VALIDO.matcher(nome).matches()) {
+            throw new IllegalArgumentException("Nome de tarefa inválido: " + nome);
+        }
+        long inicio = System.nanoTime();
+        List<T> itens = tarefa.itens();
+        Files.createDirectories(diretorio);
+        List<String> chaves = new ArrayList<>(itens.size());
+        for (T item : itens) {
+            chaves.add(tarefa.chave(item));
+        }
+        Checkpoint checkpoint = Checkpoint.abrir(diretorio.resolve(nome + ".checkpoint"), itens.size(),
+                Checkpoint.assinatura(chaves), tamanhoParticao);
+        Progresso progresso = new Progresso(checkpoint, intervaloCheckpoint.toNanos());
+        long retomados = checkpoint.itensConcluidos();
+
+        List<Callable<Void>> particoes = new ArrayList<>();
+        for (int p = 0; p < checkpoint.quantidadeParticoes(); p++) {
+            if (!checkpoint.concluida(p)) {
+                int particao = p;
+                particoes.add(() -> {
+                    processarParticao(tarefa, itens, particao, progresso);
+                    return null;
+                });
+            }
+        }
+
+        Throwable falha = null;
+        try (ExecutorService executor = criarExecutor()) {
+            for (Future<Void> futuro : executor.invokeAll(particoes)) {
+                try {
+                    futuro.get();
+                } catch (ExecutionException e) {
+                    if (falha == null) {
+                        falha = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            falha = e;
+        }
+
+        // Grava o progresso final: exclui o checkpoint se tudo foi concluído
+        synchronized (progresso) {
+            if (checkpoint.completo()) {
+                checkpoint.excluir();
+            } else {
+                checkpoint.gravar();
+            }
+        }
+        if (falha instanceof UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (falha instanceof RuntimeException e) {
+            throw e;
+        }
+        if (falha instanceof Error e) {
+            throw e;
+        }
+        if (falha != null) {
+            throw new IllegalStateException("Execução da tarefa " + nome + " interrompida.", falha);
+        }
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+        return progresso.resultado(nome, itens.size(), retomados, duracao);
+    }
+
+    // Métodos auxiliares
+
+    private ExecutorService criarExecutor() {
+        return modo == Modo.FORK_JOIN
+                ? new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    private <T> void processarParticao(TarefaLote<T> tarefa, List<T> itens, int particao, Progresso progresso) {
+        int de = particao * tamanhoParticao;
+        int ate = Math.min(itens.size(), de + tamanhoParticao);
+        long falhas = 0;
+        List<String> erros = new ArrayList<>();
+        for (int i = de; i < ate; i++) {
+            T item = itens.get(i);
+            try {
+                tarefa.processar(item);
+            } catch (Exception e) {
+                falhas++;
+                if (erros.size() < MAXIMO_ERROS_DETALHADOS) {
+                    erros.add("Item " + i + ": " + e);
+                }
+            }
+        }
+        progresso.concluir(particao, ate - de, falhas, erros);
+    }
+
+    /**
+     * Progresso compartilhado pelas partições de uma execução; as alterações são serializadas.
+     */
+    private static final class Progresso {
+        private final Checkpoint checkpoint;
+        private final long intervaloNanos;
+        private long ultimaGravacao = System.nanoTime();
+        private long processados;
+        private long falhas;
+        private final List<String> erros = new ArrayList<>();
+
+        Progresso(Checkpoint checkpoint, long intervaloNanos) {
+            this.checkpoint = checkpoint;
+            this.intervaloNanos = intervaloNanos;
+        }
+
+        synchronized void concluir(int particao, int itens, long falhasParticao, List<String> errosParticao) {
+            processados += itens;
+            falhas += falhasParticao;
+            for (String erro : errosParticao) {
+                if (erros.size() == MAXIMO_ERROS_DETALHADOS) {
+                    break;
+                }
+                erros.add(erro);
+            }
+            checkpoint.marcar(particao);
+            long agora = System.nanoTime();
+            if (agora - ultimaGravacao >= intervaloNanos) {
+                checkpoint.gravar();
+                ultimaGravacao = agora;
+            }
+        }
+
+        synchronized ResultadoLote resultado(String nome, long itensTotal, long retomados, Duration duracao) {
+            return new ResultadoLote(nome, itensTotal, processados, retomados, falhas, erros, duracao);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.lote;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe que resume uma execução de uma tarefa em lote.
+ * Os itens retomados são os das partições já concluídas em uma execução anterior, segundo o
+ * checkpoint, e não são processados novamente. Apenas as primeiras falhas são guardadas em
+ * detalhe; {@link #getFalhas()} sempre informa a contagem completa.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class ResultadoLote {
+    private final String nome;
+    private final long itensTotal;
+    private final long processados;
+    private final long retomados;
+    private final long falhas;
+    private final List<String> erros;
+    private final Duration duracao;
+
+    /**
+     * Construtor que inicializa o resultado da execução.
+     *
+     * @param nome O nome da tarefa.
+     * @param itensTotal Quantidade total de itens da tarefa.
+     * @param processados Quantidade de itens processados nesta execução (inclusive os com falha).
+     * @param retomados Quantidade de itens pulados por já constarem do checkpoint.
+     * @param falhas Quantidade de itens cujo processamento lançou exceção.
+     * @param erros As falhas guardadas em detalhe.
+     * @param duracao O tempo desta execução.
+     */
+    public ResultadoLote(String nome, long itensTotal, long processados, long retomados, long falhas,
+                         List<String> erros, Duration duracao) {
+        this.nome = nome;
+        this.itensTotal = itensTotal;
+        this.processados = processados;
+        this.retomados = retomados;
+        this.falhas = falhas;
+        this.erros = Collections.unmodifiableList(erros);
+        this.duracao = duracao;
+    }
+
+    /**
+     * Obtém o nome da tarefa.
+     *
+     * @return O nome da tarefa.
+     */
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Obtém a quantidade total de itens da tarefa.
+     *
+     * @return Total de itens.
+     */
+    public long getItensTotal() {
+        return itensTotal;
+    }
+
+    /**
+     * Obtém a quantidade de itens processados nesta execução.
+     *
+     * @return Itens processados, inclusive os com falha.
+     */
+    public long getProcessados() {
+        return processados;
+    }
+
+    /**
+     * Obtém a quantidade de itens retomados do checkpoint.
+     *
+     * @return Itens já concluídos em uma execução anterior.
+     */
+    public long getRetomados() {
+        return retomados;
+    }
+
+    /**
+     * Obtém a quantidade de itens com falha.
+     *
+     * @return Total de falhas, inclusive as não guardadas em detalhe.
+     */
+    public long getFalhas() {
+        return falhas;
+    }
+
+    /**
+     * Obtém as falhas guardadas em detalhe.
+     *
+     * @return Lista somente leitura, possivelmente menor que {@link #getFalhas()}.
+     */
+    public List<String> getErros() {
+        return erros;
+    }
+
+    /**
+     * Obtém o tempo desta execução.
+     *
+     * @return A duração da execução.
+     */
+    public Duration getDuracao() {
+        return duracao;
+    }
+
+    /**
+     * Calcula a vazão desta execução.
+     *
+     * @return Itens processados por segundo.
+     */
+    public double getItensPorSegundo() {
+        long nanos = duracao.toNanos();
+        return nanos == 0 ? 0 : processados * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Lote %s: %d itens, %d processados, %d retomados, %d com falha em %d ms (%.0f itens/s)",
+                nome, itensTotal, processados, retomados, falhas, duracao.toMillis(), getItensPorSegundo());
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.lote;
+
+import java.util.List;
+
+/**
+ * Interface TarefaLote define um trabalho em lote executado pelo ExecutorLote.
+ * A tarefa informa os itens a processar e como processar cada um; o executor cuida do
+ * particionamento, do paralelismo, do checkpoint e da retomada.
+ *
+ * Como uma partição interrompida por uma queda é processada novamente na retomada, o
+ * processamento de um item deve ser idempotente (reprocessar um item já tratado não pode
+ * produzir efeito duplicado). O método {@link #processar(Object)} é chamado concorrentemente
+ * por várias threads e deve ser thread-safe.
+ *
+ * @param <T> O tipo dos itens processados.
+ * @since 1.2
+ * @version 1.1
+ */
+public interface TarefaLote<T> {
+
+    /**
+     * Obtém o nome da tarefa, usado também como nome do arquivo de checkpoint.
+     *
+     * @return O nome da tarefa (letras, dígitos, ponto, hífen ou sublinhado).
+     */
+    String getNome();
+
+    /**
+     * Obtém os itens a processar. A lista deve ter ordem estável entre execuções, pois o
+     * checkpoint registra as partições concluídas pela sua posição.
+     *
+     * @return Os itens a processar.
+     */
+    List<T> itens();
+
+    /**
+     * Obtém a chave de um item, usada na assinatura que o checkpoint guarda da lista de itens:
+     * um checkpoint só é reaproveitado se as chaves, na ordem, forem as mesmas. A chave deve
+     * identificar o item de forma estável entre execuções; o padrão usa {@code String.valueOf}.
+     *
+     * @param item O item.
+     * @return A chave do item.
+     */
+    default String chave(T item) {
+        return String.valueOf(item);
+    }
+
+    /**
+     * Processa um item. Uma exceção conta como falha do item e não interrompe a partição.
+     *
+     * @param item O item a processar.
+     * @throws Exception Se o item não puder ser processado.
+     */
+    void processar(T item) throws Exception;
+}
@@ -0,0 +1,150 @@
+package org.example.lote;
+
+import org.example.dao.SeguroDao;
+import org.example.model.Apolice;
+import org.example.model.Seguro;
+import org.example.service.ApoliceService;
+import org.example.service.SeguroService;
+import org.example.service.SeguroServiceImpl;
+import org.example.tempo.Relogio;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Fábrica das tarefas noturnas da carteira, executadas pelo ExecutorLote:
+ * renovação automática de seguros, varredura de validade e relatório mensal de apólices.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public final class TarefasNoturnas {
+
+    private TarefasNoturnas() {
+    }
+
+    /**
+     * Cria a tarefa de renovação automática dos seguros que vencem no próximo mês (ou já venceram).
+     * Os candidatos são obtidos pelo índice de vencimento do DAO e cada um passa por
+     * SeguroService.renovacaoAutomatica, que renova por mais um ano; reprocessar um seguro já
+     * renovado não tem efeito. Na retomada, os seguros já renovados deixam de ser candidatos, e o
+     * checkpoint anterior só é reaproveitado se a lista de números de seguro for a mesma.
+     *
+     * A renovação é calculada em paralelo, por um serviço sem DAO; apenas a gravação dos seguros
+     * renovados no DAO, que não é thread-safe, é serializada.
+     *
+     * @param seguroDao O DAO de seguros, com o índice de vencimento.
+     * @param relogio O relógio usado como fonte da data corrente.
+     * @return A tarefa de renovação.
+     */
+    public static TarefaLote<Seguro> renovacaoAutomatica(SeguroDao seguroDao, Relogio relogio) {
+        SeguroService renovador = new SeguroServiceImpl(relogio);  // Sem DAO: apenas altera o seguro
+        Object trava = new Object();
+        return new TarefaLote<>() {
+            @Override
+            public String getNome() {
+                return "renovacao-automatica";
+            }
+
+            @Override
+            public List<Seguro> itens() {
+                // Mesma regra de renovacaoAutomatica: término anterior a hoje + 1 mês
+                LocalDate limite = relogio.hoje().plusMonths(1).minusDays(1);
+                return seguroDao.buscarSegurosVencendoEntre(LocalDate.MIN, limite);
+            }
+
+            @Override
+            public String chave(Seguro seguro) {
+                return seguro.getNumeroSeguro();
+            }
+
+            @Override
+            public void processar(Seguro seguro) {
+                LocalDate termino = seguro.getDataTermino();
+                renovador.renovacaoAutomatica(seguro);
+                if (!termino.equals(seguro.getDataTermino())) {
+                    synchronized (trava) {
+                        seguroDao.atualizarSeguro(seguro);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Cria uma tarefa de varredura de validade: aplica o critério de validade a cada item e
+     * entrega os inválidos ao destino. Os itens são lidos uma vez (a lista deve ser um retrato
+     * estável) e o critério é avaliado em paralelo.
+     *
+     * @param nome O nome da tarefa.
+     * @param itens Os itens a verificar.
+     * @param valido O critério de validade (por exemplo, SeguroService::verificarValidade).
+     * @param invalidos O destino dos itens inválidos; chamado concorrentemente, deve ser thread-safe.
+     * @param <T> O tipo dos itens.
+     * @return A tarefa de varredura.
+     */
+    public static <T> TarefaLote<T> varreduraValidade(String nome, List<T> itens, Predicate<T> valido, Consumer<T> invalidos) {
+        List<T> retrato = new ArrayList<>(itens);
+        return new TarefaLote<>() {
+            @Override
+            public String getNome() {
+                return nome;
+            }
+
+            @Override
+            public List<T> itens() {
+                return retrato;
+            }
+
+            @Override
+            public void processar(T item) {
+                if (!valido.test(item)) {
+                    invalidos.accept(item);
+                }
+            }
+        };
+    }
+
+    /**
+     * Cria a tarefa de relatório de apólices mês a mês: para cada mês do intervalo, o relatório
+     * do mês (ApoliceService.gerarRelatorio) é entregue ao destino. Um mês é a unidade de trabalho,
+     * portanto uma retomada reentrega ao destino os meses de partições não registradas no checkpoint.
+     *
+     * @param apoliceService O serviço de apólices.
+     * @param de O primeiro mês do relatório.
+     * @param ate O último mês do relatório (inclusive).
+     * @param destino O destino de cada relatório mensal; chamado concorrentemente, deve ser thread-safe.
+     * @return A tarefa de relatório.
+     */
+    public static TarefaLote<YearMonth> relatorioMensal(ApoliceService apoliceService, YearMonth de, YearMonth ate,
+                                                        BiConsumer<YearMonth, List<Apolice>> destino) {
+        if (de.isAfter(ate)) {
+            throw new IllegalArgumentException("O mês inicial não pode ser posterior ao mês final.");
+        }
+        List<YearMonth> meses = new ArrayList<>();
+        for (YearMonth mes = de; !mes.isAfter(ate); mes = mes.plusMonths(1)) {
+            meses.add(mes);
+        }
+        return new TarefaLote<>() {
+            @Override
+            public String getNome() {
+                return "relatorio-" + de + "-" + ate;
+            }
+
+            @Override
+            public List<YearMonth> itens() {
+                return meses;
+            }
+
+            @Override
+            public void processar(YearMonth mes) {
+                destino.accept(mes, apoliceService.gerarRelatorio(mes.atDay(1), mes.atEndOfMonth()));
+            }
+        };
+    }
+}
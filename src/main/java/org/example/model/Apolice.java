@@ -1,5 +1,8 @@
 package org.example.model;
 
+import org.example.renderizacao.RenderizadorTexto;
+import org.example.tempo.Relogios;
+
 import java.time.LocalDate;
 
 /**
@@ -8,7 +11,7 @@ import java.time.LocalDate;
  * Contém informações sobre o número da apólice, cliente, veículo, data de início e término, e valor do seguro.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.3
  */
 public class Apolice {
     private String numeroApolice;  // Número único da apólice
@@ -147,12 +150,12 @@ public class Apolice {
     }
 
     /**
-     * Verifica se a apólice está válida de acordo com a data atual.
+     * Verifica se a apólice está válida de acordo com a data atual (relógio padrão).
      *
      * @return true se a apólice for válida, false caso contrário.
      */
     public boolean isValida() {
-        LocalDate hoje = LocalDate.now();
+        LocalDate hoje = Relogios.padrao().hoje();
         return (hoje.isAfter(dataInicio) || hoje.isEqual(dataInicio)) && hoje.isBefore(dataTermino);
     }
 
@@ -160,10 +163,7 @@ public class Apolice {
      * Exibe os detalhes completos da apólice, incluindo cliente, veículo e valor.
      */
     public void exibirDetalhes() {
-        System.out.println("Apólice Número: " + numeroApolice);
-        cliente.exibirDetalhes();  // Exibe os detalhes do cliente
-        System.out.println("Veículo: " + veiculo.getModelo() + " - " + veiculo.getPlaca());
-        System.out.println("Valor da Apólice: R$" + valor);
-        System.out.println("Válido de " + dataInicio + " até " + dataTermino);
+        // Monta o texto completo e o imprime em uma única escrita no console
+        System.out.print(RenderizadorTexto.INSTANCIA.renderizar(this, new StringBuilder()));
     }
 }
@@ -1,5 +1,8 @@
 package org.example.model;
 
+import org.example.renderizacao.RenderizadorTexto;
+import org.example.tempo.Relogios;
+
 import java.time.LocalDate;
 import java.time.Period;
 
@@ -9,7 +12,7 @@ import java.time.Period;
  * Esta classe inclui métodos para manipular e exibir as informações do cliente.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.3
  */
 public class Cliente {
     private String cpf;                 // CPF do cliente
@@ -170,13 +173,13 @@ public class Cliente {
 
 
     /**
-     * Calcula a idade do cliente com base na data de nascimento.
+     * Calcula a idade do cliente com base na data de nascimento e na data do relógio padrão.
      *
      * @return A idade do cliente em anos.
      */
     public int calcularIdade() {
         if (dataNascimento != null) {
-            return Period.between(dataNascimento, LocalDate.now()).getYears();
+            return Period.between(dataNascimento, Relogios.padrao().hoje()).getYears();
         }
         return 0;
     }
@@ -212,9 +215,8 @@ public class Cliente {
      * Inclui informações como nome, CPF, endereço, telefone e email.
      */
     public void exibirDetalhes() {
-        System.out.println("Cliente: " + nome + " | CPF: " + cpf + " | Sexo: " + sexo);
-        endereco.exibirDetalhes();
-        System.out.println("Telefone: " + telefone + " | Email: " + email);
+        // Monta o texto completo e o imprime em uma única escrita no console
+        System.out.print(RenderizadorTexto.INSTANCIA.renderizar(this, new StringBuilder()));
     }
 
 }
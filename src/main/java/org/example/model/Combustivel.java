@@ -0,0 +1,84 @@
+package org.example.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Enum que representa os tipos de combustível dos veículos.
+ * Cada tipo de combustível possui uma descrição associada. Descrições que não correspondem a
+ * nenhum tipo conhecido (por exemplo, "Álcool") são representadas por OUTRO.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public enum Combustivel {
+    GASOLINA("Gasolina"),
+    ETANOL("Etanol"),
+    FLEX("Flex"),
+    DIESEL("Diesel"),
+    GNV("GNV"),
+    ELETRICO("Elétrico"),
+    HIBRIDO("Híbrido"),
+    OUTRO("Outro");
+
+    private static final Combustivel[] VALORES = values();
+
+    private final String descricao;
+
+    /**
+     * Construtor do enum Combustivel.
+     *
+     * @param descricao A descrição do combustível.
+     */
+    Combustivel(String descricao) {
+        this.descricao = descricao;
+    }
+
+    /**
+     * Obtém a descrição do combustível.
+     *
+     * @return Descrição do combustível.
+     */
+    public String getDescricao() {
+        return descricao;
+    }
+
+    /**
+     * Converte uma descrição textual no combustível correspondente.
+     * A comparação ignora maiúsculas, minúsculas e acentos ("Elétrico", "eletrico" e "ELETRICO"
+     * são equivalentes).
+     *
+     * @param descricao A descrição ou o nome do combustível.
+     * @return O combustível correspondente, ou OUTRO se a descrição não corresponder a nenhum.
+     * @throws IllegalArgumentException Se a descrição for nula.
+     */
+    public static Combustivel deDescricao(String descricao) {
+        if (descricao == null) {
+            throw new IllegalArgumentException("Combustível não pode ser nulo.");
+        }
+        for (Combustivel combustivel : VALORES) {  // Caminho rápido: descrição exata
+            if (combustivel.descricao.equals(descricao)) {
+                return combustivel;
+            }
+        }
+        String normalizada = Normalizer.normalize(descricao.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase(Locale.ROOT);
+        for (Combustivel combustivel : VALORES) {
+            if (combustivel.name().equals(normalizada)) {
+                return combustivel;
+            }
+        }
+        return OUTRO;
+    }
+
+    /**
+     * Retorna uma representação textual do combustível.
+     *
+     * @return A descrição do combustível.
+     */
+    @Override
+    public String toString() {
+        return descricao;
+    }
+}
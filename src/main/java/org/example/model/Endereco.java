@@ -1,12 +1,14 @@
 package org.example.model;
 
+import org.example.renderizacao.RenderizadorTexto;
+
 /**
  * Classe que representa um Endereço no sistema de seguros.
  * O endereço contém informações sobre o logradouro, número, CEP, bairro, cidade e UF (Unidade Federativa).
  * Esta classe será utilizada para armazenar e manipular os dados de endereço em entidades como Cliente e Sinistro.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.1
  */
 public class Endereco {
     private String logradouro;  // Nome da rua ou avenida
@@ -150,6 +152,7 @@ public class Endereco {
      * Exibe o logradouro, número, bairro, cidade, UF e CEP.
      */
     public void exibirDetalhes() {
-        System.out.println(logradouro + ", " + numero + " - " + bairro + ", " + cidade + " - " + uf + " | CEP: " + cep);
+        // Monta o texto completo e o imprime em uma única escrita no console
+        System.out.print(RenderizadorTexto.INSTANCIA.renderizar(this, new StringBuilder()));
     }
 }
@@ -1,5 +1,7 @@
 package org.example.model;
 
+import org.example.renderizacao.RenderizadorTexto;
+
 import java.time.LocalDate;
 
 /**
@@ -11,7 +13,7 @@ import java.time.LocalDate;
  * bem como fornecer métodos para acessar e modificar esses dados.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.2
  */
 public class Seguro {
     private String numeroSeguro;  // Número único do seguro
@@ -157,10 +159,7 @@ public class Seguro {
      * visão geral do seguro atual.
      */
     public void exibirDetalhes() {
-        System.out.println("Seguro Número: " + numeroSeguro);
-        cliente.exibirDetalhes();  // Exibe os detalhes do cliente associado
-        System.out.println("Veículo: " + veiculo.getModelo() + " - " + veiculo.getPlaca());
-        System.out.println("Valor do Seguro: R$" + valor);
-        System.out.println("Válido de " + dataInicio + " até " + dataTermino);
+        // Monta o texto completo e o imprime em uma única escrita no console
+        System.out.print(RenderizadorTexto.INSTANCIA.renderizar(this, new StringBuilder()));
     }
 }
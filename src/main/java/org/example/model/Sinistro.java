@@ -1,5 +1,7 @@
 package org.example.model;
 
+import org.example.renderizacao.RenderizadorTexto;
+
 import java.time.LocalDate;
 
 /**
@@ -8,7 +10,7 @@ import java.time.LocalDate;
  * Contém informações sobre o número do sinistro, a data do evento, o cliente, a apólice relacionada, e o endereço do evento.
  *
  * @since 1.0
- * @version 1.1
+ * @version 1.2
  */
 public class Sinistro {
     private String numeroSinistro;  // Número único do sinistro
@@ -131,13 +133,8 @@ public class Sinistro {
      * Exibe os detalhes completos do sinistro, incluindo o cliente, a apólice e o endereço do evento.
      */
     public void exibirDetalhes() {
-        System.out.println("Sinistro Número: " + numeroSinistro);
-        System.out.println("Data do Evento: " + dataEvento);
-        System.out.println("Cliente Envolvido: " + cliente.getNome() + " | CPF: " + cliente.getCpf());
-        System.out.println("Detalhes da Apólice: ");
-        apolice.exibirDetalhes();  // Exibe os detalhes da apólice associada
-        System.out.println("Endereço do Sinistro: ");
-        endereco.exibirDetalhes();  // Exibe os detalhes do endereço do sinistro
+        // Monta o texto completo e o imprime em uma única escrita no console
+        System.out.print(RenderizadorTexto.INSTANCIA.renderizar(this, new StringBuilder()));
     }
 
 }
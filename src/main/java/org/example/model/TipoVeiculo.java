@@ -2,26 +2,33 @@ package org.example.model;
 
 /**
  * Enum que representa os diferentes tipos de veículos cobertos por seguro.
- * Cada tipo de veículo possui uma descrição associada.
+ * Cada tipo de veículo possui uma descrição associada e os parâmetros da tarifa de seguro:
+ * o valor base e a depreciação por ano de idade do veículo.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.1
  */
 public enum TipoVeiculo {
-    CARRO("Carro"),
-    MOTO("Moto"),
-    CAMINHAO("Caminhão"),
-    ONIBUS("Ônibus");
+    CARRO("Carro", 1000, 50),
+    MOTO("Moto", 600, 30),
+    CAMINHAO("Caminhão", 1500, 70),
+    ONIBUS("Ônibus", 2000, 100);
 
     private final String descricao;
+    private final double valorBase;         // Valor do seguro para um veículo do ano corrente
+    private final double depreciacaoAnual;  // Redução do valor por ano de idade do veículo
 
     /**
      * Construtor do enum TipoVeiculo.
      *
      * @param descricao A descrição do tipo de veículo.
+     * @param valorBase O valor base do seguro.
+     * @param depreciacaoAnual A redução do valor do seguro por ano de idade.
      */
-    TipoVeiculo(String descricao) {
+    TipoVeiculo(String descricao, double valorBase, double depreciacaoAnual) {
         this.descricao = descricao;
+        this.valorBase = valorBase;
+        this.depreciacaoAnual = depreciacaoAnual;
     }
 
     /**
@@ -33,6 +40,34 @@ public enum TipoVeiculo {
         return descricao;
     }
 
+    /**
+     * Obtém o valor base do seguro, aplicado a um veículo do ano corrente.
+     *
+     * @return O valor base do seguro.
+     */
+    public double getValorBase() {
+        return valorBase;
+    }
+
+    /**
+     * Obtém a redução do valor do seguro por ano de idade do veículo.
+     *
+     * @return A depreciação anual.
+     */
+    public double getDepreciacaoAnual() {
+        return depreciacaoAnual;
+    }
+
+    /**
+     * Calcula o valor do seguro de um veículo deste tipo.
+     *
+     * @param idade A idade do veículo, em anos.
+     * @return O valor base menos a depreciação acumulada.
+     */
+    public double calcularValorSeguro(int idade) {
+        return valorBase - (idade * depreciacaoAnual);
+    }
+
     /**
      * Retorna uma representação textual do tipo de veículo.
      * Esse método será útil ao exibir o tipo de veículo diretamente no sistema.
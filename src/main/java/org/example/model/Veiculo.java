@@ -7,7 +7,7 @@ package org.example.model;
  * além de calcular o valor do seguro com base nas suas características.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.1
  */
 public interface Veiculo {
 
@@ -55,6 +55,13 @@ public interface Veiculo {
      */
     String getCombustivel();
 
+    /**
+     * Obtém o tipo do veículo.
+     *
+     * @return O tipo do veículo, representado pelo enum TipoVeiculo.
+     */
+    TipoVeiculo getTipo();
+
     // MÉTODOS SETTERS
 
     /**
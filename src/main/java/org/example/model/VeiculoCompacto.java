@@ -0,0 +1,219 @@
+package org.example.model;
+
+import org.example.tarifa.EstrategiaPrecificacao;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementação concreta e compacta de Veiculo.
+ * Cada veículo guarda apenas seus próprios dados: a placa, referências canônicas para marca e
+ * modelo (compartilhadas por todos os veículos com o mesmo texto), o ano em um short, a cor e o
+ * combustível como enums e a estratégia de precificação do seu tipo, que é uma instância única
+ * por TipoVeiculo. O comportamento específico do tipo (cálculo do seguro e rótulo) fica na estratégia.
+ * Um combustível sem tipo conhecido (Combustivel.OUTRO) guarda também a descrição original.
+ *
+ * Placa, modelo e ano são imutáveis (a placa é a chave dos DAOs de veículos): os respectivos
+ * setters não alteram o veículo.
+ *
+ * O dicionário de marcas e modelos é global e cresce com a quantidade de textos distintos, que é
+ * pequena em uma frota real.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public final class VeiculoCompacto implements Veiculo {
+
+    // Dicionário de marcas e modelos: cada texto distinto tem uma única instância
+    private static final Map<String, String> TEXTOS = new ConcurrentHashMap<>();
+
+    private final String placa;
+    private String marca;
+    private final String modelo;
+    private final EstrategiaPrecificacao estrategia;
+    private final short ano;
+    private Cor cor;
+    private Combustivel combustivel;
+    private String outroCombustivel;  // Descrição original quando o combustível é OUTRO; null nos demais
+
+    /**
+     * Construtor que inicializa todos os atributos do veículo.
+     *
+     * @param estrategia A estratégia de precificação do tipo do veículo.
+     * @param placa A placa do veículo.
+     * @param marca A marca do veículo.
+     * @param modelo O modelo do veículo.
+     * @param ano O ano de fabricação do veículo.
+     * @param cor A cor do veículo.
+     * @param combustivel O combustível do veículo.
+     * @throws IllegalArgumentException Se a estratégia for nula ou o ano estiver fora do intervalo de short.
+     */
+    public VeiculoCompacto(EstrategiaPrecificacao estrategia, String placa, String marca, String modelo,
+                           int ano, Cor cor, Combustivel combustivel) {
+        if (estrategia == null) {
+            throw new IllegalArgumentException("Estratégia de precificação não pode ser nula.");
+        }
+        this.estrategia = estrategia;
+        this.placa = placa;
+        this.marca = canonico(marca);
+        this.modelo = canonico(modelo);
+        this.ano = converterAno(ano);
+        this.cor = cor;
+        this.combustivel = combustivel;
+    }
+
+    /**
+     * Construtor que recebe o combustível pela sua descrição.
+     *
+     * @param estrategia A estratégia de precificação do tipo do veículo.
+     * @param placa A placa do veículo.
+     * @param marca A marca do veículo.
+     * @param modelo O modelo do veículo.
+     * @param ano O ano de fabricação do veículo.
+     * @param cor A cor do veículo.
+     * @param combustivel A descrição do combustível (pode ser null; descrições desconhecidas são mantidas como OUTRO).
+     * @throws IllegalArgumentException Se a estratégia for nula ou o ano estiver fora do intervalo de short.
+     */
+    public VeiculoCompacto(EstrategiaPrecificacao estrategia, String placa, String marca, String modelo,
+                           int ano, Cor cor, String combustivel) {
+        this(estrategia, placa, marca, modelo, ano, cor, (Combustivel) null);
+        setCombustivel(combustivel);
+    }
+
+    @Override
+    public String getPlaca() {
+        return placa;
+    }
+
+    @Override
+    public String getMarca() {
+        return marca;
+    }
+
+    @Override
+    public String getModelo() {
+        return modelo;
+    }
+
+    @Override
+    public int getAno() {
+        return ano;
+    }
+
+    @Override
+    public Cor getCor() {
+        return cor;
+    }
+
+    @Override
+    public String getCombustivel() {
+        if (combustivel == null) {
+            return null;
+        }
+        return outroCombustivel != null ? outroCombustivel : combustivel.getDescricao();
+    }
+
+    /**
+     * Obtém o combustível do veículo como enum.
+     *
+     * @return O combustível do veículo.
+     */
+    public Combustivel getTipoCombustivel() {
+        return combustivel;
+    }
+
+    @Override
+    public TipoVeiculo getTipo() {
+        return estrategia.getTipo();
+    }
+
+    /**
+     * Obtém a estratégia de precificação do tipo do veículo.
+     *
+     * @return A estratégia compartilhada do tipo.
+     */
+    public EstrategiaPrecificacao getEstrategia() {
+        return estrategia;
+    }
+
+    /**
+     * Não altera o veículo: a placa é imutável.
+     *
+     * @param placa Ignorado.
+     */
+    @Override
+    public void setPlaca(String placa) {
+    }
+
+    @Override
+    public void setMarca(String marca) {
+        this.marca = canonico(marca);
+    }
+
+    /**
+     * Não altera o veículo: o modelo é imutável.
+     *
+     * @param modelo Ignorado.
+     */
+    @Override
+    public void setModelo(String modelo) {
+    }
+
+    /**
+     * Não altera o veículo: o ano é imutável.
+     *
+     * @param ano Ignorado.
+     */
+    @Override
+    public void setAno(int ano) {
+    }
+
+    @Override
+    public void setCor(Cor cor) {
+        this.cor = cor;
+    }
+
+    /**
+     * Define o combustível a partir da sua descrição.
+     *
+     * @param combustivel A descrição do combustível (ex: Gasolina, Diesel, Elétrico); pode ser null.
+     */
+    @Override
+    public void setCombustivel(String combustivel) {
+        this.combustivel = combustivel == null ? null : Combustivel.deDescricao(combustivel);
+        this.outroCombustivel = this.combustivel == Combustivel.OUTRO ? canonico(combustivel) : null;
+    }
+
+    /**
+     * Calcula o valor do seguro pela estratégia do tipo do veículo.
+     *
+     * @return O valor do seguro calculado para o veículo.
+     */
+    @Override
+    public double calcularValorSeguro() {
+        return estrategia.calcularValorSeguro(ano);
+    }
+
+    @Override
+    public String toString() {
+        return estrategia.getRotulo() + ": " + getMarca() + " " + getModelo() + ", Placa: " + getPlaca() +
+                ", Ano: " + getAno() + ", Cor: " + getCor() + ", Combustível: " + getCombustivel();
+    }
+
+    // Métodos auxiliares
+
+    private static String canonico(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String existente = TEXTOS.putIfAbsent(texto, texto);
+        return existente != null ? existente : texto;
+    }
+
+    private static short converterAno(int ano) {
+        if (ano < Short.MIN_VALUE || ano > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Ano do veículo fora do intervalo suportado: " + ano);
+        }
+        return (short) ano;
+    }
+}
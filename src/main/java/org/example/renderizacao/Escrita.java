@@ -0,0 +1,87 @@
+package org.example.renderizacao;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+/**
+ * Operações de escrita em um Appendable usadas pelos renderizadores.
+ * Quando o destino é um StringBuilder ou uma SaidaBufferizada, números são acrescentados
+ * diretamente, sem criar Strings intermediárias; datas são sempre escritas dígito a dígito no formato ISO (aaaa-mm-dd).
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+final class Escrita {
+
+    private Escrita() {
+    }
+
+    static void texto(Appendable destino, CharSequence texto) {
+        try {
+            destino.append(texto);  // Nulo é escrito como "null", como na concatenação
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void trecho(Appendable destino, CharSequence texto, int inicio, int fim) {
+        try {
+            destino.append(texto, inicio, fim);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void caractere(Appendable destino, char c) {
+        try {
+            destino.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void numero(Appendable destino, int valor) {
+        if (destino instanceof StringBuilder sb) {
+            sb.append(valor);
+        } else if (destino instanceof SaidaBufferizada saida) {
+            saida.anexar(valor);
+        } else {
+            texto(destino, Integer.toString(valor));
+        }
+    }
+
+    static void numero(Appendable destino, double valor) {
+        if (destino instanceof StringBuilder sb) {
+            sb.append(valor);
+        } else if (destino instanceof SaidaBufferizada saida) {
+            saida.anexar(valor);
+        } else {
+            texto(destino, Double.toString(valor));
+        }
+    }
+
+    /** Escreve a data como LocalDate.toString() (nula é escrita como "null"). */
+    static void data(Appendable destino, LocalDate data) {
+        if (data == null) {
+            texto(destino, "null");
+            return;
+        }
+        int ano = data.getYear();
+        if (ano < 0 || ano > 9999) {
+            texto(destino, data.toString());  // Formato estendido (sinal e mais de 4 dígitos)
+            return;
+        }
+        digitos(destino, ano, 4);
+        caractere(destino, '-');
+        digitos(destino, data.getMonthValue(), 2);
+        caractere(destino, '-');
+        digitos(destino, data.getDayOfMonth(), 2);
+    }
+
+    private static void digitos(Appendable destino, int valor, int quantidade) {
+        for (int divisor = quantidade == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            caractere(destino, (char) ('0' + valor / divisor % 10));
+        }
+    }
+}
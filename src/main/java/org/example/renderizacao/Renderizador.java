@@ -0,0 +1,71 @@
+package org.example.renderizacao;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Endereco;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+
+/**
+ * Interface Renderizador define a escrita dos detalhes das entidades em um destino Appendable
+ * (StringBuilder, SaidaBufferizada, Writer etc.), sem imprimir diretamente no console.
+ * Cada método acrescenta a representação da entidade ao destino e o devolve, permitindo
+ * encadear chamadas e acumular várias entidades antes de uma única escrita.
+ *
+ * Erros de E/S do destino são relançados como UncheckedIOException.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public interface Renderizador {
+
+    /**
+     * Escreve os detalhes de um cliente, incluindo o endereço.
+     *
+     * @param cliente O cliente.
+     * @param destino O destino da escrita.
+     * @param <A> O tipo do destino.
+     * @return O próprio destino.
+     */
+    <A extends Appendable> A renderizar(Cliente cliente, A destino);
+
+    /**
+     * Escreve os detalhes de um endereço.
+     *
+     * @param endereco O endereço.
+     * @param destino O destino da escrita.
+     * @param <A> O tipo do destino.
+     * @return O próprio destino.
+     */
+    <A extends Appendable> A renderizar(Endereco endereco, A destino);
+
+    /**
+     * Escreve os detalhes de uma apólice, incluindo o cliente.
+     *
+     * @param apolice A apólice.
+     * @param destino O destino da escrita.
+     * @param <A> O tipo do destino.
+     * @return O próprio destino.
+     */
+    <A extends Appendable> A renderizar(Apolice apolice, A destino);
+
+    /**
+     * Escreve os detalhes de um seguro, incluindo o cliente.
+     *
+     * @param seguro O seguro.
+     * @param destino O destino da escrita.
+     * @param <A> O tipo do destino.
+     * @return O próprio destino.
+     */
+    <A extends Appendable> A renderizar(Seguro seguro, A destino);
+
+    /**
+     * Escreve os detalhes de um sinistro, incluindo a apólice e o endereço do sinistro.
+     *
+     * @param sinistro O sinistro.
+     * @param destino O destino da escrita.
+     * @param <A> O tipo do destino.
+     * @return O próprio destino.
+     */
+    <A extends Appendable> A renderizar(Sinistro sinistro, A destino);
+}
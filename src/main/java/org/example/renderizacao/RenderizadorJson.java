@@ -0,0 +1,217 @@
+package org.example.renderizacao;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Endereco;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+import org.example.model.Veiculo;
+
+import java.time.LocalDate;
+
+import static org.example.renderizacao.Escrita.caractere;
+import static org.example.renderizacao.Escrita.data;
+import static org.example.renderizacao.Escrita.numero;
+import static org.example.renderizacao.Escrita.texto;
+import static org.example.renderizacao.Escrita.trecho;
+
+/**
+ * Renderizador em JSON: cada entidade é escrita como um objeto em uma única linha, sem quebra
+ * de linha ao final (adequado para JSON Lines). Entidades associadas são escritas como objetos
+ * aninhados; referências nulas são escritas como null. Datas usam o formato ISO (aaaa-mm-dd) e
+ * valores não finitos são escritos como null.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public final class RenderizadorJson implements Renderizador {
+
+    /** Instância compartilhada (o renderizador não tem estado). */
+    public static final RenderizadorJson INSTANCIA = new RenderizadorJson();
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private RenderizadorJson() {
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Cliente cliente, A destino) {
+        if (cliente == null) {
+            texto(destino, "null");
+            return destino;
+        }
+        texto(destino, "{\"cpf\":");
+        string(destino, cliente.getCpf());
+        texto(destino, ",\"nome\":");
+        string(destino, cliente.getNome());
+        texto(destino, ",\"sexo\":");
+        string(destino, cliente.getSexo() == 0 ? null : String.valueOf(cliente.getSexo()));
+        texto(destino, ",\"telefone\":");
+        string(destino, cliente.getTelefone());
+        texto(destino, ",\"email\":");
+        string(destino, cliente.getEmail());
+        texto(destino, ",\"dataNascimento\":");
+        dataJson(destino, cliente.getDataNascimento());
+        texto(destino, ",\"endereco\":");
+        renderizar(cliente.getEndereco(), destino);
+        caractere(destino, '}');
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Endereco endereco, A destino) {
+        if (endereco == null) {
+            texto(destino, "null");
+            return destino;
+        }
+        texto(destino, "{\"logradouro\":");
+        string(destino, endereco.getLogradouro());
+        texto(destino, ",\"numero\":");
+        numero(destino, endereco.getNumero());
+        texto(destino, ",\"bairro\":");
+        string(destino, endereco.getBairro());
+        texto(destino, ",\"cidade\":");
+        string(destino, endereco.getCidade());
+        texto(destino, ",\"uf\":");
+        string(destino, endereco.getUf());
+        texto(destino, ",\"cep\":");
+        string(destino, endereco.getCep());
+        caractere(destino, '}');
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Apolice apolice, A destino) {
+        if (apolice == null) {
+            texto(destino, "null");
+            return destino;
+        }
+        texto(destino, "{\"numero\":");
+        string(destino, apolice.getNumeroApolice());
+        texto(destino, ",\"cliente\":");
+        renderizar(apolice.getCliente(), destino);
+        texto(destino, ",\"veiculo\":");
+        veiculo(destino, apolice.getVeiculo());
+        texto(destino, ",\"valor\":");
+        valor(destino, apolice.getValor());
+        texto(destino, ",\"dataInicio\":");
+        dataJson(destino, apolice.getDataInicio());
+        texto(destino, ",\"dataTermino\":");
+        dataJson(destino, apolice.getDataTermino());
+        caractere(destino, '}');
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Seguro seguro, A destino) {
+        if (seguro == null) {
+            texto(destino, "null");
+            return destino;
+        }
+        texto(destino, "{\"numero\":");
+        string(destino, seguro.getNumeroSeguro());
+        texto(destino, ",\"cliente\":");
+        renderizar(seguro.getCliente(), destino);
+        texto(destino, ",\"veiculo\":");
+        veiculo(destino, seguro.getVeiculo());
+        texto(destino, ",\"valor\":");
+        valor(destino, seguro.getValor());
+        texto(destino, ",\"dataInicio\":");
+        dataJson(destino, seguro.getDataInicio());
+        texto(destino, ",\"dataTermino\":");
+        dataJson(destino, seguro.getDataTermino());
+        caractere(destino, '}');
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Sinistro sinistro, A destino) {
+        if (sinistro == null) {
+            texto(destino, "null");
+            return destino;
+        }
+        texto(destino, "{\"numero\":");
+        string(destino, sinistro.getNumeroSinistro());
+        texto(destino, ",\"dataEvento\":");
+        dataJson(destino, sinistro.getDataEvento());
+        texto(destino, ",\"cliente\":");
+        renderizar(sinistro.getCliente(), destino);
+        texto(destino, ",\"apolice\":");
+        renderizar(sinistro.getApolice(), destino);
+        texto(destino, ",\"endereco\":");
+        renderizar(sinistro.getEndereco(), destino);
+        caractere(destino, '}');
+        return destino;
+    }
+
+    // Métodos auxiliares
+
+    private static void veiculo(Appendable destino, Veiculo veiculo) {
+        if (veiculo == null) {
+            texto(destino, "null");
+            return;
+        }
+        texto(destino, "{\"placa\":");
+        string(destino, veiculo.getPlaca());
+        texto(destino, ",\"tipo\":");
+        string(destino, veiculo.getTipo() == null ? null : veiculo.getTipo().name());
+        texto(destino, ",\"marca\":");
+        string(destino, veiculo.getMarca());
+        texto(destino, ",\"modelo\":");
+        string(destino, veiculo.getModelo());
+        texto(destino, ",\"ano\":");
+        numero(destino, veiculo.getAno());
+        caractere(destino, '}');
+    }
+
+    private static void valor(Appendable destino, double valor) {
+        if (Double.isFinite(valor)) {
+            numero(destino, valor);
+        } else {
+            texto(destino, "null");  // JSON não representa NaN nem infinito
+        }
+    }
+
+    private static void dataJson(Appendable destino, LocalDate valor) {
+        if (valor == null) {
+            texto(destino, "null");
+        } else {
+            caractere(destino, '"');
+            data(destino, valor);
+            caractere(destino, '"');
+        }
+    }
+
+    private static void string(Appendable destino, String valor) {
+        if (valor == null) {
+            texto(destino, "null");
+            return;
+        }
+        caractere(destino, '"');
+        int inicio = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            // Escreve de uma vez o trecho sem escapes e depois o caractere escapado
+            trecho(destino, valor, inicio, i);
+            caractere(destino, '\\');
+            switch (c) {
+                case '"' -> caractere(destino, '"');
+                case '\\' -> caractere(destino, '\\');
+                case '\n' -> caractere(destino, 'n');
+                case '\r' -> caractere(destino, 'r');
+                case '\t' -> caractere(destino, 't');
+                default -> {
+                    texto(destino, "u00");
+                    caractere(destino, HEX[c >> 4]);
+                    caractere(destino, HEX[c & 0xF]);
+                }
+            }
+            inicio = i + 1;
+        }
+        trecho(destino, valor, inicio, valor.length());
+        caractere(destino, '"');
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.renderizacao;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Endereco;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+
+import java.time.LocalDate;
+
+import static org.example.renderizacao.Escrita.caractere;
+import static org.example.renderizacao.Escrita.data;
+import static org.example.renderizacao.Escrita.numero;
+import static org.example.renderizacao.Escrita.texto;
+
+/**
+ * Renderizador em texto simples, no mesmo formato histórico dos métodos exibirDetalhes das
+ * entidades: uma informação por linha, com o separador de linha da plataforma.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public final class RenderizadorTexto implements Renderizador {
+
+    /** Instância compartilhada (o renderizador não tem estado). */
+    public static final RenderizadorTexto INSTANCIA = new RenderizadorTexto();
+
+    private static final String FIM_LINHA = System.lineSeparator();
+
+    private RenderizadorTexto() {
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Cliente cliente, A destino) {
+        texto(destino, "Cliente: ");
+        texto(destino, cliente.getNome());
+        texto(destino, " | CPF: ");
+        texto(destino, cliente.getCpf());
+        texto(destino, " | Sexo: ");
+        caractere(destino, cliente.getSexo());
+        texto(destino, FIM_LINHA);
+        renderizar(cliente.getEndereco(), destino);
+        texto(destino, "Telefone: ");
+        texto(destino, cliente.getTelefone());
+        texto(destino, " | Email: ");
+        texto(destino, cliente.getEmail());
+        texto(destino, FIM_LINHA);
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Endereco endereco, A destino) {
+        texto(destino, endereco.getLogradouro());
+        texto(destino, ", ");
+        numero(destino, endereco.getNumero());
+        texto(destino, " - ");
+        texto(destino, endereco.getBairro());
+        texto(destino, ", ");
+        texto(destino, endereco.getCidade());
+        texto(destino, " - ");
+        texto(destino, endereco.getUf());
+        texto(destino, " | CEP: ");
+        texto(destino, endereco.getCep());
+        texto(destino, FIM_LINHA);
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Apolice apolice, A destino) {
+        texto(destino, "Apólice Número: ");
+        texto(destino, apolice.getNumeroApolice());
+        texto(destino, FIM_LINHA);
+        renderizar(apolice.getCliente(), destino);
+        texto(destino, "Veículo: ");
+        texto(destino, apolice.getVeiculo().getModelo());
+        texto(destino, " - ");
+        texto(destino, apolice.getVeiculo().getPlaca());
+        texto(destino, FIM_LINHA);
+        texto(destino, "Valor da Apólice: R$");
+        numero(destino, apolice.getValor());
+        texto(destino, FIM_LINHA);
+        vigencia(apolice.getDataInicio(), apolice.getDataTermino(), destino);
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Seguro seguro, A destino) {
+        texto(destino, "Seguro Número: ");
+        texto(destino, seguro.getNumeroSeguro());
+        texto(destino, FIM_LINHA);
+        renderizar(seguro.getCliente(), destino);
+        texto(destino, "Veículo: ");
+        texto(destino, seguro.getVeiculo().getModelo());
+        texto(destino, " - ");
+        texto(destino, seguro.getVeiculo().getPlaca());
+        texto(destino, FIM_LINHA);
+        texto(destino, "Valor do Seguro: R$");
+        numero(destino, seguro.getValor());
+        texto(destino, FIM_LINHA);
+        vigencia(seguro.getDataInicio(), seguro.getDataTermino(), destino);
+        return destino;
+    }
+
+    @Override
+    public <A extends Appendable> A renderizar(Sinistro sinistro, A destino) {
+        texto(destino, "Sinistro Número: ");
+        texto(destino, sinistro.getNumeroSinistro());
+        texto(destino, FIM_LINHA);
+        texto(destino, "Data do Evento: ");
+        data(destino, sinistro.getDataEvento());
+        texto(destino, FIM_LINHA);
+        texto(destino, "Cliente Envolvido: ");
+        texto(destino, sinistro.getCliente().getNome());
+        texto(destino, " | CPF: ");
+        texto(destino, sinistro.getCliente().getCpf());
+        texto(destino, FIM_LINHA);
+        texto(destino, "Detalhes da Apólice: ");
+        texto(destino, FIM_LINHA);
+        renderizar(sinistro.getApolice(), destino);
+        texto(destino, "Endereço do Sinistro: ");
+        texto(destino, FIM_LINHA);
+        renderizar(sinistro.getEndereco(), destino);
+        return destino;
+    }
+
+    private static void vigencia(LocalDate inicio, LocalDate termino, Appendable destino) {
+        texto(destino, "Válido de ");
+        data(destino, inicio);
+        texto(destino, " até ");
+        data(destino, termino);
+        texto(destino, FIM_LINHA);
+    }
+}
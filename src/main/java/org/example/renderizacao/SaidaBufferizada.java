@@ -0,0 +1,108 @@
+package org.example.renderizacao;
+
+import java.io.Flushable;
+import java.io.PrintStream;
+
+/**
+ * Destino Appendable que acumula o texto em memória e o escreve em um PrintStream (por padrão,
+ * o console) em blocos: a escrita ocorre quando o acúmulo atinge o limite configurado, em
+ * {@link #flush()} ou em {@link #close()}. Assim, listagens com milhares de entidades fazem
+ * poucas chamadas sincronizadas ao PrintStream, em vez de uma ou mais por linha.
+ *
+ * Não é thread-safe. Textos escritos diretamente no PrintStream enquanto houver conteúdo
+ * acumulado aparecem antes dele; chame {@link #flush()} antes de intercalar escritas.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class SaidaBufferizada implements Appendable, Flushable, AutoCloseable {
+
+    /** Limite padrão de acúmulo, em caracteres. */
+    public static final int LIMITE_PADRAO = 64 * 1024;
+
+    private final PrintStream destino;
+    private final int limite;
+    private final StringBuilder acumulado;
+
+    /**
+     * Construtor que escreve no console (System.out) com o limite padrão.
+     */
+    public SaidaBufferizada() {
+        this(System.out, LIMITE_PADRAO);
+    }
+
+    /**
+     * Construtor que escreve no PrintStream informado.
+     *
+     * @param destino O PrintStream de destino.
+     * @param limite A quantidade de caracteres acumulados que dispara uma escrita.
+     */
+    public SaidaBufferizada(PrintStream destino, int limite) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("O limite de acúmulo deve ser positivo.");
+        }
+        this.destino = destino;
+        this.limite = limite;
+        this.acumulado = new StringBuilder(Math.min(limite, LIMITE_PADRAO) + 1024);
+    }
+
+    @Override
+    public SaidaBufferizada append(CharSequence texto) {
+        acumulado.append(texto);
+        descarregarSeCheio();
+        return this;
+    }
+
+    @Override
+    public SaidaBufferizada append(CharSequence texto, int inicio, int fim) {
+        acumulado.append(texto, inicio, fim);
+        descarregarSeCheio();
+        return this;
+    }
+
+    @Override
+    public SaidaBufferizada append(char c) {
+        acumulado.append(c);
+        descarregarSeCheio();
+        return this;
+    }
+
+    /**
+     * Escreve o conteúdo acumulado no PrintStream de destino.
+     */
+    @Override
+    public void flush() {
+        if (acumulado.length() > 0) {
+            destino.append(acumulado);
+            acumulado.setLength(0);
+        }
+        destino.flush();
+    }
+
+    /**
+     * Escreve o conteúdo acumulado. O PrintStream de destino não é fechado.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    // Acréscimos numéricos sem Strings intermediárias, usados pelos renderizadores
+
+    void anexar(int valor) {
+        acumulado.append(valor);
+        descarregarSeCheio();
+    }
+
+    void anexar(double valor) {
+        acumulado.append(valor);
+        descarregarSeCheio();
+    }
+
+    private void descarregarSeCheio() {
+        if (acumulado.length() >= limite) {
+            destino.append(acumulado);
+            acumulado.setLength(0);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package org.example.service;
 
+import org.example.cache.EstatisticasCache;
+import org.example.dao.Pagina;
+import org.example.exportacao.ResultadoExportacao;
 import org.example.model.Apolice;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Interface que define os serviços relacionados à apólice de seguro.
@@ -10,7 +17,7 @@ import java.util.List;
  * listagem de apólices e geração de relatórios.
  *
  * @since 1.0
- * @version 1.2
+ * @version 1.9
  */
 public interface ApoliceService {
 
@@ -22,6 +29,26 @@ public interface ApoliceService {
      */
     double calcularValor(Apolice apolice);
 
+    /**
+     * Calcula o valor de um lote de apólices.
+     * O resultado de cada posição é igual ao de {@link #calcularValor(Apolice)} para a apólice
+     * correspondente, mas o cálculo é feito de uma só vez sobre arrays primitivos.
+     *
+     * @param apolices As apólices a serem precificadas.
+     * @return Os valores calculados, na mesma ordem da lista.
+     */
+    double[] calcularValores(List<Apolice> apolices);
+
+    /**
+     * Calcula o valor da apólice de forma assíncrona.
+     * Pedidos concorrentes podem ser agrupados em lotes e calculados com {@link #calcularValores(List)};
+     * o valor é o mesmo de {@link #calcularValor(Apolice)}.
+     *
+     * @param apolice A apólice para a qual o valor será calculado.
+     * @return Um futuro com o valor calculado da apólice.
+     */
+    CompletableFuture<Double> calcularValorAsync(Apolice apolice);
+
     /**
      * Renova a apólice, alterando a data de término.
      *
@@ -48,10 +75,20 @@ public interface ApoliceService {
     /**
      * Lista todas as apólices registradas no sistema.
      *
-     * @return Uma lista contendo todas as apólices.
+     * @return Uma lista somente leitura contendo todas as apólices.
      */
     List<Apolice> listarApolices();
 
+    /**
+     * Lista as apólices em páginas, em ordem crescente de número da apólice.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de apólices na página.
+     * @return A página de apólices.
+     * @throws IllegalArgumentException Se o tamanho não for positivo ou o cursor for inválido.
+     */
+    Pagina<Apolice> listarApolices(String cursor, int tamanho);
+
     /**
      * Gera um relatório de apólices dentro de um determinado período.
      *
@@ -60,4 +97,40 @@ public interface ApoliceService {
      * @return Uma lista de apólices que foram emitidas dentro do período especificado.
      */
     List<Apolice> gerarRelatorio(LocalDate dataInicio, LocalDate dataTermino);
+
+    /**
+     * Gera o relatório de apólices de um período como um fluxo preguiçoso.
+     * As apólices são produzidas sob demanda, sem construir a lista completa em memória.
+     *
+     * @param dataInicio A data de início do período.
+     * @param dataTermino A data de término do período.
+     * @return Um fluxo das apólices emitidas dentro do período especificado.
+     */
+    Stream<Apolice> gerarRelatorioStream(LocalDate dataInicio, LocalDate dataTermino);
+
+    /**
+     * Exporta o relatório de apólices de um período para um arquivo CSV, com memória constante.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param dataInicio A data de início do período.
+     * @param dataTermino A data de término do período.
+     * @return O resultado da exportação, com a vazão em linhas por segundo.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    ResultadoExportacao exportarRelatorio(Path arquivo, LocalDate dataInicio, LocalDate dataTermino) throws IOException;
+
+    /**
+     * Lista as apólices que vencem entre hoje e os próximos dias informados (inclusive).
+     *
+     * @param dias A quantidade de dias a partir de hoje (0 para apenas as que vencem hoje).
+     * @return Lista de apólices que vencem no período, ordenada pela data de término quando suportado.
+     */
+    List<Apolice> listarApolicesVencendo(int dias);
+
+    /**
+     * Obtém as métricas do cache de cotações usado por {@link #calcularValor(Apolice)}.
+     *
+     * @return As estatísticas do cache de cotações.
+     */
+    EstatisticasCache estatisticasCacheCotacoes();
 }
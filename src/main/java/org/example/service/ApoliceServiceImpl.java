@@ -1,51 +1,231 @@
 package org.example.service;
 
+import org.example.exportacao.ExportadorCsv;
+import org.example.exportacao.ResultadoExportacao;
 import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+import org.example.cache.EstatisticasCache;
+import org.example.tarifa.CacheCotacoes;
+import org.example.tarifa.MotorTarifas;
+import org.example.tarifa.TabelaTarifas;
+import org.example.tempo.Relogio;
+import org.example.tempo.Relogios;
 
 import org.example.service.ClienteService;
 import org.example.dao.ApoliceDao;
+import org.example.dao.Pagina;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Implementação da interface ApoliceService.
  * Esta classe implementa a lógica de negócios para as operações de apólice, como cálculo de valor,
  * renovação, cancelamento, verificação de validade, listagem e geração de relatórios.
  *
+ * As cotações assíncronas usam um CotadorAssincrono criado no primeiro pedido, com uma thread
+ * despachante própria; {@link #close()} encerra esse cotador. Depois de fechado, o serviço continua
+ * atendendo as operações síncronas e recusa novas cotações assíncronas.
+ *
  * @since 1.0
- * @version 1.2
+ * @version 1.12
  */
-public class ApoliceServiceImpl implements ApoliceService {
+public class ApoliceServiceImpl implements ApoliceService, AutoCloseable {
 
     private ApoliceDao apoliceDao;         // Dependência para acessar o repositório de apólices
     private ClienteService clienteService; // Dependência para acessar serviços de cliente
+    private final Relogio relogio;         // Fonte da data corrente
+    private final int tamanhoLoteAsync;    // Configuração do cotador assíncrono
+    private final Duration esperaMaximaAsync;
+    private volatile CotadorAssincrono cotador;  // Criado no primeiro pedido assíncrono
+    private boolean fechado;                     // Protegido pelo monitor do serviço
+    private final CacheCotacoes cacheCotacoes;   // Cotações por tipo, ano, desconto e tabela
 
     /**
      * Construtor que inicializa o serviço com um DAO de apólices e um serviço de cliente.
+     * Usa o relógio padrão (Relogios.padrao()).
      *
      * @param apoliceDao Instância da classe que implementa ApoliceDao.
      * @param clienteService Instância da classe que implementa ClienteService.
      */
     public ApoliceServiceImpl(ApoliceDao apoliceDao, ClienteService clienteService) {
+        this(apoliceDao, clienteService, Relogios.padrao());
+    }
+
+    /**
+     * Construtor que inicializa o serviço com um DAO de apólices, um serviço de cliente e um relógio.
+     *
+     * @param apoliceDao Instância da classe que implementa ApoliceDao.
+     * @param clienteService Instância da classe que implementa ClienteService.
+     * @param relogio O relógio usado como fonte da data corrente.
+     */
+    public ApoliceServiceImpl(ApoliceDao apoliceDao, ClienteService clienteService, Relogio relogio) {
+        this(apoliceDao, clienteService, relogio, CotadorAssincrono.TAMANHO_LOTE_PADRAO, CotadorAssincrono.ESPERA_MAXIMA_PADRAO);
+    }
+
+    /**
+     * Construtor que também configura o agrupamento das cotações assíncronas.
+     *
+     * @param apoliceDao Instância da classe que implementa ApoliceDao.
+     * @param clienteService Instância da classe que implementa ClienteService.
+     * @param relogio O relógio usado como fonte da data corrente.
+     * @param tamanhoLoteAsync A quantidade máxima de cotações assíncronas por lote.
+     * @param esperaMaximaAsync A espera máxima para completar um lote de cotações assíncronas.
+     */
+    public ApoliceServiceImpl(ApoliceDao apoliceDao, ClienteService clienteService, Relogio relogio,
+                              int tamanhoLoteAsync, Duration esperaMaximaAsync) {
+        this(apoliceDao, clienteService, relogio, tamanhoLoteAsync, esperaMaximaAsync, CacheCotacoes.padrao());
+    }
+
+    /**
+     * Construtor que também define o cache de cotações usado por calcularValor.
+     *
+     * @param apoliceDao Instância da classe que implementa ApoliceDao.
+     * @param clienteService Instância da classe que implementa ClienteService.
+     * @param relogio O relógio usado como fonte da data corrente.
+     * @param tamanhoLoteAsync A quantidade máxima de cotações assíncronas por lote.
+     * @param esperaMaximaAsync A espera máxima para completar um lote de cotações assíncronas.
+     * @param cacheCotacoes O cache de cotações.
+     */
+    public ApoliceServiceImpl(ApoliceDao apoliceDao, ClienteService clienteService, Relogio relogio,
+                              int tamanhoLoteAsync, Duration esperaMaximaAsync, CacheCotacoes cacheCotacoes) {
+        if (tamanhoLoteAsync <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+        if (esperaMaximaAsync.isNegative()) {
+            throw new IllegalArgumentException("A espera máxima não pode ser negativa.");
+        }
         this.apoliceDao = apoliceDao;
         this.clienteService = clienteService;
+        this.relogio = relogio;
+        this.tamanhoLoteAsync = tamanhoLoteAsync;
+        this.esperaMaximaAsync = esperaMaximaAsync;
+        this.cacheCotacoes = cacheCotacoes;
     }
 
     public ApoliceServiceImpl() {
-
+        this.relogio = Relogios.padrao();
+        this.tamanhoLoteAsync = CotadorAssincrono.TAMANHO_LOTE_PADRAO;
+        this.esperaMaximaAsync = CotadorAssincrono.ESPERA_MAXIMA_PADRAO;
+        this.cacheCotacoes = CacheCotacoes.padrao();
     }
 
     /**
      * Calcula o valor da apólice com base no veículo e no cliente.
+     * O valor é obtido do cache de cotações, indexado pelo tipo e ano do veículo, pelo desconto
+     * do cliente, pela tabela de tarifas vigente e pelo ano corrente.
      *
      * @param apolice A apólice para a qual o valor será calculado.
      * @return O valor calculado da apólice.
      */
     @Override
     public double calcularValor(Apolice apolice) {
-        double valorBase = apolice.getVeiculo().calcularValorSeguro(); // Calcula o valor base do seguro do veículo
         double desconto = clienteService.calcularDesconto(apolice.getCliente()); // Obtém o desconto do cliente através do ClienteService
-        return valorBase * (1 - desconto); // Retorna o valor final com desconto aplicado
+        return cacheCotacoes.cotar(apolice.getVeiculo(), desconto, relogio.anoAtual()); // Valor do veículo com desconto aplicado
+    }
+
+    /**
+     * Obtém as métricas do cache de cotações.
+     *
+     * @return As estatísticas do cache de cotações.
+     */
+    @Override
+    public EstatisticasCache estatisticasCacheCotacoes() {
+        return cacheCotacoes.estatisticas();
+    }
+
+    /**
+     * Calcula o valor de um lote de apólices.
+     * Reúne em arrays primitivos a tarifa de cada veículo, obtida por tipo e idade de uma mesma
+     * tabela do MotorTarifas para todo o lote, e o desconto do cliente (consultado uma única vez
+     * para apólices consecutivas do mesmo cliente), e calcula os prêmios com CalculoPremioLote,
+     * que usa a Vector API quando disponível. Veículos sem tipo informado têm o valor calculado
+     * individualmente pelo próprio veículo.
+     *
+     * @param apolices As apólices a serem precificadas.
+     * @return Os valores calculados, na mesma ordem da lista.
+     * @throws IllegalArgumentException Se a lista for nula ou algum cliente for inválido.
+     */
+    @Override
+    public double[] calcularValores(List<Apolice> apolices) {
+        if (apolices == null) {
+            throw new IllegalArgumentException("Lista de apólices não pode ser nula.");
+        }
+        int n = apolices.size();
+        double[] valorVeiculo = new double[n];
+        double[] desconto = new double[n];
+        TabelaTarifas tarifas = MotorTarifas.padrao().getTabela();  // Mesma tabela para todo o lote
+        int anoAtual = relogio.anoAtual();
+        Cliente clienteAnterior = null;
+        double descontoAnterior = 0;
+
+        int i = 0;
+        for (Apolice apolice : apolices) {
+            Veiculo veiculo = apolice.getVeiculo();
+            TipoVeiculo tipo = veiculo.getTipo();
+            valorVeiculo[i] = tipo != null
+                    ? tarifas.valor(tipo, anoAtual - veiculo.getAno())
+                    : veiculo.calcularValorSeguro();  // Sem tipo: o veículo calcula o próprio valor
+            Cliente cliente = apolice.getCliente();
+            if (cliente != clienteAnterior || i == 0) {  // Apólices consecutivas do mesmo cliente reaproveitam o desconto
+                descontoAnterior = clienteService.calcularDesconto(cliente);
+                clienteAnterior = cliente;
+            }
+            desconto[i] = descontoAnterior;
+            i++;
+        }
+
+        double[] valores = new double[n];
+        CalculoPremioLote.calcular(valorVeiculo, desconto, valores, n);
+        return valores;
+    }
+
+    /**
+     * Calcula o valor da apólice de forma assíncrona, por um CotadorAssincrono próprio do serviço.
+     * Pedidos que chegam dentro da espera máxima são agrupados em lotes calculados em threads virtuais.
+     *
+     * @param apolice A apólice para a qual o valor será calculado.
+     * @return Um futuro com o valor calculado da apólice; falha com IllegalStateException se o serviço
+     *         estiver fechado.
+     */
+    @Override
+    public CompletableFuture<Double> calcularValorAsync(Apolice apolice) {
+        CotadorAssincrono atual = cotador;
+        if (atual == null) {
+            synchronized (this) {
+                if (fechado) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("Serviço de apólices encerrado."));
+                }
+                atual = cotador;
+                if (atual == null) {
+                    atual = new CotadorAssincrono(this, tamanhoLoteAsync, esperaMaximaAsync);
+                    cotador = atual;
+                }
+            }
+        }
+        return atual.cotar(apolice);
+    }
+
+    /**
+     * Encerra o cotador assíncrono, se tiver sido criado: novos pedidos assíncronos são recusados e
+     * os já enfileirados são calculados antes do retorno.
+     */
+    @Override
+    public void close() {
+        CotadorAssincrono atual;
+        synchronized (this) {
+            fechado = true;
+            atual = cotador;
+        }
+        if (atual != null) {
+            atual.close();
+        }
     }
 
     /**
@@ -67,7 +247,7 @@ public class ApoliceServiceImpl implements ApoliceService {
      */
     @Override
     public void cancelarApolice(Apolice apolice) {
-        apolice.setDataTermino(LocalDate.now()); // Define a data de término para a data atual
+        apolice.setDataTermino(relogio.hoje()); // Define a data de término para a data atual
         apoliceDao.atualizarApolice(apolice);    // Atualiza a apólice no repositório
     }
 
@@ -79,7 +259,7 @@ public class ApoliceServiceImpl implements ApoliceService {
      */
     @Override
     public boolean verificarValidade(Apolice apolice) {
-        LocalDate hoje = LocalDate.now(); // Obtém a data atual
+        LocalDate hoje = relogio.hoje(); // Obtém a data atual
         return (hoje.isAfter(apolice.getDataInicio()) || hoje.isEqual(apolice.getDataInicio())) &&
                 hoje.isBefore(apolice.getDataTermino()); // Verifica se a data atual está entre a data de início e término
     }
@@ -94,8 +274,21 @@ public class ApoliceServiceImpl implements ApoliceService {
         return apoliceDao.listarApolices(); // Retorna todas as apólices do repositório
     }
 
+    /**
+     * Lista as apólices em páginas, delegando ao DAO.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de apólices na página.
+     * @return A página de apólices, em ordem crescente de número.
+     */
+    @Override
+    public Pagina<Apolice> listarApolices(String cursor, int tamanho) {
+        return apoliceDao.listarApolices(cursor, tamanho);
+    }
+
     /**
      * Gera um relatório de apólices dentro de um determinado período.
+     * A consulta é delegada ao DAO, que utiliza seu índice por data de início quando disponível.
      *
      * @param dataInicio A data de início do período.
      * @param dataTermino A data de término do período.
@@ -103,9 +296,47 @@ public class ApoliceServiceImpl implements ApoliceService {
      */
     @Override
     public List<Apolice> gerarRelatorio(LocalDate dataInicio, LocalDate dataTermino) {
-        List<Apolice> todasAsApolices = apoliceDao.listarApolices(); // Obtém todas as apólices
-        return todasAsApolices.stream()
-                .filter(apolice -> !apolice.getDataInicio().isBefore(dataInicio) && !apolice.getDataInicio().isAfter(dataTermino))
-                .toList(); // Filtra as apólices que estão dentro do período
+        return apoliceDao.buscarApolicesPorPeriodo(dataInicio, dataTermino); // Custa apenas as apólices do período
+    }
+
+    /**
+     * Gera o relatório de apólices de um período como um fluxo preguiçoso.
+     *
+     * @param dataInicio A data de início do período.
+     * @param dataTermino A data de término do período.
+     * @return Um fluxo das apólices emitidas dentro do período especificado.
+     */
+    @Override
+    public Stream<Apolice> gerarRelatorioStream(LocalDate dataInicio, LocalDate dataTermino) {
+        return apoliceDao.streamApolicesPorPeriodo(dataInicio, dataTermino);
+    }
+
+    /**
+     * Exporta o relatório de apólices de um período para CSV, consumindo o fluxo preguiçoso do DAO.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param dataInicio A data de início do período.
+     * @param dataTermino A data de término do período.
+     * @return O resultado da exportação.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    @Override
+    public ResultadoExportacao exportarRelatorio(Path arquivo, LocalDate dataInicio, LocalDate dataTermino) throws IOException {
+        return new ExportadorCsv().exportarApolices(arquivo, gerarRelatorioStream(dataInicio, dataTermino));
+    }
+
+    /**
+     * Lista as apólices que vencem entre hoje e os próximos dias informados, pelo índice de vencimento do DAO.
+     *
+     * @param dias A quantidade de dias a partir de hoje.
+     * @return Lista de apólices que vencem no período.
+     */
+    @Override
+    public List<Apolice> listarApolicesVencendo(int dias) {
+        if (dias < 0) {
+            throw new IllegalArgumentException("A quantidade de dias não pode ser negativa.");
+        }
+        LocalDate hoje = relogio.hoje();
+        return apoliceDao.buscarApolicesVencendoEntre(hoje, hoje.plusDays(dias));
     }
 }
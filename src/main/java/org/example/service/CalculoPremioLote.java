@@ -0,0 +1,43 @@
+package org.example.service;
+
+/**
+ * Núcleo do cálculo de prêmios em lote sobre arrays primitivos.
+ * Calcula, para cada posição, {@code valorVeiculo * (1 - desconto)}, com as mesmas operações de
+ * ApoliceServiceImpl.calcularValor, de modo que o resultado é idêntico ao do cálculo individual.
+ *
+ * Usa a Vector API (CalculoPremioVetorial) quando o módulo jdk.incubator.vector foi carregado
+ * pela JVM ({@code --add-modules jdk.incubator.vector}); caso contrário, usa o laço escalar.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+final class CalculoPremioLote {
+
+    // Decidido uma única vez: a classe vetorial só é carregada se o módulo estiver presente
+    static final boolean VETORIAL = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private CalculoPremioLote() {
+    }
+
+    /**
+     * Calcula os prêmios das n primeiras posições.
+     *
+     * @param valorVeiculo Valor do seguro de cada veículo (tarifa por tipo e idade).
+     * @param desconto Percentual de desconto de cada cliente (0 a 1).
+     * @param resultado Array que recebe os prêmios calculados.
+     * @param n Quantidade de posições a calcular.
+     */
+    static void calcular(double[] valorVeiculo, double[] desconto, double[] resultado, int n) {
+        if (VETORIAL) {
+            CalculoPremioVetorial.calcular(valorVeiculo, desconto, resultado, n);
+        } else {
+            calcularEscalar(valorVeiculo, desconto, resultado, 0, n);
+        }
+    }
+
+    static void calcularEscalar(double[] valorVeiculo, double[] desconto, double[] resultado, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            resultado[i] = valorVeiculo[i] * (1 - desconto[i]);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Cálculo de prêmios em lote com a Vector API (módulo jdk.incubator.vector).
+ * Só deve ser referenciada quando {@link CalculoPremioLote#VETORIAL} for verdadeiro.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+final class CalculoPremioVetorial {
+
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+
+    private CalculoPremioVetorial() {
+    }
+
+    static void calcular(double[] valorVeiculo, double[] desconto, double[] resultado, int n) {
+        DoubleVector um = DoubleVector.broadcast(ESPECIE, 1.0);
+        int limite = ESPECIE.loopBound(n);
+        int i = 0;
+        for (; i < limite; i += ESPECIE.length()) {
+            DoubleVector valor = DoubleVector.fromArray(ESPECIE, valorVeiculo, i);
+            DoubleVector fator = um.sub(DoubleVector.fromArray(ESPECIE, desconto, i));
+            valor.mul(fator).intoArray(resultado, i);
+        }
+        CalculoPremioLote.calcularEscalar(valorVeiculo, desconto, resultado, i, n);  // Cauda
+    }
+}
@@ -1,6 +1,12 @@
 package org.example.service;
 
+import org.example.cache.EstatisticasCache;
+import org.example.dao.Pagina;
+import org.example.importacao.RelatorioImportacao;
 import org.example.model.Cliente;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 
 /**
@@ -8,7 +14,7 @@ import java.util.Map;
  * Lida com a lógica de negócios como cálculo de descontos e gerenciamento de clientes.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.3
  */
 public interface ClienteService {
 
@@ -19,6 +25,16 @@ public interface ClienteService {
      */
     void registrarCliente(Cliente cliente);
 
+    /**
+     * Importa em lote os clientes de um arquivo CSV.
+     * As linhas inválidas são rejeitadas individualmente e relatadas, sem interromper a importação.
+     *
+     * @param arquivo Arquivo CSV no formato aceito por ImportadorClientesCsv.
+     * @return O relatório da importação.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    RelatorioImportacao importarClientes(Path arquivo) throws IOException;
+
     /**
      * Busca um cliente pelo CPF.
      *
@@ -30,10 +46,20 @@ public interface ClienteService {
     /**
      * Retorna todos os clientes cadastrados no sistema.
      *
-     * @return Um mapa contendo todos os clientes.
+     * @return Um mapa somente leitura contendo todos os clientes.
      */
     Map<String, Cliente> listarClientes();
 
+    /**
+     * Lista os clientes em páginas, em ordem crescente de CPF.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de clientes na página.
+     * @return A página de clientes.
+     * @throws IllegalArgumentException Se o tamanho não for positivo ou o cursor for inválido.
+     */
+    Pagina<Cliente> listarClientes(String cursor, int tamanho);
+
     /**
      * Atualiza as informações de um cliente.
      *
@@ -49,4 +75,11 @@ public interface ClienteService {
     void removerCliente(String cpf);
 
     double calcularDesconto(Cliente cliente);
+
+    /**
+     * Obtém as métricas (acertos, falhas e descartes) do cache de descontos por CPF.
+     *
+     * @return As estatísticas do cache de descontos.
+     */
+    EstatisticasCache estatisticasCacheDescontos();
 }
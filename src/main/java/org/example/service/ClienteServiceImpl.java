@@ -1,10 +1,19 @@
 package org.example.service;
 
+import org.example.cache.CacheLru;
+import org.example.cache.EstatisticasCache;
 import org.example.dao.ClienteDao;
+import org.example.dao.Pagina;
+import org.example.importacao.ImportadorClientesCsv;
+import org.example.importacao.RelatorioImportacao;
 import org.example.model.Cliente;
 import org.example.service.ClienteService;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Implementação da interface ClienteService.
@@ -12,14 +21,37 @@ import java.util.Map;
  * Ela utiliza um ClienteDao para interagir com os dados persistidos, aplicando as regras de negócio adequadas
  * antes de delegar as operações CRUD ao DAO.
  *
+ * Quando construída com uma capacidade de cache, mantém um cache limitado (LRU) dos descontos por
+ * CPF, segmentado por lock (CacheLru), para que consultas de CPFs diferentes não disputem um único
+ * monitor na frente do índice de sinistros do DAO, que é lido sem bloqueio. Uma entrada é
+ * invalidada quando um sinistro do cliente é registrado, atualizado ou removido (aviso do índice)
+ * e quando o cliente é registrado, atualizado ou removido. {@link #close()} desliga o serviço dos
+ * avisos do índice; depois disso, os descontos são calculados sem cache.
+ *
  * @since 1.0
- * @version 1.3
+ * @version 1.9
  */
-public class ClienteServiceImpl implements ClienteService {
+public class ClienteServiceImpl implements ClienteService, AutoCloseable {
+
+    /** Capacidade de cache de descontos sugerida, em entradas. */
+    public static final int CAPACIDADE_CACHE_PADRAO = 100_000;
 
     // Dependência ClienteDao injetada via construtor para interagir com a camada de persistência
     private final ClienteDao clienteDao;
 
+    // Importador usado na carga em lote de arquivos CSV
+    private final ImportadorClientesCsv importador;
+
+    // Cache de descontos por CPF (null quando o serviço é construído sem cache)
+    private final CacheLru<String, Double> cacheDescontos;
+
+    // Ouvinte registrado no índice de sinistros do DAO (null sem cache), removido em close()
+    private final Consumer<String> ouvinte;
+    private volatile boolean fechado;
+
+    // Incrementado a cada invalidação; descarta descontos calculados durante uma invalidação concorrente
+    private final AtomicLong geracaoInvalidacao = new AtomicLong();
+
     /**
      * Construtor da classe ClienteServiceImpl.
      * Recebe uma instância de ClienteDao para gerenciar os dados de clientes.
@@ -27,7 +59,52 @@ public class ClienteServiceImpl implements ClienteService {
      * @param clienteDao A instância de ClienteDao que será usada para persistência.
      */
     public ClienteServiceImpl(ClienteDao clienteDao) {
+        this(clienteDao, new ImportadorClientesCsv());
+    }
+
+    /**
+     * Construtor da classe ClienteServiceImpl com um importador configurado.
+     *
+     * @param clienteDao A instância de ClienteDao que será usada para persistência.
+     * @param importador O importador usado por {@link #importarClientes(Path)}.
+     */
+    public ClienteServiceImpl(ClienteDao clienteDao, ImportadorClientesCsv importador) {
         this.clienteDao = clienteDao;
+        this.importador = importador;
+        this.cacheDescontos = null;
+        this.ouvinte = null;
+    }
+
+    /**
+     * Construtor da classe ClienteServiceImpl com cache de descontos, invalidado pelos avisos do
+     * índice de sinistros do DAO (ClienteDao.getIndiceSinistros).
+     *
+     * @param clienteDao A instância de ClienteDao que será usada para persistência.
+     * @param capacidadeCache O número máximo de descontos mantidos em cache
+     *                        (por exemplo, {@link #CAPACIDADE_CACHE_PADRAO}).
+     * @throws IllegalArgumentException Se o DAO não tiver índice de sinistros ou a capacidade for inválida.
+     */
+    public ClienteServiceImpl(ClienteDao clienteDao, int capacidadeCache) {
+        this(clienteDao, capacidadeCache, new ImportadorClientesCsv());
+    }
+
+    /**
+     * Construtor da classe ClienteServiceImpl com cache de descontos e um importador configurado.
+     *
+     * @param clienteDao A instância de ClienteDao que será usada para persistência.
+     * @param capacidadeCache O número máximo de descontos mantidos em cache.
+     * @param importador O importador usado por {@link #importarClientes(Path)}.
+     * @throws IllegalArgumentException Se o DAO não tiver índice de sinistros ou a capacidade for inválida.
+     */
+    public ClienteServiceImpl(ClienteDao clienteDao, int capacidadeCache, ImportadorClientesCsv importador) {
+        if (clienteDao.getIndiceSinistros() == null) {
+            throw new IllegalArgumentException("O cache de descontos exige um ClienteDao com índice de sinistros.");
+        }
+        this.clienteDao = clienteDao;
+        this.importador = importador;
+        this.cacheDescontos = new CacheLru<>(capacidadeCache);
+        this.ouvinte = this::invalidarDesconto;
+        clienteDao.getIndiceSinistros().adicionarOuvinte(ouvinte);
     }
 
     /**
@@ -47,6 +124,31 @@ public class ClienteServiceImpl implements ClienteService {
         }
         // Chama o DAO para persistir o cliente após as validações
         clienteDao.adicionarCliente(cliente);
+        invalidarDesconto(cliente.getCpf());
+    }
+
+    /**
+     * Importa em lote os clientes de um arquivo CSV.
+     * O arquivo é convertido e validado em paralelo pelo ImportadorClientesCsv. A importação é mais
+     * restrita que {@link #registrarCliente(Cliente)}, que só exige o CPF: cada linha também precisa ter
+     * CPF com 11 dígitos (com ou sem formatação), nome, sexo, número e UF válidos. Os clientes
+     * válidos são incluídos no DAO em lotes, pela thread chamadora, com o CPF como informado.
+     *
+     * @param arquivo O arquivo CSV a ser importado.
+     * @return O relatório da importação, com os erros por linha.
+     * @throws IllegalArgumentException Se o arquivo for nulo.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    @Override
+    public RelatorioImportacao importarClientes(Path arquivo) throws IOException {
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo de importação não pode ser nulo.");
+        }
+        try {
+            return importador.importar(arquivo, clienteDao::adicionarClientes);
+        } finally {
+            invalidarDescontos();  // Os clientes importados podem substituir clientes em cache
+        }
     }
 
     /**
@@ -76,6 +178,18 @@ public class ClienteServiceImpl implements ClienteService {
         return clienteDao.listarClientes();
     }
 
+    /**
+     * Lista os clientes em páginas, delegando ao DAO.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de clientes na página.
+     * @return A página de clientes, em ordem crescente de CPF.
+     */
+    @Override
+    public Pagina<Cliente> listarClientes(String cursor, int tamanho) {
+        return clienteDao.listarClientes(cursor, tamanho);
+    }
+
     /**
      * Atualiza as informações de um cliente no sistema.
      * Antes de atualizar, valida os dados do cliente e garante que ele existe no sistema.
@@ -95,6 +209,7 @@ public class ClienteServiceImpl implements ClienteService {
         }
         // Chama o DAO para atualizar o cliente
         clienteDao.atualizarCliente(cliente);
+        invalidarDesconto(cliente.getCpf());
     }
 
     /**
@@ -116,6 +231,7 @@ public class ClienteServiceImpl implements ClienteService {
         }
         // Chama o DAO para remover o cliente pelo CPF
         clienteDao.removerCliente(cpf);
+        invalidarDesconto(cpf);
     }
 
     /**
@@ -132,10 +248,63 @@ public class ClienteServiceImpl implements ClienteService {
             throw new IllegalArgumentException("Cliente inválido.");
         }
 
+        if (cacheDescontos == null || fechado) {
+            return descontoPorHistorico(cliente.getCpf());
+        }
+        Double emCache = cacheDescontos.obter(cliente.getCpf());
+        if (emCache != null) {
+            return emCache;
+        }
+        long geracao = geracaoInvalidacao.get();
+        double desconto = descontoPorHistorico(cliente.getCpf());
+        // Só guarda se nenhuma invalidação ocorreu durante o cálculo
+        cacheDescontos.colocarSe(cliente.getCpf(), desconto, () -> geracaoInvalidacao.get() == geracao);
+        return desconto;
+    }
+
+    /**
+     * Obtém as métricas do cache de descontos.
+     *
+     * @return As estatísticas do cache, ou estatísticas zeradas se o cache não estiver habilitado.
+     */
+    @Override
+    public EstatisticasCache estatisticasCacheDescontos() {
+        return cacheDescontos == null ? new EstatisticasCache(0, 0, 0, 0, 0) : cacheDescontos.estatisticas();
+    }
+
+    /**
+     * Remove o ouvinte do índice de sinistros do DAO e esvazia o cache de descontos. O serviço
+     * continua utilizável, calculando os descontos sem cache.
+     */
+    @Override
+    public void close() {
+        if (ouvinte != null && !fechado) {
+            fechado = true;
+            clienteDao.getIndiceSinistros().removerOuvinte(ouvinte);
+            invalidarDescontos();
+        }
+    }
+
+    private double descontoPorHistorico(String cpf) {
         // Verifica se o cliente possui sinistros
-        boolean temSinistro = clienteDao.verificarSinistros(cliente.getCpf());
+        boolean temSinistro = clienteDao.verificarSinistros(cpf);
 
         // Aplica a lógica de desconto: 10% de desconto se não houver sinistros
         return temSinistro ? 0.0 : 0.10;  // 0% se tiver sinistro, 10% se não tiver.
     }
+
+    // A geração é incrementada antes da remoção (ver CacheLru.colocarSe)
+    private void invalidarDesconto(String cpf) {
+        if (cacheDescontos != null && cpf != null) {
+            geracaoInvalidacao.incrementAndGet();
+            cacheDescontos.remover(cpf);
+        }
+    }
+
+    private void invalidarDescontos() {
+        if (cacheDescontos != null) {
+            geracaoInvalidacao.incrementAndGet();
+            cacheDescontos.limpar();
+        }
+    }
 }
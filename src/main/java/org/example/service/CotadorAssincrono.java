@@ -0,0 +1,210 @@
+package org.example.service;
+
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cotador assíncrono de apólices com agrupamento em micro-lotes.
+ * Os pedidos de cotação entram em uma fila; uma thread virtual despachante forma um lote com o
+ * primeiro pedido e os que chegarem em seguida, até o tamanho máximo do lote ou até a espera
+ * máxima desde o primeiro pedido, o que ocorrer antes. Cada lote é calculado em uma thread virtual
+ * própria com ApoliceService.calcularValores, com as apólices agrupadas por cliente para que o
+ * desconto de cada cliente seja consultado uma única vez no lote.
+ *
+ * Se o cálculo do lote falhar, cada pedido é recalculado individualmente com calcularValor, de modo
+ * que um pedido inválido falha apenas a sua própria cotação. Qualquer Throwable do cálculo, inclusive
+ * Error, completa o futuro excepcionalmente; nenhum pedido fica sem resposta.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class CotadorAssincrono implements AutoCloseable {
+
+    /** Tamanho máximo de lote padrão. */
+    public static final int TAMANHO_LOTE_PADRAO = 256;
+
+    /** Espera máxima padrão para completar um lote. */
+    public static final Duration ESPERA_MAXIMA_PADRAO = Duration.ofMillis(2);
+
+    private final ApoliceService apoliceService;
+    private final int tamanhoLote;
+    private final long esperaMaximaNanos;
+    private final BlockingQueue<Pedido> fila = new LinkedBlockingQueue<>();
+    private final ExecutorService lotes = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread despachante;
+    private final ReadWriteLock encerramento = new ReentrantReadWriteLock();  // Leitura: enfileirar; escrita: fechar
+    private volatile boolean fechado;
+
+    /**
+     * Construtor que inicializa o cotador e inicia a thread despachante.
+     *
+     * @param apoliceService O serviço usado no cálculo dos lotes.
+     * @param tamanhoLote A quantidade máxima de pedidos por lote.
+     * @param esperaMaxima A espera máxima, a partir do primeiro pedido, para completar um lote.
+     */
+    public CotadorAssincrono(ApoliceService apoliceService, int tamanhoLote, Duration esperaMaxima) {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+        if (esperaMaxima.isNegative()) {
+            throw new IllegalArgumentException("A espera máxima não pode ser negativa.");
+        }
+        this.apoliceService = apoliceService;
+        this.tamanhoLote = tamanhoLote;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+        this.despachante = Thread.ofVirtual().name("cotador-despachante").start(this::despachar);
+    }
+
+    /**
+     * Enfileira uma cotação.
+     *
+     * @param apolice A apólice a ser cotada.
+     * @return Um futuro completado com o valor da apólice, ou com a exceção do cálculo.
+     */
+    public CompletableFuture<Double> cotar(Apolice apolice) {
+        CompletableFuture<Double> futuro = new CompletableFuture<>();
+        if (apolice == null) {
+            futuro.completeExceptionally(new IllegalArgumentException("Apólice não pode ser nula."));
+            return futuro;
+        }
+        encerramento.readLock().lock();
+        try {
+            if (fechado) {
+                futuro.completeExceptionally(new IllegalStateException("Cotador encerrado."));
+            } else {
+                fila.add(new Pedido(apolice, futuro));
+            }
+        } finally {
+            encerramento.readLock().unlock();
+        }
+        return futuro;
+    }
+
+    /**
+     * Encerra o cotador: novos pedidos são recusados e os já enfileirados são calculados.
+     */
+    @Override
+    public void close() {
+        encerramento.writeLock().lock();
+        try {
+            fechado = true;  // Nenhum pedido é enfileirado depois deste ponto
+        } finally {
+            encerramento.writeLock().unlock();
+        }
+        despachante.interrupt();
+        try {
+            despachante.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lotes.close();  // Aguarda os lotes em andamento
+    }
+
+    // Métodos auxiliares
+
+    private void despachar() {
+        List<Pedido> lote = new ArrayList<>(tamanhoLote);
+        while (!fechado) {
+            try {
+                Pedido primeiro = fila.take();
+                lote.add(primeiro);
+                long prazo = System.nanoTime() + esperaMaximaNanos;
+                fila.drainTo(lote, tamanhoLote - lote.size());
+                while (lote.size() < tamanhoLote) {
+                    long restante = prazo - System.nanoTime();
+                    Pedido proximo = restante > 0 ? fila.poll(restante, TimeUnit.NANOSECONDS) : null;
+                    if (proximo == null) {
+                        break;  // Prazo esgotado: despacha o lote incompleto
+                    }
+                    lote.add(proximo);
+                    fila.drainTo(lote, tamanhoLote - lote.size());
+                }
+            } catch (InterruptedException e) {
+                // Encerramento: os pedidos restantes são despachados abaixo
+            }
+            enviar(lote);
+            lote = new ArrayList<>(tamanhoLote);
+        }
+        fila.drainTo(lote);
+        for (int i = 0; i < lote.size(); i += tamanhoLote) {
+            enviar(new ArrayList<>(lote.subList(i, Math.min(lote.size(), i + tamanhoLote))));
+        }
+    }
+
+    private void enviar(List<Pedido> lote) {
+        if (!lote.isEmpty()) {
+            lotes.execute(() -> calcular(lote));
+        }
+    }
+
+    private void calcular(List<Pedido> lote) {
+        try {
+            calcularAgrupado(lote);
+        } catch (Throwable e) {
+            for (Pedido pedido : lote) {
+                pedido.futuro.completeExceptionally(e);  // Sem efeito nos futuros já completados
+            }
+        }
+    }
+
+    private void calcularAgrupado(List<Pedido> lote) {
+        // Agrupa por cliente: calcularValores consulta o desconto uma vez por sequência do mesmo cliente
+        Map<Cliente, List<Pedido>> porCliente = new IdentityHashMap<>();
+        for (Pedido pedido : lote) {
+            porCliente.computeIfAbsent(pedido.apolice.getCliente(), c -> new ArrayList<>()).add(pedido);
+        }
+        List<Pedido> ordenados = new ArrayList<>(lote.size());
+        for (List<Pedido> pedidos : porCliente.values()) {
+            ordenados.addAll(pedidos);
+        }
+        List<Apolice> apolices = new ArrayList<>(ordenados.size());
+        for (Pedido pedido : ordenados) {
+            apolices.add(pedido.apolice);
+        }
+
+        double[] valores;
+        try {
+            valores = apoliceService.calcularValores(apolices);
+        } catch (Throwable e) {
+            calcularIndividualmente(ordenados);
+            return;
+        }
+        for (int i = 0; i < valores.length; i++) {
+            ordenados.get(i).futuro.complete(valores[i]);
+        }
+    }
+
+    private void calcularIndividualmente(List<Pedido> pedidos) {
+        for (Pedido pedido : pedidos) {
+            try {
+                pedido.futuro.complete(apoliceService.calcularValor(pedido.apolice));
+            } catch (Throwable e) {
+                pedido.futuro.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Pedido {
+        final Apolice apolice;
+        final CompletableFuture<Double> futuro;
+
+        Pedido(Apolice apolice, CompletableFuture<Double> futuro) {
+            this.apolice = apolice;
+            this.futuro = futuro;
+        }
+    }
+}
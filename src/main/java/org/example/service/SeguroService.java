@@ -3,6 +3,7 @@ package org.example.service;
 import org.example.model.Seguro;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Interface SeguroService define as operações de negócio para a entidade Seguro.
@@ -10,7 +11,7 @@ import java.time.LocalDate;
  * e outros métodos relacionados ao gerenciamento de seguros.
  *
  * @since 1.0
- * @version 1.2
+ * @version 1.3
  */
 public interface SeguroService {
 
@@ -74,4 +75,12 @@ public interface SeguroService {
      * @param seguro O seguro a ser renovado automaticamente.
      */
     void renovacaoAutomatica(Seguro seguro);
+
+    /**
+     * Lista os seguros que vencem entre hoje e os próximos dias informados (inclusive).
+     *
+     * @param dias A quantidade de dias a partir de hoje (0 para apenas os que vencem hoje).
+     * @return Lista de seguros que vencem no período, ordenada pela data de término.
+     */
+    List<Seguro> listarSegurosVencendo(int dias);
 }
@@ -1,21 +1,66 @@
 package org.example.service;
 
+import org.example.dao.SeguroDao;
 import org.example.model.Seguro;
 import org.example.service.SeguroService;
+import org.example.tempo.Relogio;
+import org.example.tempo.Relogios;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Implementação da interface SeguroService.
  * Esta classe implementa a lógica de negócios para as operações de seguro,
  * como cálculo de valor, renovação, cancelamento, verificação de validade
  * e outros métodos relacionados à gestão de seguros.
+ * Quando construída com um SeguroDao, renovações e cancelamentos são gravados no DAO,
+ * mantendo atualizado o seu índice de vencimento.
  *
  * @since 1.0
- * @version 1.2
+ * @version 1.4
  */
 public class SeguroServiceImpl implements SeguroService {
 
+    private final SeguroDao seguroDao;  // Opcional: null quando o serviço opera sem persistência
+    private final Relogio relogio;  // Fonte da data corrente
+
+    /**
+     * Construtor que usa o relógio padrão (Relogios.padrao()), sem DAO.
+     */
+    public SeguroServiceImpl() {
+        this(null, Relogios.padrao());
+    }
+
+    /**
+     * Construtor que usa o relógio informado, sem DAO.
+     *
+     * @param relogio O relógio usado como fonte da data corrente.
+     */
+    public SeguroServiceImpl(Relogio relogio) {
+        this(null, relogio);
+    }
+
+    /**
+     * Construtor que grava as alterações no DAO informado e usa o relógio padrão.
+     *
+     * @param seguroDao O DAO de seguros.
+     */
+    public SeguroServiceImpl(SeguroDao seguroDao) {
+        this(seguroDao, Relogios.padrao());
+    }
+
+    /**
+     * Construtor que grava as alterações no DAO informado e usa o relógio informado.
+     *
+     * @param seguroDao O DAO de seguros (pode ser null).
+     * @param relogio O relógio usado como fonte da data corrente.
+     */
+    public SeguroServiceImpl(SeguroDao seguroDao, Relogio relogio) {
+        this.seguroDao = seguroDao;
+        this.relogio = relogio;
+    }
+
     /**
      * Calcula o valor do seguro com base nas características do veículo associado ao seguro.
      *
@@ -38,6 +83,7 @@ public class SeguroServiceImpl implements SeguroService {
     @Override
     public void renovarSeguro(Seguro seguro, LocalDate novaDataTermino) {
         seguro.setDataTermino(novaDataTermino); // Atualiza a data de término do seguro
+        gravar(seguro);
     }
 
     /**
@@ -47,7 +93,8 @@ public class SeguroServiceImpl implements SeguroService {
      */
     @Override
     public void cancelarSeguro(Seguro seguro) {
-        seguro.setDataTermino(LocalDate.now()); // Define a data atual como término
+        seguro.setDataTermino(relogio.hoje()); // Define a data atual como término
+        gravar(seguro);
     }
 
     /**
@@ -58,7 +105,7 @@ public class SeguroServiceImpl implements SeguroService {
      */
     @Override
     public boolean verificarValidade(Seguro seguro) {
-        LocalDate hoje = LocalDate.now();
+        LocalDate hoje = relogio.hoje();
         return hoje.isAfter(seguro.getDataInicio()) && hoje.isBefore(seguro.getDataTermino());
     }
 
@@ -103,9 +150,36 @@ public class SeguroServiceImpl implements SeguroService {
      */
     @Override
     public void renovacaoAutomatica(Seguro seguro) {
-        if (LocalDate.now().plusMonths(1).isAfter(seguro.getDataTermino())) {
-            renovarSeguro(seguro, LocalDate.now().plusYears(1)); // Renova por mais um ano
+        LocalDate hoje = relogio.hoje();
+        if (hoje.plusMonths(1).isAfter(seguro.getDataTermino())) {
+            renovarSeguro(seguro, hoje.plusYears(1)); // Renova por mais um ano
             System.out.println("Seguro renovado automaticamente por mais um ano.");
         }
     }
+
+    /**
+     * Lista os seguros que vencem entre hoje e os próximos dias informados, pelo índice de vencimento do DAO.
+     *
+     * @param dias A quantidade de dias a partir de hoje.
+     * @return Lista de seguros que vencem no período.
+     * @throws IllegalStateException se o serviço foi construído sem DAO.
+     */
+    @Override
+    public List<Seguro> listarSegurosVencendo(int dias) {
+        if (dias < 0) {
+            throw new IllegalArgumentException("A quantidade de dias não pode ser negativa.");
+        }
+        if (seguroDao == null) {
+            throw new IllegalStateException("Serviço de seguros sem DAO: não há índice de vencimento.");
+        }
+        LocalDate hoje = relogio.hoje();
+        return seguroDao.buscarSegurosVencendoEntre(hoje, hoje.plusDays(dias));
+    }
+
+    // Reposiciona o seguro no índice de vencimento do DAO, quando houver
+    private void gravar(Seguro seguro) {
+        if (seguroDao != null) {
+            seguroDao.atualizarSeguro(seguro);
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package org.example.service;
 
+import org.example.dao.Pagina;
+import org.example.exportacao.ResultadoExportacao;
 import org.example.model.Sinistro;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -10,7 +14,7 @@ import java.util.List;
  * Esta camada é responsável por implementar a lógica de negócios relacionada aos sinistros.
  *
  * @since 1.0
- * @version 1.2
+ * @version 1.6
  */
 public interface SinistroService {
 
@@ -47,6 +51,16 @@ public interface SinistroService {
      */
     List<Sinistro> listarTodos();
 
+    /**
+     * Lista os sinistros em páginas, em ordem crescente de número do sinistro.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de sinistros na página.
+     * @return A página de sinistros.
+     * @throws IllegalArgumentException Se o tamanho não for positivo ou o cursor for inválido.
+     */
+    Pagina<Sinistro> listarSinistros(String cursor, int tamanho);
+
     /**
      * Atualiza um sinistro existente no sistema.
      * Substitui os dados do sinistro com as informações atualizadas.
@@ -72,6 +86,16 @@ public interface SinistroService {
      */
     List<Sinistro> listarSinistrosPorData(LocalDate data);
 
+    /**
+     * Busca os sinistros que ocorreram dentro de um intervalo de datas, inclusive nas extremidades.
+     * Retorna os sinistros ordenados pela data do evento.
+     *
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return Uma lista de sinistros ocorridos no intervalo.
+     */
+    List<Sinistro> buscarSinistrosEntre(LocalDate inicio, LocalDate fim);
+
     /**
      * Calcula o valor da indenização para um sinistro específico.
      * O cálculo pode levar em consideração fatores como o valor do bem segurado e as condições do evento.
@@ -88,4 +112,32 @@ public interface SinistroService {
      * @return O valor total das indenizações pagas.
      */
     double calcularTotalIndenizacoes();
+
+    /**
+     * Recalcula o total de indenizações percorrendo todos os sinistros, para verificação ou
+     * recuperação do total mantido incrementalmente.
+     *
+     * @return O valor total recalculado.
+     */
+    double recalcularTotalIndenizacoes();
+
+    /**
+     * Exporta os sinistros para um arquivo CSV, com memória constante.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @return O resultado da exportação, com a vazão em linhas por segundo.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    ResultadoExportacao exportarSinistros(Path arquivo) throws IOException;
+
+    /**
+     * Exporta os sinistros ocorridos entre duas datas (inclusive) para um arquivo CSV, com memória constante.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return O resultado da exportação, com a vazão em linhas por segundo.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    ResultadoExportacao exportarSinistrosEntre(Path arquivo, LocalDate inicio, LocalDate fim) throws IOException;
 }
@@ -1,21 +1,47 @@
 package org.example.service;
 
+import org.example.dao.IndiceSinistrosCliente;
+import org.example.dao.Pagina;
 import org.example.dao.SinistroDao;
+import org.example.exportacao.ExportadorCsv;
+import org.example.exportacao.ResultadoExportacao;
 import org.example.model.Sinistro;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Implementação da interface SinistroService.
  * Fornece a lógica de negócios para gerenciar sinistros, incluindo registro, busca, remoção, atualização e listagem.
  * Esta classe é responsável por aplicar as regras de negócio aos sinistros antes de delegar a persistência ao DAO.
+ * Também mantém o índice de histórico de sinistros por cliente (IndiceSinistrosCliente) usado na precificação.
+ *
+ * O total de indenizações é mantido incrementalmente, em centavos exatos, a cada registro, atualização
+ * e remoção, de modo que {@link #calcularTotalIndenizacoes()} é uma leitura O(1). A indenização de cada
+ * sinistro é calculada no momento em que ele é registrado ou atualizado pelo serviço.
  *
  * @since 1.0
- * @version 1.2
+ * @version 1.9
  */
 public class SinistroServiceImpl implements SinistroService {
 
     private final SinistroDao sinistroDao;
+    private final IndiceSinistrosCliente indiceSinistros;
+
+    // Total de indenizações em centavos e a parcela contabilizada de cada sinistro, por número
+    private final LongAdder totalCentavos = new LongAdder();
+    private final Map<String, Long> centavosPorSinistro = new ConcurrentHashMap<>();
+
+    // Escritas no total usam o lock compartilhado; o recálculo completo usa o lock exclusivo
+    private final ReadWriteLock lockTotal = new ReentrantReadWriteLock();
 
     /**
      * Construtor da classe SinistroServiceImpl.
@@ -24,7 +50,23 @@ public class SinistroServiceImpl implements SinistroService {
      * @param sinistroDao A instância de SinistroDao usada para persistência.
      */
     public SinistroServiceImpl(SinistroDao sinistroDao) {
+        this(sinistroDao, new IndiceSinistrosCliente());
+    }
+
+    /**
+     * Construtor que também mantém o índice de sinistros por cliente informado.
+     * O índice é carregado com os sinistros já existentes no DAO (por exemplo, após reproduzir um journal).
+     *
+     * @param sinistroDao A instância de SinistroDao usada para persistência.
+     * @param indiceSinistros O índice compartilhado com o ClienteDao.
+     */
+    public SinistroServiceImpl(SinistroDao sinistroDao, IndiceSinistrosCliente indiceSinistros) {
         this.sinistroDao = sinistroDao;
+        this.indiceSinistros = indiceSinistros;
+        for (Sinistro sinistro : sinistroDao.listarSinistros()) {
+            indiceSinistros.registrar(sinistro);
+        }
+        recalcularCentavos();
     }
 
     /**
@@ -36,6 +78,8 @@ public class SinistroServiceImpl implements SinistroService {
     @Override
     public void registrarSinistro(Sinistro sinistro) {
         sinistroDao.adicionarSinistro(sinistro);
+        indiceSinistros.registrar(sinistro);
+        contabilizarIndenizacao(sinistro);
     }
 
     /**
@@ -59,6 +103,8 @@ public class SinistroServiceImpl implements SinistroService {
     @Override
     public void removerSinistro(String numero) {
         sinistroDao.removerSinistro(numero);
+        indiceSinistros.remover(numero);
+        descontabilizarIndenizacao(numero);
     }
 
     /**
@@ -72,6 +118,18 @@ public class SinistroServiceImpl implements SinistroService {
         return sinistroDao.listarSinistros();
     }
 
+    /**
+     * Lista os sinistros em páginas, delegando ao DAO.
+     *
+     * @param cursor O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanho Quantidade máxima de sinistros na página.
+     * @return A página de sinistros, em ordem crescente de número.
+     */
+    @Override
+    public Pagina<Sinistro> listarSinistros(String cursor, int tamanho) {
+        return sinistroDao.listarSinistros(cursor, tamanho);
+    }
+
     /**
      * Atualiza as informações de um sinistro existente no sistema.
      * Verifica se o sinistro existe e então aplica as atualizações ao registro.
@@ -83,6 +141,8 @@ public class SinistroServiceImpl implements SinistroService {
         Sinistro existente = sinistroDao.buscarSinistroPorNumero(sinistro.getNumeroSinistro());
         if (existente != null) {
             sinistroDao.atualizarSinistro(sinistro);
+            indiceSinistros.registrar(sinistro);  // Recontabiliza com o CPF e a data atualizados
+            contabilizarIndenizacao(sinistro);
         }
     }
 
@@ -109,6 +169,21 @@ public class SinistroServiceImpl implements SinistroService {
         return sinistroDao.buscarSinistrosPorData(data);
     }
 
+    /**
+     * Busca os sinistros ocorridos dentro de um intervalo de datas.
+     * Utiliza o índice por data do DAO para evitar percorrer todos os sinistros.
+     *
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return Uma lista de sinistros ocorridos no intervalo.
+     * @throws IllegalArgumentException Se alguma das datas for nula ou se inicio for posterior a fim.
+     */
+    @Override
+    public List<Sinistro> buscarSinistrosEntre(LocalDate inicio, LocalDate fim) {
+        validarIntervalo(inicio, fim);
+        return sinistroDao.buscarSinistrosEntre(inicio, fim);
+    }
+
     /**
      * Calcula o valor da indenização para um sinistro específico.
      * O cálculo pode aplicar regras específicas de negócio, como fatores de risco ou outros critérios.
@@ -127,13 +202,148 @@ public class SinistroServiceImpl implements SinistroService {
 
     /**
      * Calcula o valor total de todas as indenizações pagas no sistema.
-     * Soma o valor da indenização de todos os sinistros registrados.
+     * Lê o total mantido incrementalmente, sem percorrer os sinistros.
      *
      * @return O valor total de todas as indenizações pagas.
      */
     @Override
     public double calcularTotalIndenizacoes() {
-        List<Sinistro> sinistros = sinistroDao.listarSinistros();
-        return sinistros.stream().mapToDouble(this::calcularIndenizacao).sum();
+        return totalCentavos.sum() / 100.0;
+    }
+
+    /**
+     * Recalcula o total de indenizações a partir de todos os sinistros do DAO e substitui o total
+     * mantido incrementalmente. As indenizações são calculadas em paralelo (fork-join); registros,
+     * atualizações e remoções aguardam o fim do recálculo.
+     *
+     * @return O valor total recalculado.
+     */
+    @Override
+    public double recalcularTotalIndenizacoes() {
+        return recalcularCentavos() / 100.0;
+    }
+
+    /**
+     * Exporta os sinistros para CSV, percorrendo o fluxo preguiçoso do DAO.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @return O resultado da exportação.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     */
+    @Override
+    public ResultadoExportacao exportarSinistros(Path arquivo) throws IOException {
+        return new ExportadorCsv().exportarSinistros(arquivo, sinistroDao.streamSinistros());
+    }
+
+    /**
+     * Exporta os sinistros do intervalo para CSV, percorrendo o fluxo preguiçoso do DAO.
+     *
+     * @param arquivo O arquivo de destino (criado ou sobrescrito).
+     * @param inicio A data inicial do intervalo.
+     * @param fim A data final do intervalo.
+     * @return O resultado da exportação.
+     * @throws IOException Se o arquivo não puder ser escrito.
+     * @throws IllegalArgumentException Se alguma data for nula ou a inicial for posterior à final.
+     */
+    @Override
+    public ResultadoExportacao exportarSinistrosEntre(Path arquivo, LocalDate inicio, LocalDate fim) throws IOException {
+        validarIntervalo(inicio, fim);
+        return new ExportadorCsv().exportarSinistros(arquivo, sinistroDao.streamSinistrosEntre(inicio, fim));
+    }
+
+    private static void validarIntervalo(LocalDate inicio, LocalDate fim) {
+        if (inicio == null || fim == null) {
+            throw new IllegalArgumentException("As datas do intervalo são obrigatórias.");
+        }
+        if (inicio.isAfter(fim)) {
+            throw new IllegalArgumentException("A data inicial não pode ser posterior à data final.");
+        }
+    }
+
+    // Manutenção do total de indenizações
+
+    private long recalcularCentavos() {
+        lockTotal.writeLock().lock();
+        try {
+            Sinistro[] sinistros = sinistroDao.listarSinistros().toArray(new Sinistro[0]);
+            long[] centavos = new long[sinistros.length];
+            long total = ForkJoinPool.commonPool().invoke(new SomaIndenizacoes(sinistros, centavos, 0, sinistros.length));
+
+            centavosPorSinistro.clear();
+            for (int i = 0; i < sinistros.length; i++) {
+                centavosPorSinistro.put(sinistros[i].getNumeroSinistro(), centavos[i]);
+            }
+            totalCentavos.reset();
+            totalCentavos.add(total);
+            return total;
+        } finally {
+            lockTotal.writeLock().unlock();
+        }
+    }
+
+    private void contabilizarIndenizacao(Sinistro sinistro) {
+        long centavos = emCentavos(calcularIndenizacao(sinistro));
+        lockTotal.readLock().lock();
+        try {
+            Long anterior = centavosPorSinistro.put(sinistro.getNumeroSinistro(), centavos);
+            totalCentavos.add(anterior == null ? centavos : centavos - anterior);
+        } finally {
+            lockTotal.readLock().unlock();
+        }
+    }
+
+    private void descontabilizarIndenizacao(String numero) {
+        lockTotal.readLock().lock();
+        try {
+            Long anterior = centavosPorSinistro.remove(numero);
+            if (anterior != null) {
+                totalCentavos.add(-anterior);
+            }
+        } finally {
+            lockTotal.readLock().unlock();
+        }
+    }
+
+    private static long emCentavos(double valor) {
+        return Math.round(valor * 100);
+    }
+
+    /**
+     * Soma paralela das indenizações de um intervalo de sinistros, em centavos.
+     * Também registra a indenização de cada posição em {@code centavos}.
+     */
+    private final class SomaIndenizacoes extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private static final int LIMITE_SEQUENCIAL = 4096;
+
+        // A tarefa só é usada dentro do pool; os arrays não fazem parte da forma serializada
+        private final transient Sinistro[] sinistros;
+        private final transient long[] centavos;
+        private final int inicio;
+        private final int fim;
+
+        SomaIndenizacoes(Sinistro[] sinistros, long[] centavos, int inicio, int fim) {
+            this.sinistros = sinistros;
+            this.centavos = centavos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected Long compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                long soma = 0;
+                for (int i = inicio; i < fim; i++) {
+                    centavos[i] = emCentavos(calcularIndenizacao(sinistros[i]));
+                    soma += centavos[i];
+                }
+                return soma;
+            }
+            int meio = (inicio + fim) >>> 1;
+            SomaIndenizacoes esquerda = new SomaIndenizacoes(sinistros, centavos, inicio, meio);
+            esquerda.fork();
+            long direita = new SomaIndenizacoes(sinistros, centavos, meio, fim).compute();
+            return esquerda.join() + direita;
+        }
     }
 }
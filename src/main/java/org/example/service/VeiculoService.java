@@ -1,5 +1,6 @@
 package org.example.service;
 
+import org.example.cache.EstatisticasCache;
 import org.example.model.Veiculo;
 import org.example.model.TipoVeiculo;
 import org.example.model.Cor;
@@ -11,7 +12,7 @@ import java.util.List;
  * como criação, listagem, e cálculo do valor do seguro.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.1
  */
 public interface VeiculoService {
 
@@ -51,4 +52,11 @@ public interface VeiculoService {
      * @return Valor do seguro calculado.
      */
     double calcularValorSeguro(Veiculo veiculo);
+
+    /**
+     * Obtém as métricas do cache de cotações usado por {@link #calcularValorSeguro(Veiculo)}.
+     *
+     * @return As estatísticas do cache de cotações.
+     */
+    EstatisticasCache estatisticasCacheCotacoes();
 }
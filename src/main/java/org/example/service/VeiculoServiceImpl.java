@@ -1,8 +1,11 @@
 package org.example.service;
 
 
+import org.example.cache.EstatisticasCache;
 import org.example.model.*;
 import org.example.factory.VeiculoFactory;
+import org.example.tarifa.CacheCotacoes;
+import org.example.tempo.Relogios;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,17 +16,29 @@ import java.util.List;
  * incluindo a criação, busca, listagem e cálculo do valor do seguro.
  *
  * @since 1.0
- * @version 1.0
+ * @version 1.1
  */
 public class VeiculoServiceImpl implements VeiculoService {
 
     private List<Veiculo> veiculosRegistrados;
+    private final CacheCotacoes cacheCotacoes;
 
     /**
      * Construtor para inicializar o serviço com uma lista de veículos.
+     * Usa o cache de cotações global (CacheCotacoes.padrao()).
      */
     public VeiculoServiceImpl() {
+        this(CacheCotacoes.padrao());
+    }
+
+    /**
+     * Construtor que usa o cache de cotações informado.
+     *
+     * @param cacheCotacoes O cache de cotações.
+     */
+    public VeiculoServiceImpl(CacheCotacoes cacheCotacoes) {
         this.veiculosRegistrados = new ArrayList<>();
+        this.cacheCotacoes = cacheCotacoes;
     }
 
     @Override
@@ -53,7 +68,12 @@ public class VeiculoServiceImpl implements VeiculoService {
 
     @Override
     public double calcularValorSeguro(Veiculo veiculo) {
-        // Utiliza o método da interface Veiculo para calcular o valor do seguro
-        return veiculo.calcularValorSeguro();
+        // Cotação sem desconto, compartilhada por veículos do mesmo tipo e ano
+        return cacheCotacoes.cotar(veiculo, 0, Relogios.padrao().anoAtual());
+    }
+
+    @Override
+    public EstatisticasCache estatisticasCacheCotacoes() {
+        return cacheCotacoes.estatisticas();
     }
 }
@@ -0,0 +1,147 @@
+package org.example.snapshot;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Classe que resume a gravação ou a restauração de um snapshot.
+ * As quantidades são as entidades armazenadas nos DAOs; entidades gravadas apenas por serem
+ * referenciadas (por exemplo, o veículo de uma apólice que não está no VeiculoDao) não são contadas.
+ * Na restauração, a duração é o tempo até que todos os DAOs estejam prontos para uso.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class ResultadoSnapshot {
+    private final Path arquivo;
+    private final long bytes;
+    private final int clientes;
+    private final int veiculos;
+    private final int apolices;
+    private final int seguros;
+    private final int sinistros;
+    private final Duration duracao;
+
+    /**
+     * Construtor que inicializa o resultado do snapshot.
+     *
+     * @param arquivo O arquivo do snapshot.
+     * @param bytes Tamanho do arquivo, em bytes.
+     * @param clientes Quantidade de clientes armazenados.
+     * @param veiculos Quantidade de veículos armazenados.
+     * @param apolices Quantidade de apólices armazenadas.
+     * @param seguros Quantidade de seguros armazenados.
+     * @param sinistros Quantidade de sinistros armazenados.
+     * @param duracao O tempo total da operação.
+     */
+    public ResultadoSnapshot(Path arquivo, long bytes, int clientes, int veiculos, int apolices, int seguros,
+                             int sinistros, Duration duracao) {
+        this.arquivo = arquivo;
+        this.bytes = bytes;
+        this.clientes = clientes;
+        this.veiculos = veiculos;
+        this.apolices = apolices;
+        this.seguros = seguros;
+        this.sinistros = sinistros;
+        this.duracao = duracao;
+    }
+
+    /**
+     * Obtém o arquivo do snapshot.
+     *
+     * @return O caminho do arquivo.
+     */
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Obtém o tamanho do arquivo do snapshot.
+     *
+     * @return Tamanho em bytes.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Obtém a quantidade de clientes armazenados.
+     *
+     * @return Quantidade de clientes.
+     */
+    public int getClientes() {
+        return clientes;
+    }
+
+    /**
+     * Obtém a quantidade de veículos armazenados.
+     *
+     * @return Quantidade de veículos.
+     */
+    public int getVeiculos() {
+        return veiculos;
+    }
+
+    /**
+     * Obtém a quantidade de apólices armazenadas.
+     *
+     * @return Quantidade de apólices.
+     */
+    public int getApolices() {
+        return apolices;
+    }
+
+    /**
+     * Obtém a quantidade de seguros armazenados.
+     *
+     * @return Quantidade de seguros.
+     */
+    public int getSeguros() {
+        return seguros;
+    }
+
+    /**
+     * Obtém a quantidade de sinistros armazenados.
+     *
+     * @return Quantidade de sinistros.
+     */
+    public int getSinistros() {
+        return sinistros;
+    }
+
+    /**
+     * Obtém a quantidade total de entidades armazenadas.
+     *
+     * @return Soma das quantidades de todos os tipos.
+     */
+    public long getEntidades() {
+        return (long) clientes + veiculos + apolices + seguros + sinistros;
+    }
+
+    /**
+     * Obtém o tempo total da operação.
+     *
+     * @return A duração da gravação, ou o tempo até os DAOs estarem prontos na restauração.
+     */
+    public Duration getDuracao() {
+        return duracao;
+    }
+
+    /**
+     * Calcula a vazão da operação.
+     *
+     * @return Entidades por segundo.
+     */
+    public double getEntidadesPorSegundo() {
+        long nanos = duracao.toNanos();
+        return nanos == 0 ? 0 : getEntidades() * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Snapshot %s: %d clientes, %d veículos, %d apólices, %d seguros, %d sinistros, "
+                        + "%d bytes em %d ms (%.0f entidades/s)",
+                arquivo.getFileName(), clientes, veiculos, apolices, seguros, sinistros, bytes, duracao.toMillis(),
+                getEntidadesPorSegundo());
+    }
+}
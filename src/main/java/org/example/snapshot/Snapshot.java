@@ -0,0 +1,492 @@
+package org.example.snapshot;
+
+import org.example.codec.CodecBinario;
+import org.example.codec.TabelaReferencias;
+import org.example.dao.ApoliceDao;
+import org.example.dao.ClienteDao;
+import org.example.dao.SeguroDao;
+import org.example.dao.SinistroDao;
+import org.example.dao.SinistroDaoJournalImpl;
+import org.example.dao.VeiculoDao;
+import org.example.model.Apolice;
+import org.example.model.Cliente;
+import org.example.model.Seguro;
+import org.example.model.Sinistro;
+import org.example.model.Veiculo;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot de todos os DAOs (clientes, veículos, apólices, seguros e sinistros) em um único
+ * arquivo, para reinício rápido sem reconstruir os dados a partir das fontes de origem.
+ *
+ * A gravação codifica as entidades com o CodecBinario, uma seção por DAO, em um arquivo
+ * temporário que é forçado para o disco e movido sobre o anterior (movimento atômico quando o
+ * sistema de arquivos permite).
+ *
+ * Os DAOs não têm um lock comum, por isso o snapshot usa um ReadWriteLock de suspensão das
+ * escritas: quem altera os DAOs (ou as entidades guardadas neles) deve fazê-lo com o lock de
+ * leitura de {@link #getBloqueio()}, e a gravação captura e codifica todos os DAOs com o lock de
+ * escrita, de modo que o snapshot representa um único instante. O lock pode ser informado no
+ * construtor para ser compartilhado com o restante da aplicação. Entidades referenciadas
+ * que não estão no seu DAO (por exemplo, o veículo de uma apólice que não foi cadastrado no
+ * VeiculoDao) são gravadas na seção do seu tipo apenas como referência e não são incluídas no
+ * DAO na restauração.
+ *
+ * A restauração mapeia as seções do arquivo em memória e as decodifica em paralelo, em três
+ * fases que respeitam as referências entre as entidades: clientes e veículos; apólices e
+ * seguros; sinistros. As referências (cliente e veículo da apólice, apólice do sinistro etc.)
+ * voltam a apontar para as mesmas instâncias incluídas nos DAOs. Restaure antes de criar os
+ * serviços, pois alguns deles (como o SinistroServiceImpl) montam seus índices a partir do DAO.
+ * A restauração exige DAOs vazios e recusa o SinistroDaoJournalImpl, que regravaria cada sinistro
+ * no journal: um DAO com journal já é restaurado pela reprodução do próprio journal.
+ *
+ * Formato: cabeçalho (número mágico, versão e, por seção, posição, tamanho, quantidade de
+ * entidades e quantidade armazenada no DAO) seguido das seções. As entidades armazenadas vêm
+ * antes das apenas referenciadas; cada seção tem no máximo 2 GiB.
+ *
+ * @since 1.2
+ * @version 1.2
+ */
+public class Snapshot {
+
+    private static final int MAGICO = 0x534E4150;  // "SNAP"
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 8 + Secao.values().length * 24;
+    private static final int TAMANHO_BLOCO = 1 << 20;
+
+    private final ClienteDao clienteDao;
+    private final VeiculoDao veiculoDao;
+    private final ApoliceDao apoliceDao;
+    private final SeguroDao seguroDao;
+    private final SinistroDao sinistroDao;
+
+    // Leitura: escritas nos DAOs; escrita: gravação e restauração do snapshot
+    private final ReadWriteLock bloqueio;
+
+    /**
+     * Cria o snapshot dos DAOs informados, usados tanto na gravação quanto na restauração,
+     * com um lock de suspensão das escritas próprio.
+     *
+     * @param clienteDao O DAO de clientes.
+     * @param veiculoDao O DAO de veículos.
+     * @param apoliceDao O DAO de apólices.
+     * @param seguroDao O DAO de seguros.
+     * @param sinistroDao O DAO de sinistros.
+     * @throws IllegalArgumentException Se algum DAO for nulo.
+     */
+    public Snapshot(ClienteDao clienteDao, VeiculoDao veiculoDao, ApoliceDao apoliceDao, SeguroDao seguroDao,
+                    SinistroDao sinistroDao) {
+        this(clienteDao, veiculoDao, apoliceDao, seguroDao, sinistroDao, new ReentrantReadWriteLock());
+    }
+
+    /**
+     * Cria o snapshot dos DAOs informados com o lock de suspensão das escritas informado.
+     *
+     * @param clienteDao O DAO de clientes.
+     * @param veiculoDao O DAO de veículos.
+     * @param apoliceDao O DAO de apólices.
+     * @param seguroDao O DAO de seguros.
+     * @param sinistroDao O DAO de sinistros.
+     * @param bloqueio O lock cujo lado de leitura é tomado pelos escritores dos DAOs.
+     * @throws IllegalArgumentException Se algum DAO ou o lock for nulo.
+     */
+    public Snapshot(ClienteDao clienteDao, VeiculoDao veiculoDao, ApoliceDao apoliceDao, SeguroDao seguroDao,
+                    SinistroDao sinistroDao, ReadWriteLock bloqueio) {
+        if (clienteDao == null || veiculoDao == null || apoliceDao == null || seguroDao == null
+                || sinistroDao == null) {
+            throw new IllegalArgumentException("Os DAOs do snapshot não podem ser nulos.");
+        }
+        if (bloqueio == null) {
+            throw new IllegalArgumentException("O lock do snapshot não pode ser nulo.");
+        }
+        this.clienteDao = clienteDao;
+        this.veiculoDao = veiculoDao;
+        this.apoliceDao = apoliceDao;
+        this.seguroDao = seguroDao;
+        this.sinistroDao = sinistroDao;
+        this.bloqueio = bloqueio;
+    }
+
+    /**
+     * Obtém o lock de suspensão das escritas. Escritas nos DAOs devem ser feitas com o lock de
+     * leitura, que não impede escritas concorrentes entre si, apenas a gravação do snapshot.
+     *
+     * @return O lock do snapshot.
+     */
+    public ReadWriteLock getBloqueio() {
+        return bloqueio;
+    }
+
+    /**
+     * Grava o conteúdo atual dos DAOs no arquivo, substituindo o snapshot anterior.
+     * Os DAOs são capturados e codificados com o lock de escrita; a sincronização com o disco e o
+     * movimento do arquivo são feitos depois de liberá-lo.
+     *
+     * @param arquivo O arquivo do snapshot.
+     * @return O resumo da gravação.
+     * @throws IOException Se o arquivo não puder ser gravado.
+     * @throws IllegalStateException Se uma entidade referenciar outra sem chave (CPF, placa ou número)
+     *                               ou se uma seção exceder 2 GiB.
+     */
+    public ResultadoSnapshot gravar(Path arquivo) throws IOException {
+        long inicio = System.nanoTime();
+        Lista<Cliente> clientes = new Lista<>();
+        Lista<Veiculo> veiculos = new Lista<>();
+        Lista<Apolice> apolices = new Lista<>();
+        List<Seguro> seguros;
+        List<Sinistro> sinistros;
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        long bytes;
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            bloqueio.writeLock().lock();
+            try {
+                seguros = new ArrayList<>(seguroDao.listarSeguros());
+                sinistros = new ArrayList<>(sinistroDao.listarSinistros());
+                capturar(clientes, veiculos, apolices, seguros, sinistros);
+
+                // Um codec por seção (dicionário próprio), com a tabela de referências compartilhada
+                TabelaReferencias referencias = new TabelaReferencias();
+                Gravacao gravacao = new Gravacao(canal);
+                gravacao.secao(clientes.itens, clientes.armazenados, new CodecBinario(referencias)::codificar);
+                gravacao.secao(veiculos.itens, veiculos.armazenados, new CodecBinario(referencias)::codificar);
+                gravacao.secao(apolices.itens, apolices.armazenados, new CodecBinario(referencias)::codificar);
+                gravacao.secao(seguros, seguros.size(), new CodecBinario(referencias)::codificar);
+                gravacao.secao(sinistros, sinistros.size(), new CodecBinario(referencias)::codificar);
+                bytes = gravacao.finalizar();
+            } finally {
+                bloqueio.writeLock().unlock();
+            }
+            canal.force(true);  // O conteúdo precisa estar no disco antes do movimento
+        }
+        try {
+            Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new ResultadoSnapshot(arquivo, bytes, clientes.armazenados, veiculos.armazenados, apolices.armazenados,
+                seguros.size(), sinistros.size(), Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    /**
+     * Restaura o snapshot do arquivo, incluindo as entidades nos DAOs, com o lock de escrita.
+     *
+     * @param arquivo O arquivo do snapshot.
+     * @return O resumo da restauração, cuja duração é o tempo até os DAOs estarem prontos.
+     * @throws IOException Se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException Se o arquivo não for um snapshot válido ou se o DAO de
+     *                                  sinistros for um SinistroDaoJournalImpl.
+     * @throws IllegalStateException Se algum DAO não estiver vazio.
+     */
+    public ResultadoSnapshot restaurar(Path arquivo) throws IOException {
+        long inicio = System.nanoTime();
+        bloqueio.writeLock().lock();
+        try {
+            validarDestino();
+            return restaurarSecoes(arquivo, inicio);
+        } finally {
+            bloqueio.writeLock().unlock();
+        }
+    }
+
+    // Métodos auxiliares
+
+    private void validarDestino() {
+        if (sinistroDao instanceof SinistroDaoJournalImpl) {
+            throw new IllegalArgumentException("O snapshot não pode ser restaurado em um SinistroDaoJournalImpl: "
+                    + "cada sinistro seria gravado de novo no journal, que já é restaurado pela sua própria "
+                    + "reprodução.");
+        }
+        exigirVazio(clienteDao.listarClientes().isEmpty(), "clientes");
+        exigirVazio(veiculoDao.listarVeiculos().isEmpty(), "veículos");
+        exigirVazio(apoliceDao.listarApolices().isEmpty(), "apólices");
+        exigirVazio(seguroDao.listarSeguros().isEmpty(), "seguros");
+        exigirVazio(sinistroDao.listarSinistros().isEmpty(), "sinistros");
+    }
+
+    private static void exigirVazio(boolean vazio, String dao) {
+        if (!vazio) {
+            throw new IllegalStateException("O snapshot só pode ser restaurado em DAOs vazios: o DAO de "
+                    + dao + " já contém dados.");
+        }
+    }
+
+    private ResultadoSnapshot restaurarSecoes(Path arquivo, long inicio) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            Indice[] indices = lerCabecalho(canal, tamanho);
+            TabelaReferencias referencias = new TabelaReferencias();
+
+            Indice clientes = indices[Secao.CLIENTES.ordinal()];
+            Indice veiculos = indices[Secao.VEICULOS.ordinal()];
+            Indice apolices = indices[Secao.APOLICES.ordinal()];
+            Indice seguros = indices[Secao.SEGUROS.ordinal()];
+            Indice sinistros = indices[Secao.SINISTROS.ordinal()];
+
+            executarFase(List.of(
+                    () -> restaurarClientes(canal, clientes, referencias),
+                    tarefa(canal, veiculos, referencias,
+                            CodecBinario::decodificarVeiculo, veiculoDao::adicionarVeiculo)));
+            executarFase(List.of(
+                    tarefa(canal, apolices, referencias,
+                            CodecBinario::decodificarApolice, apoliceDao::adicionarApolice),
+                    tarefa(canal, seguros, referencias,
+                            CodecBinario::decodificarSeguro, seguroDao::adicionarSeguro)));
+            executarFase(List.of(
+                    tarefa(canal, sinistros, referencias,
+                            CodecBinario::decodificarSinistro, sinistroDao::adicionarSinistro)));
+
+            return new ResultadoSnapshot(arquivo, tamanho, clientes.armazenados, veiculos.armazenados,
+                    apolices.armazenados, seguros.armazenados, sinistros.armazenados,
+                    Duration.ofNanos(System.nanoTime() - inicio));
+        }
+    }
+
+    // Inclui nas listas as entidades referenciadas que não estão nos DAOs, depois das armazenadas
+    private void capturar(Lista<Cliente> clientes, Lista<Veiculo> veiculos, Lista<Apolice> apolices,
+                          List<Seguro> seguros, List<Sinistro> sinistros) {
+        for (Cliente cliente : clienteDao.listarClientes().values()) {
+            clientes.armazenar(cliente, cliente.getCpf());
+        }
+        for (Veiculo veiculo : veiculoDao.listarVeiculos()) {
+            veiculos.armazenar(veiculo, veiculo.getPlaca());
+        }
+        for (Apolice apolice : apoliceDao.listarApolices()) {
+            apolices.armazenar(apolice, apolice.getNumeroApolice());
+        }
+        for (Sinistro sinistro : sinistros) {
+            Apolice apolice = sinistro.getApolice();
+            if (apolice != null) {
+                apolices.referenciar(apolice, apolice.getNumeroApolice());
+            }
+            referenciarCliente(clientes, sinistro.getCliente());
+        }
+        for (Apolice apolice : apolices.itens) {
+            referenciarCliente(clientes, apolice.getCliente());
+            referenciarVeiculo(veiculos, apolice.getVeiculo());
+        }
+        for (Seguro seguro : seguros) {
+            referenciarCliente(clientes, seguro.getCliente());
+            referenciarVeiculo(veiculos, seguro.getVeiculo());
+        }
+    }
+
+    private static void referenciarCliente(Lista<Cliente> clientes, Cliente cliente) {
+        if (cliente != null) {
+            clientes.referenciar(cliente, cliente.getCpf());
+        }
+    }
+
+    private static void referenciarVeiculo(Lista<Veiculo> veiculos, Veiculo veiculo) {
+        if (veiculo != null) {
+            veiculos.referenciar(veiculo, veiculo.getPlaca());
+        }
+    }
+
+    private static Indice[] lerCabecalho(FileChannel canal, long tamanhoArquivo) throws IOException {
+        if (tamanhoArquivo < TAMANHO_CABECALHO) {
+            throw new IllegalArgumentException("Arquivo de snapshot incompleto: " + tamanhoArquivo + " bytes.");
+        }
+        MappedByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO);
+        if (cabecalho.getInt() != MAGICO) {
+            throw new IllegalArgumentException("O arquivo não é um snapshot.");
+        }
+        int versao = cabecalho.getInt();
+        if (versao != VERSAO) {
+            throw new IllegalArgumentException("Versão de snapshot não suportada: " + versao);
+        }
+        Indice[] indices = new Indice[Secao.values().length];
+        for (Secao secao : Secao.values()) {
+            Indice indice = new Indice(secao, cabecalho.getLong(), cabecalho.getLong(),
+                    cabecalho.getInt(), cabecalho.getInt());
+            if (indice.posicao < TAMANHO_CABECALHO || indice.tamanho < 0 || indice.tamanho > Integer.MAX_VALUE
+                    || indice.posicao + indice.tamanho > tamanhoArquivo
+                    || indice.total < 0 || indice.armazenados < 0 || indice.armazenados > indice.total) {
+                throw new IllegalArgumentException("Índice inválido para a seção " + secao + " do snapshot.");
+            }
+            indices[secao.ordinal()] = indice;
+        }
+        return indices;
+    }
+
+    // Os clientes decodificados são incluídos de uma vez, por adicionarClientes
+    private Void restaurarClientes(FileChannel canal, Indice indice, TabelaReferencias referencias) throws IOException {
+        List<Cliente> clientes = new ArrayList<>(indice.armazenados);
+        restaurarSecao(canal, indice, referencias, CodecBinario::decodificarCliente, clientes::add);
+        clienteDao.adicionarClientes(clientes);
+        return null;
+    }
+
+    private static <T> Callable<Void> tarefa(FileChannel canal, Indice indice, TabelaReferencias referencias,
+                                             BiFunction<CodecBinario, ByteBuffer, T> decodificar,
+                                             Consumer<T> armazenar) {
+        return () -> restaurarSecao(canal, indice, referencias, decodificar, armazenar);
+    }
+
+    private static <T> Void restaurarSecao(FileChannel canal, Indice indice, TabelaReferencias referencias,
+                                           BiFunction<CodecBinario, ByteBuffer, T> decodificar,
+                                           Consumer<T> armazenar) throws IOException {
+        MappedByteBuffer dados = canal.map(FileChannel.MapMode.READ_ONLY, indice.posicao, indice.tamanho);
+        CodecBinario codec = new CodecBinario(referencias);
+        for (int i = 0; i < indice.total; i++) {
+            T entidade = decodificar.apply(codec, dados);
+            if (i < indice.armazenados) {
+                armazenar.accept(entidade);
+            }
+        }
+        if (dados.hasRemaining()) {
+            throw new IllegalArgumentException("A seção " + indice.secao + " do snapshot tem bytes excedentes.");
+        }
+        return null;
+    }
+
+    // Executa as tarefas de uma fase em paralelo e aguarda todas antes de retornar
+    private static void executarFase(List<Callable<Void>> tarefas) throws IOException {
+        Throwable falha = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<Void> futuro : executor.invokeAll(tarefas)) {
+                try {
+                    futuro.get();
+                } catch (ExecutionException e) {
+                    if (falha == null) {
+                        falha = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            falha = e;
+        }
+        if (falha instanceof IOException e) {
+            throw e;
+        }
+        if (falha instanceof RuntimeException e) {
+            throw e;
+        }
+        if (falha instanceof Error e) {
+            throw e;
+        }
+        if (falha != null) {
+            throw new IllegalStateException("Restauração do snapshot interrompida.", falha);
+        }
+    }
+
+    private enum Secao {
+        CLIENTES, VEICULOS, APOLICES, SEGUROS, SINISTROS
+    }
+
+    // Entidades de um tipo a gravar: as armazenadas no DAO seguidas das apenas referenciadas
+    private static final class Lista<T> {
+        final List<T> itens = new ArrayList<>();
+        final Set<String> chaves = new HashSet<>();
+        int armazenados;
+
+        void armazenar(T entidade, String chave) {
+            itens.add(entidade);
+            chaves.add(chave);
+            armazenados++;
+        }
+
+        void referenciar(T entidade, String chave) {
+            if (chave != null && chaves.add(chave)) {
+                itens.add(entidade);
+            }
+        }
+    }
+
+    private static final class Indice {
+        final Secao secao;
+        final long posicao;
+        final long tamanho;
+        final int total;
+        final int armazenados;
+
+        Indice(Secao secao, long posicao, long tamanho, int total, int armazenados) {
+            this.secao = secao;
+            this.posicao = posicao;
+            this.tamanho = tamanho;
+            this.total = total;
+            this.armazenados = armazenados;
+        }
+    }
+
+    // Escrita sequencial das seções por um bloco direto reaproveitado; o cabeçalho é escrito por último
+    private static final class Gravacao {
+        private final FileChannel canal;
+        private final ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        private ByteBuffer bloco = ByteBuffer.allocateDirect(TAMANHO_BLOCO);
+        private long escritos = TAMANHO_CABECALHO;  // Posição no arquivo do início do bloco
+
+        Gravacao(FileChannel canal) throws IOException {
+            this.canal = canal;
+            canal.position(TAMANHO_CABECALHO);
+            cabecalho.putInt(MAGICO).putInt(VERSAO);
+        }
+
+        <T> void secao(List<T> itens, int armazenados, BiConsumer<T, ByteBuffer> codificar) throws IOException {
+            long inicio = escritos + bloco.position();
+            for (T item : itens) {
+                while (true) {
+                    try {
+                        codificar.accept(item, bloco);  // Em caso de estouro, o codec desfaz a gravação parcial
+                        break;
+                    } catch (BufferOverflowException e) {
+                        if (bloco.position() == 0) {
+                            bloco = ByteBuffer.allocateDirect(bloco.capacity() * 2);  // Entidade maior que o bloco
+                        } else {
+                            descarregar();
+                        }
+                    }
+                }
+            }
+            long tamanho = escritos + bloco.position() - inicio;
+            if (tamanho > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Seção do snapshot com mais de 2 GiB: " + tamanho + " bytes.");
+            }
+            cabecalho.putLong(inicio).putLong(tamanho).putInt(itens.size()).putInt(armazenados);
+        }
+
+        long finalizar() throws IOException {
+            descarregar();
+            cabecalho.flip();
+            while (cabecalho.hasRemaining()) {
+                canal.write(cabecalho, cabecalho.position());  // O cabeçalho ocupa o início do arquivo
+            }
+            return escritos;
+        }
+
+        private void descarregar() throws IOException {
+            bloco.flip();
+            while (bloco.hasRemaining()) {
+                escritos += canal.write(bloco);
+            }
+            bloco.clear();
+        }
+    }
+}
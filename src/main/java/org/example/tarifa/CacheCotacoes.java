@@ -0,0 +1,175 @@
+package org.example.tarifa;
+
+import org.example.cache.CacheLru;
+import org.example.cache.EstatisticasCache;
+import org.example.model.TipoVeiculo;
+import org.example.model.Veiculo;
+import org.example.model.VeiculoCompacto;
+
+import java.time.Duration;
+
+/**
+ * Cache de cotações indexado pelas entradas da precificação: tipo do veículo, ano de fabricação,
+ * desconto do cliente, tabela de tarifas vigente e ano corrente. Veículos diferentes com as mesmas
+ * entradas (por exemplo, uma frota do mesmo modelo) compartilham a mesma entrada do cache.
+ *
+ * Apenas veículos VeiculoCompacto, cujo valor depende só dessas entradas, são cacheados; para os
+ * demais, o valor é calculado pelo próprio veículo a cada cotação. Como a tabela de tarifas é
+ * imutável e faz parte da chave, a publicação de uma nova tabela no MotorTarifas deixa as cotações
+ * anteriores inalcançáveis, e elas são descartadas pela capacidade ou pelo tempo de vida.
+ *
+ * Com capacidade zero o cache fica desabilitado e toda cotação é calculada diretamente. A cotação
+ * sem cache custa uma leitura de array e uma multiplicação, menos que montar a chave e consultar o
+ * mapa; por isso a instância global {@link #padrao()}, usada pelos serviços de apólice e de veículo,
+ * vem desabilitada. Habilite-a com {@link #definirPadrao(CacheCotacoes)} apenas quando uma medição
+ * com a carga real mostrar ganho (por exemplo, com uma fonte de tarifas mais cara que a tabela).
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class CacheCotacoes {
+
+    /** Capacidade sugerida ao habilitar a instância global. */
+    public static final int CAPACIDADE_PADRAO = 10_000;
+
+    private static volatile CacheCotacoes padrao = new CacheCotacoes(0, Duration.ZERO);
+
+    private final MotorTarifas motor;
+    private final CacheLru<Chave, Double> cache;  // null quando desabilitado
+
+    /**
+     * Construtor que cria o cache sobre o motor de tarifas global.
+     *
+     * @param capacidade O número máximo de cotações guardadas (descarte LRU); zero desabilita o cache.
+     * @param tempoVida O tempo de vida de cada cotação; zero desabilita a expiração.
+     */
+    public CacheCotacoes(int capacidade, Duration tempoVida) {
+        this(MotorTarifas.padrao(), capacidade, tempoVida);
+    }
+
+    /**
+     * Construtor que cria o cache sobre o motor de tarifas informado.
+     *
+     * @param motor O motor de tarifas cuja tabela vigente é usada nas cotações.
+     * @param capacidade O número máximo de cotações guardadas (descarte LRU); zero desabilita o cache.
+     * @param tempoVida O tempo de vida de cada cotação; zero desabilita a expiração.
+     * @throws IllegalArgumentException Se a capacidade ou o tempo de vida forem negativos.
+     */
+    public CacheCotacoes(MotorTarifas motor, int capacidade, Duration tempoVida) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("A capacidade do cache de cotações não pode ser negativa.");
+        }
+        this.motor = motor;
+        this.cache = capacidade == 0 ? null : new CacheLru<>(capacidade, tempoVida);
+    }
+
+    /**
+     * Obtém o cache de cotações global.
+     *
+     * @return A instância global.
+     */
+    public static CacheCotacoes padrao() {
+        return padrao;
+    }
+
+    /**
+     * Substitui o cache de cotações global (por exemplo, para configurar capacidade ou tempo de vida).
+     * Afeta os serviços criados a partir deste ponto.
+     *
+     * @param cacheCotacoes O novo cache global.
+     * @throws IllegalArgumentException Se o cache for nulo.
+     */
+    public static void definirPadrao(CacheCotacoes cacheCotacoes) {
+        if (cacheCotacoes == null) {
+            throw new IllegalArgumentException("Cache de cotações não pode ser nulo.");
+        }
+        padrao = cacheCotacoes;
+    }
+
+    /**
+     * Cota o seguro de um veículo com o desconto informado.
+     *
+     * @param veiculo O veículo.
+     * @param desconto O desconto do cliente (0 a 1).
+     * @param anoAtual O ano corrente, usado para calcular a idade do veículo.
+     * @return O valor do seguro com o desconto aplicado.
+     */
+    public double cotar(Veiculo veiculo, double desconto, int anoAtual) {
+        TipoVeiculo tipo = veiculo.getTipo();
+        if (!(veiculo instanceof VeiculoCompacto) || tipo == null) {
+            return veiculo.calcularValorSeguro() * (1 - desconto);  // Valor definido pelo próprio veículo
+        }
+        TabelaTarifas tabela = motor.getTabela();
+        if (cache == null) {
+            return tabela.valor(tipo, anoAtual - veiculo.getAno()) * (1 - desconto);
+        }
+        Chave chave = new Chave(tipo, veiculo.getAno(), desconto, tabela, anoAtual);
+        Double emCache = cache.obter(chave);
+        if (emCache != null) {
+            return emCache;
+        }
+        double valor = tabela.valor(tipo, anoAtual - veiculo.getAno()) * (1 - desconto);
+        cache.colocar(chave, valor);
+        return valor;
+    }
+
+    /**
+     * Remove todas as cotações do cache, preservando as métricas.
+     */
+    public void limpar() {
+        if (cache != null) {
+            cache.limpar();
+        }
+    }
+
+    /**
+     * Obtém as métricas do cache (acertos, falhas, descartes e expirações).
+     *
+     * @return As estatísticas do cache, ou estatísticas zeradas se o cache estiver desabilitado.
+     */
+    public EstatisticasCache estatisticas() {
+        return cache == null ? new EstatisticasCache(0, 0, 0, 0, 0) : cache.estatisticas();
+    }
+
+    /**
+     * Chave de cotação: igualdade pelos valores das entradas e pela instância (imutável) da tabela.
+     */
+    private static final class Chave {
+        private final TipoVeiculo tipo;
+        private final int ano;
+        private final long desconto;  // Bits do double, para igualdade exata
+        private final TabelaTarifas tabela;
+        private final int anoAtual;
+        private final int hash;
+
+        Chave(TipoVeiculo tipo, int ano, double desconto, TabelaTarifas tabela, int anoAtual) {
+            this.tipo = tipo;
+            this.ano = ano;
+            this.desconto = Double.doubleToLongBits(desconto);
+            this.tabela = tabela;
+            this.anoAtual = anoAtual;
+            int h = tipo.hashCode();
+            h = 31 * h + ano;
+            h = 31 * h + Long.hashCode(this.desconto);
+            h = 31 * h + System.identityHashCode(tabela);
+            this.hash = 31 * h + anoAtual;
+        }
+
+        @Override
+        public boolean equals(Object outro) {
+            if (this == outro) {
+                return true;
+            }
+            if (!(outro instanceof Chave)) {
+                return false;
+            }
+            Chave c = (Chave) outro;
+            return tipo == c.tipo && ano == c.ano && desconto == c.desconto && tabela == c.tabela && anoAtual == c.anoAtual;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.tarifa;
+
+import org.example.model.TipoVeiculo;
+import org.example.tempo.Relogios;
+
+/**
+ * Estratégia de precificação do seguro por tipo de veículo.
+ * Há uma única instância por TipoVeiculo, compartilhada por todos os veículos do tipo, que concentra
+ * o comportamento específico do tipo: a cotação na tabela vigente do MotorTarifas global e o rótulo
+ * usado na representação textual do veículo.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public enum EstrategiaPrecificacao {
+    CARRO(TipoVeiculo.CARRO),
+    MOTO(TipoVeiculo.MOTO),
+    CAMINHAO(TipoVeiculo.CAMINHAO),
+    ONIBUS(TipoVeiculo.ONIBUS);
+
+    private static final EstrategiaPrecificacao[] POR_TIPO = new EstrategiaPrecificacao[TipoVeiculo.values().length];
+
+    static {
+        for (EstrategiaPrecificacao estrategia : values()) {
+            POR_TIPO[estrategia.tipo.ordinal()] = estrategia;
+        }
+    }
+
+    private final TipoVeiculo tipo;
+
+    EstrategiaPrecificacao(TipoVeiculo tipo) {
+        this.tipo = tipo;
+    }
+
+    /**
+     * Obtém a estratégia de um tipo de veículo.
+     *
+     * @param tipo O tipo de veículo.
+     * @return A estratégia compartilhada do tipo.
+     * @throws IllegalArgumentException Se o tipo for nulo.
+     */
+    public static EstrategiaPrecificacao de(TipoVeiculo tipo) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("Tipo de veículo não pode ser nulo.");
+        }
+        return POR_TIPO[tipo.ordinal()];
+    }
+
+    /**
+     * Obtém o tipo de veículo atendido pela estratégia.
+     *
+     * @return O tipo de veículo.
+     */
+    public TipoVeiculo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtém o rótulo do tipo de veículo usado na representação textual (por exemplo, "Carro").
+     *
+     * @return O rótulo do tipo.
+     */
+    public String getRotulo() {
+        return tipo.getDescricao();
+    }
+
+    /**
+     * Calcula o valor do seguro de um veículo do tipo com a tabela de tarifas vigente,
+     * usando o ano corrente do relógio padrão.
+     *
+     * @param anoFabricacao O ano de fabricação do veículo.
+     * @return O valor do seguro.
+     */
+    public double calcularValorSeguro(int anoFabricacao) {
+        return MotorTarifas.padrao().cotar(tipo, Relogios.padrao().anoAtual() - anoFabricacao);
+    }
+}
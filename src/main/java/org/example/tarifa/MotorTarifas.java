@@ -0,0 +1,159 @@
+package org.example.tarifa;
+
+import org.example.model.TipoVeiculo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor de tarifas de seguro com troca atômica da tabela vigente.
+ * As cotações leem a tabela vigente de um campo volatile, sem bloqueio; uma nova tabela é
+ * carregada e validada por completo antes de ser publicada, e as cotações em andamento terminam
+ * com a tabela que já tinham lido. Se o carregamento falhar, a tabela vigente é mantida.
+ *
+ * A instância global {@link #padrao()} é usada pelos veículos criados pela VeiculoFactory e pela
+ * precificação em lote; ela começa com a tabela padrão de TipoVeiculo.
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public class MotorTarifas {
+
+    private static final MotorTarifas PADRAO = new MotorTarifas(TabelaTarifas.padrao());
+
+    private volatile TabelaTarifas tabela;
+    private ScheduledExecutorService monitor;
+    private volatile Exception falhaMonitoramento;  // Última falha de recarga do monitoramento
+
+    /**
+     * Construtor que cria o motor com a tabela inicial informada.
+     *
+     * @param tabela A tabela de tarifas inicial.
+     */
+    public MotorTarifas(TabelaTarifas tabela) {
+        this.tabela = tabela;
+    }
+
+    /**
+     * Obtém o motor de tarifas global.
+     *
+     * @return A instância global do motor de tarifas.
+     */
+    public static MotorTarifas padrao() {
+        return PADRAO;
+    }
+
+    /**
+     * Cota o seguro de um veículo com a tabela vigente.
+     *
+     * @param tipo O tipo do veículo.
+     * @param idade A idade do veículo, em anos.
+     * @return O valor do seguro.
+     */
+    public double cotar(TipoVeiculo tipo, int idade) {
+        return tabela.valor(tipo, idade);
+    }
+
+    /**
+     * Obtém a tabela vigente. Cálculos que envolvem várias cotações devem usar a mesma tabela.
+     *
+     * @return A tabela de tarifas vigente.
+     */
+    public TabelaTarifas getTabela() {
+        return tabela;
+    }
+
+    /**
+     * Publica uma nova tabela de tarifas, substituindo a vigente.
+     *
+     * @param novaTabela A nova tabela.
+     * @throws IllegalArgumentException Se a tabela for nula.
+     */
+    public void publicar(TabelaTarifas novaTabela) {
+        if (novaTabela == null) {
+            throw new IllegalArgumentException("Tabela de tarifas não pode ser nula.");
+        }
+        this.tabela = novaTabela;
+    }
+
+    /**
+     * Carrega uma tabela de tarifas de um arquivo e a publica.
+     *
+     * @param arquivo O arquivo de tarifas (formato descrito em TabelaTarifas).
+     * @return A tabela publicada.
+     * @throws IOException Se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException Se o conteúdo do arquivo for inválido.
+     */
+    public TabelaTarifas carregar(Path arquivo) throws IOException {
+        TabelaTarifas novaTabela = TabelaTarifas.carregar(arquivo);
+        publicar(novaTabela);
+        return novaTabela;
+    }
+
+    /**
+     * Passa a verificar periodicamente o arquivo de tarifas, recarregando-o quando a data de
+     * modificação mudar. Em caso de falha de leitura ou de validação a tabela vigente é mantida e
+     * a falha fica disponível em {@link #getFalhaMonitoramento()}. Substitui um monitoramento
+     * iniciado anteriormente.
+     *
+     * @param arquivo O arquivo de tarifas.
+     * @param intervalo O intervalo entre as verificações.
+     * @throws IllegalArgumentException Se o arquivo for nulo ou o intervalo for nulo ou não positivo;
+     *                                  nesse caso, o monitoramento anterior continua ativo.
+     */
+    public synchronized void monitorar(Path arquivo, Duration intervalo) {
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo de tarifas não pode ser nulo.");
+        }
+        if (intervalo == null || intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("O intervalo de monitoramento deve ser positivo.");
+        }
+        long intervaloMillis = Math.max(1, intervalo.toMillis());  // Intervalos abaixo de 1 ms usam 1 ms
+        pararMonitoramento();
+        falhaMonitoramento = null;
+        monitor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "monitor-tarifas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        FileTime[] ultimaModificacao = new FileTime[1];
+        monitor.scheduleWithFixedDelay(() -> {
+            try {
+                FileTime modificacao = Files.getLastModifiedTime(arquivo);
+                if (!modificacao.equals(ultimaModificacao[0])) {
+                    ultimaModificacao[0] = modificacao;
+                    carregar(arquivo);
+                    falhaMonitoramento = null;
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                falhaMonitoramento = e;
+            }
+        }, 0, intervaloMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Obtém a falha da última recarga do monitoramento, se ela falhou.
+     *
+     * @return A exceção da última recarga que falhou, ou null se a última recarga teve sucesso
+     *         (ou ainda não houve recarga).
+     */
+    public Exception getFalhaMonitoramento() {
+        return falhaMonitoramento;
+    }
+
+    /**
+     * Interrompe o monitoramento do arquivo de tarifas, se houver.
+     */
+    public synchronized void pararMonitoramento() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+            monitor = null;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.tarifa;
+
+import org.example.model.TipoVeiculo;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Tabela imutável de tarifas de seguro por tipo de veículo e idade do veículo.
+ * Os valores são pré-calculados em um array por tipo, indexado pela idade em anos, de modo que
+ * uma cotação custa um único acesso a array.
+ *
+ * Na tabela padrão, idades fora do intervalo pré-calculado (por exemplo, -1 para um veículo do
+ * próximo ano-modelo) continuam usando a fórmula de TipoVeiculo, de modo que a tabela dá sempre o
+ * mesmo valor que {@link TipoVeiculo#calcularValorSeguro(int)}. Em tabelas carregadas de arquivo,
+ * que não têm fórmula, idades negativas usam a posição 0 e idades acima da última posição usam o
+ * último valor da tabela do tipo.
+ *
+ * Arquivo de tarifas (formato Properties, UTF-8), com uma linha por tipo de veículo e os valores
+ * para as idades 0, 1, 2, ... separados por vírgula; todos os tipos são obrigatórios:
+ * <pre>
+ * versao=2025-01
+ * CARRO=1000,950,900,850
+ * MOTO=600,570,540
+ * CAMINHAO=1500,1430,1360
+ * ONIBUS=2000,1900,1800
+ * </pre>
+ *
+ * @since 1.2
+ * @version 1.1
+ */
+public final class TabelaTarifas {
+
+    /** Maior idade (em anos) pré-calculada na tabela padrão. */
+    public static final int IDADE_MAXIMA_PADRAO = 99;
+
+    private static final TipoVeiculo[] TIPOS = TipoVeiculo.values();
+
+    private final String versao;
+    private final double[][] valores;  // [ordinal do tipo][idade]
+    private final boolean formulaForaDaTabela;  // Só na tabela padrão
+
+    private TabelaTarifas(String versao, double[][] valores, boolean formulaForaDaTabela) {
+        this.versao = versao;
+        this.valores = valores;
+        this.formulaForaDaTabela = formulaForaDaTabela;
+    }
+
+    /**
+     * Cria a tabela padrão a partir do valor base e da depreciação anual de TipoVeiculo,
+     * para as idades de 0 a {@link #IDADE_MAXIMA_PADRAO}.
+     *
+     * @return A tabela de tarifas padrão.
+     */
+    public static TabelaTarifas padrao() {
+        double[][] valores = new double[TIPOS.length][IDADE_MAXIMA_PADRAO + 1];
+        for (TipoVeiculo tipo : TIPOS) {
+            for (int idade = 0; idade <= IDADE_MAXIMA_PADRAO; idade++) {
+                valores[tipo.ordinal()][idade] = tipo.calcularValorSeguro(idade);
+            }
+        }
+        return new TabelaTarifas("padrao", valores, true);
+    }
+
+    /**
+     * Carrega uma tabela de tarifas de um arquivo.
+     *
+     * @param arquivo O arquivo de tarifas.
+     * @return A tabela carregada.
+     * @throws IOException Se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException Se o conteúdo do arquivo for inválido.
+     */
+    public static TabelaTarifas carregar(Path arquivo) throws IOException {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+        String versao = propriedades.getProperty("versao", arquivo.getFileName().toString());
+        double[][] valores = new double[TIPOS.length][];
+        for (String chave : propriedades.stringPropertyNames()) {
+            if (chave.equals("versao")) {
+                continue;
+            }
+            TipoVeiculo tipo;
+            try {
+                tipo = TipoVeiculo.valueOf(chave.trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Tipo de veículo desconhecido na tabela de tarifas: " + chave);
+            }
+            valores[tipo.ordinal()] = converterValores(tipo, propriedades.getProperty(chave));
+        }
+        for (TipoVeiculo tipo : TIPOS) {
+            if (valores[tipo.ordinal()] == null) {
+                throw new IllegalArgumentException("Tabela de tarifas sem valores para " + tipo.name() + ".");
+            }
+        }
+        return new TabelaTarifas(versao, valores, false);
+    }
+
+    /**
+     * Obtém a tarifa de um veículo.
+     *
+     * @param tipo O tipo do veículo.
+     * @param idade A idade do veículo, em anos.
+     * @return O valor do seguro para o tipo e a idade.
+     */
+    public double valor(TipoVeiculo tipo, int idade) {
+        double[] tabela = valores[tipo.ordinal()];
+        if (idade >= 0 && idade < tabela.length) {
+            return tabela[idade];
+        }
+        if (formulaForaDaTabela) {
+            return tipo.calcularValorSeguro(idade);
+        }
+        return tabela[idade < 0 ? 0 : tabela.length - 1];
+    }
+
+    /**
+     * Obtém a versão da tabela (propriedade "versao" do arquivo, ou "padrao").
+     *
+     * @return A versão da tabela.
+     */
+    public String getVersao() {
+        return versao;
+    }
+
+    private static double[] converterValores(TipoVeiculo tipo, String texto) {
+        String[] partes = texto.split(",");
+        double[] valores = new double[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            try {
+                valores[i] = Double.parseDouble(partes[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor inválido na tarifa de " + tipo.name() + ", idade " + i + ": " + partes[i]);
+            }
+            if (!Double.isFinite(valores[i])) {
+                throw new IllegalArgumentException("Valor inválido na tarifa de " + tipo.name() + ", idade " + i + ": " + partes[i]);
+            }
+        }
+        return valores;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.tempo;
+
+import java.time.LocalDate;
+
+/**
+ * Interface que fornece a data corrente às regras de negócio que dependem do dia atual
+ * (validade de apólices e seguros, cancelamentos, renovações, idade de clientes e veículos).
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public interface Relogio {
+
+    /**
+     * Obtém a data corrente.
+     *
+     * @return A data de hoje.
+     */
+    LocalDate hoje();
+
+    /**
+     * Obtém o ano corrente.
+     *
+     * @return O ano de hoje.
+     */
+    default int anoAtual() {
+        return hoje().getYear();
+    }
+}
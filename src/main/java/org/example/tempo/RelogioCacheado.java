@@ -0,0 +1,78 @@
+package org.example.tempo;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Relógio que mantém em cache a data e o ano correntes e só os recalcula na virada do dia.
+ * Cada consulta custa uma leitura de milissegundos do Clock e uma comparação com os limites do
+ * dia em cache, sem consultar as regras de fuso horário. Se o relógio do sistema for ajustado para
+ * antes do início do dia em cache, a data também é recalculada.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class RelogioCacheado implements Relogio {
+
+    private final Clock clock;
+    private volatile Dia dia;
+
+    /**
+     * Construtor que usa o relógio do sistema no fuso horário padrão.
+     */
+    public RelogioCacheado() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Construtor que usa o Clock informado.
+     *
+     * @param clock A fonte do instante atual e do fuso horário.
+     */
+    public RelogioCacheado(Clock clock) {
+        this.clock = clock;
+        this.dia = calcularDia();
+    }
+
+    @Override
+    public LocalDate hoje() {
+        return diaAtual().data;
+    }
+
+    @Override
+    public int anoAtual() {
+        return diaAtual().ano;
+    }
+
+    private Dia diaAtual() {
+        Dia atual = dia;
+        long agora = clock.millis();
+        if (agora >= atual.fim || agora < atual.inicio) {
+            atual = calcularDia();  // Corridas aqui apenas recalculam o mesmo dia
+            dia = atual;
+        }
+        return atual;
+    }
+
+    private Dia calcularDia() {
+        LocalDate hoje = LocalDate.now(clock);
+        long inicio = hoje.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        long fim = hoje.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        return new Dia(hoje, inicio, fim);
+    }
+
+    /** Dia em cache com seus limites em milissegundos desde a época [inicio, fim). */
+    private static final class Dia {
+        final LocalDate data;
+        final int ano;
+        final long inicio;
+        final long fim;
+
+        Dia(LocalDate data, long inicio, long fim) {
+            this.data = data;
+            this.ano = data.getYear();
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+    }
+}
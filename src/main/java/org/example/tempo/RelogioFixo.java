@@ -0,0 +1,32 @@
+package org.example.tempo;
+
+import java.time.LocalDate;
+
+/**
+ * Relógio parado em uma data fixa, para testes, benchmarks e reprocessamentos com data de referência.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public class RelogioFixo implements Relogio {
+
+    private final LocalDate data;
+
+    /**
+     * Construtor que fixa a data do relógio.
+     *
+     * @param data A data retornada por {@link #hoje()}.
+     * @throws IllegalArgumentException Se a data for nula.
+     */
+    public RelogioFixo(LocalDate data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data do relógio não pode ser nula.");
+        }
+        this.data = data;
+    }
+
+    @Override
+    public LocalDate hoje() {
+        return data;
+    }
+}
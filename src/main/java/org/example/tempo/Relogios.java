@@ -0,0 +1,49 @@
+package org.example.tempo;
+
+/**
+ * Acesso ao relógio padrão do sistema.
+ * O relógio padrão é um RelogioCacheado sobre o relógio do sistema e é usado pelas classes de
+ * modelo (que não recebem dependências) e pelos serviços criados sem um relógio explícito.
+ * Testes e benchmarks podem substituí-lo, por exemplo, por um RelogioFixo.
+ *
+ * @since 1.2
+ * @version 1.0
+ */
+public final class Relogios {
+
+    private static final Relogio SISTEMA = new RelogioCacheado();
+
+    private static volatile Relogio padrao = SISTEMA;
+
+    private Relogios() {
+    }
+
+    /**
+     * Obtém o relógio padrão.
+     *
+     * @return O relógio padrão vigente.
+     */
+    public static Relogio padrao() {
+        return padrao;
+    }
+
+    /**
+     * Substitui o relógio padrão. Serviços já criados mantêm o relógio que receberam na construção.
+     *
+     * @param relogio O novo relógio padrão.
+     * @throws IllegalArgumentException Se o relógio for nulo.
+     */
+    public static void definirPadrao(Relogio relogio) {
+        if (relogio == null) {
+            throw new IllegalArgumentException("Relógio não pode ser nulo.");
+        }
+        padrao = relogio;
+    }
+
+    /**
+     * Restaura o relógio do sistema como relógio padrão.
+     */
+    public static void restaurarPadrao() {
+        padrao = SISTEMA;
+    }
+}